@@ -0,0 +1,11 @@
+package com.fintech.server.community.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 작성 이벤트
+ * 답글이면 parentCommentAuthorId에 부모 댓글 작성자가, 아니면 null이 들어갑니다.
+ */
+public record CommentCreatedEvent(Long postId, Long commentId, Long postAuthorId, Long parentCommentAuthorId,
+                                  Long commenterId, String body, LocalDateTime occurredAt) {
+}
@@ -0,0 +1,10 @@
+package com.fintech.server.community.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 좋아요 추가 이벤트 (취소는 발행하지 않음)
+ */
+public record PostLikedEvent(Long postId, Long postAuthorId, Long likerId, int likeCount,
+                             LocalDateTime occurredAt) {
+}
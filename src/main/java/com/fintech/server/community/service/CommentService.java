@@ -4,14 +4,17 @@ import com.fintech.server.community.dto.CommentRequestDto;
 import com.fintech.server.community.dto.CommentResponseDto;
 import com.fintech.server.community.entity.Comment;
 import com.fintech.server.community.entity.CommunityPost;
+import com.fintech.server.community.event.CommentCreatedEvent;
 import com.fintech.server.community.repository.CommentRepository;
 import com.fintech.server.community.repository.CommunityPostRepository;
 import com.fintech.server.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -24,6 +27,7 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final CommunityPostRepository communityPostRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 댓글을 작성합니다.
@@ -61,6 +65,12 @@ public class CommentService {
 
         log.info("댓글 작성 완료: commentId={}, postId={}, userId={}", savedComment.getId(), postId, userId);
 
+        // 게시글 작성자(답글이면 부모 댓글 작성자도)에게 실시간 알림 (커밋 이후 전달)
+        Long parentCommentAuthorId = savedComment.getParentComment() != null
+                ? savedComment.getParentComment().getAuthor().getId() : null;
+        eventPublisher.publishEvent(new CommentCreatedEvent(postId, savedComment.getId(), post.getAuthor().getId(),
+                parentCommentAuthorId, userId, savedComment.getBody(), LocalDateTime.now()));
+
         return CommentResponseDto.from(savedComment);
     }
 
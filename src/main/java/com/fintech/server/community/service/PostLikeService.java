@@ -2,15 +2,19 @@ package com.fintech.server.community.service;
 
 import com.fintech.server.community.dto.LikeResponseDto;
 import com.fintech.server.community.entity.CommunityPost;
+import com.fintech.server.community.event.PostLikedEvent;
 import com.fintech.server.community.entity.PostLike;
 import com.fintech.server.community.repository.CommunityPostRepository;
 import com.fintech.server.community.repository.PostLikeRepository;
 import com.fintech.server.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -20,6 +24,7 @@ public class PostLikeService {
     private final PostLikeRepository postLikeRepository;
     private final CommunityPostRepository communityPostRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 게시글에 좋아요를 토글합니다 (좋아요/취소).
@@ -63,6 +68,10 @@ public class PostLikeService {
             
             log.info("게시글 좋아요 추가: postId={}, userId={}", postId, userId);
             
+            // 게시글 작성자에게 실시간 알림 (커밋 이후 전달)
+            eventPublisher.publishEvent(new PostLikedEvent(postId, post.getAuthor().getId(), userId,
+                    post.getLikeCount(), LocalDateTime.now()));
+            
             return LikeResponseDto.builder()
                     .liked(true)
                     .likeCount(post.getLikeCount())
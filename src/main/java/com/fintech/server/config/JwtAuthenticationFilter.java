@@ -25,6 +25,8 @@ import java.util.Collections;
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final String EVENT_STREAM_PATH = "/api/events/stream";
+
     private final AuthService authService;
 
     @Override
@@ -34,6 +36,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         String authHeader = request.getHeader("Authorization");
         
+        // 알림 스트림(EventSource)은 헤더를 보낼 수 없으므로 access_token 쿼리 파라미터도 허용
+        if (authHeader == null && request.getRequestURI().equals(EVENT_STREAM_PATH)) {
+            String accessToken = request.getParameter("access_token");
+            if (accessToken != null && !accessToken.isBlank()) {
+                authHeader = "Bearer " + accessToken;
+            }
+        }
+        
         // Authorization 헤더가 있고 Bearer로 시작하는 경우에만 처리
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             try {
@@ -0,0 +1,40 @@
+package com.fintech.server.quiz.controller;
+
+import com.fintech.server.quiz.service.QuizContentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/content")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "관리자 콘텐츠", description = "퀴즈 콘텐츠 캐시 관리 API")
+public class AdminContentController {
+
+    private final QuizContentService quizContentService;
+
+    /**
+     * 콘텐츠 배포 후 메모리 인덱스/캐시 재구성
+     */
+    @PostMapping("/reload")
+    @Operation(summary = "콘텐츠 재적재", description = "콘텐츠 배포 후 메모리에 적재된 퀴즈 콘텐츠 인덱스를 다시 구성합니다.")
+    public ResponseEntity<String> reloadContent(
+            @Parameter(description = "변경 사유") @RequestParam(defaultValue = "manual") String reason) {
+        try {
+            quizContentService.reloadContent(reason);
+            log.info("콘텐츠 재적재 완료: reason={}", reason);
+            return ResponseEntity.ok("콘텐츠 재적재 완료");
+        } catch (Exception e) {
+            log.error("콘텐츠 재적재 실패: reason={}", reason, e);
+            return ResponseEntity.internalServerError().body("콘텐츠 재적재 실패: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.fintech.server.quiz.controller;
+
+import com.fintech.server.quiz.dto.LeaderboardDto;
+import com.fintech.server.quiz.dto.LeaderboardEntryDto;
+import com.fintech.server.quiz.service.LeaderboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/leaderboard") // context-path(/api) 제외
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "순위표", description = "전체/서브섹터별 점수 순위 조회 API")
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    /**
+     * 상위 N명 조회
+     */
+    @GetMapping("/top")
+    @Operation(summary = "상위 순위 조회", description = "전체 또는 서브섹터 순위표의 상위 사용자를 조회합니다. userId를 주면 내 순위도 함께 반환합니다.")
+    public ResponseEntity<?> getTop(
+            @Parameter(description = "서브섹터 ID (없으면 전체 순위)") @RequestParam(required = false) Long subsectorId,
+            @Parameter(description = "조회할 인원 수") @RequestParam(defaultValue = "10") int limit,
+            @Parameter(description = "사용자 ID") @RequestParam(required = false) Long userId) {
+        try {
+            LeaderboardDto leaderboard = leaderboardService.getTop(subsectorId, limit, userId);
+            return ResponseEntity.ok(leaderboard);
+        } catch (RuntimeException e) {
+            log.warn("Failed to get leaderboard: subsectorId={}, error={}", subsectorId, e.getMessage());
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 내 순위 조회
+     */
+    @GetMapping("/user/{userId}/rank")
+    @Operation(summary = "내 순위 조회", description = "사용자의 순위와 점수를 조회합니다. 점수가 없으면 404를 반환합니다.")
+    public ResponseEntity<?> getMyRank(
+            @Parameter(description = "사용자 ID") @PathVariable Long userId,
+            @Parameter(description = "서브섹터 ID (없으면 전체 순위)") @RequestParam(required = false) Long subsectorId) {
+        try {
+            LeaderboardEntryDto entry = leaderboardService.getMyRank(userId, subsectorId);
+            if (entry == null) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok(entry);
+        } catch (RuntimeException e) {
+            log.warn("Failed to get rank for user: {}, error: {}", userId, e.getMessage());
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 내 주변 순위 조회
+     */
+    @GetMapping("/user/{userId}/neighbors")
+    @Operation(summary = "내 주변 순위 조회", description = "사용자 앞뒤로 radius명씩 순위를 조회합니다.")
+    public ResponseEntity<?> getNeighbors(
+            @Parameter(description = "사용자 ID") @PathVariable Long userId,
+            @Parameter(description = "서브섹터 ID (없으면 전체 순위)") @RequestParam(required = false) Long subsectorId,
+            @Parameter(description = "앞뒤로 조회할 인원 수") @RequestParam(defaultValue = "5") int radius) {
+        try {
+            LeaderboardDto leaderboard = leaderboardService.getNeighbors(userId, subsectorId, radius);
+            return ResponseEntity.ok(leaderboard);
+        } catch (RuntimeException e) {
+            log.warn("Failed to get neighbors for user: {}, error: {}", userId, e.getMessage());
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+    }
+}
@@ -2,8 +2,6 @@ package com.fintech.server.quiz.controller;
 
 import com.fintech.server.quiz.dto.LevelCompletionDto;
 import com.fintech.server.quiz.dto.LevelProgressDto;
-import com.fintech.server.quiz.entity.Level;
-import com.fintech.server.quiz.repository.LevelRepository;
 import com.fintech.server.quiz.service.LevelService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,7 +15,6 @@ import org.springframework.web.bind.annotation.*;
 public class LevelController {
 
     private final LevelService levelService;
-    private final LevelRepository levelRepository;
 
     /**
      * 레벨 진행 상황 조회 API
@@ -52,10 +49,8 @@ public class LevelController {
             @PathVariable("id") Long levelId,
             @RequestParam("userId") Long userId) {
         try {
-            // 레벨과 서브섹터를 함께 조회 (JOIN FETCH 사용하여 LazyInitializationException 방지)
-            Level level = levelRepository.findByIdWithSubsector(levelId)
-                    .orElseThrow(() -> new RuntimeException("Level not found with id: " + levelId));
-            LevelProgressDto progress = levelService.getLevelProgress(levelId, userId, level.getSubsector().getId());
+            // 서브섹터는 학습 카탈로그에서 조회
+            LevelProgressDto progress = levelService.getLevelProgress(levelId, userId);
             log.info("Level progress retrieved: levelId={}, userId={}, status={}", 
                     levelId, userId, progress.getStatus());
             return ResponseEntity.ok(progress);
@@ -136,10 +131,7 @@ public class LevelController {
             @PathVariable("id") Long levelId,
             @RequestParam("userId") Long userId) {
         try {
-            // 레벨과 서브섹터를 함께 조회 (JOIN FETCH 사용하여 LazyInitializationException 방지)
-            Level level = levelRepository.findByIdWithSubsector(levelId)
-                    .orElseThrow(() -> new RuntimeException("Level not found with id: " + levelId));
-            levelService.getLevelProgress(levelId, userId, level.getSubsector().getId());
+            levelService.getLevelProgress(levelId, userId);
             
             log.info("Level started: levelId={}, userId={}", levelId, userId);
             return ResponseEntity.ok().body("Level started successfully");
@@ -3,6 +3,8 @@ package com.fintech.server.quiz.controller;
 import com.fintech.server.quiz.dto.SectorResponseDto;
 import com.fintech.server.quiz.dto.SubsectorDetailResponseDto;
 import com.fintech.server.quiz.dto.LevelDetailResponseDto;
+import com.fintech.server.quiz.dto.LevelProgressDto;
+import com.fintech.server.quiz.service.LevelService;
 import com.fintech.server.quiz.service.QuizContentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -20,6 +22,7 @@ import java.util.List;
 public class QuizContentController {
 
     private final QuizContentService quizContentService;
+    private final LevelService levelService;
 
     // 첫 번째 화면용 API
     @GetMapping("/sectors")
@@ -33,6 +36,14 @@ public class QuizContentController {
         return ResponseEntity.ok(quizContentService.findSubsectorById(subsectorId));
     }
 
+    // 서브섹터 지도용 API - 모든 레벨의 진행 상황을 한 번에 조회
+    @GetMapping("/subsectors/{id}/progress")
+    public ResponseEntity<List<LevelProgressDto>> getSubsectorProgress(
+            @PathVariable("id") Long subsectorId,
+            @RequestParam("userId") Long userId) {
+        return ResponseEntity.ok(levelService.getSubsectorLevelProgress(subsectorId, userId));
+    }
+
     // 레벨별 퀴즈 상태 조회 API
     @GetMapping("/levels/{levelId}/quizzes")
     public ResponseEntity<LevelDetailResponseDto> getLevelQuizzes(
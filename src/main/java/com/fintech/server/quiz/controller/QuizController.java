@@ -2,10 +2,14 @@ package com.fintech.server.quiz.controller;
 
 import com.fintech.server.quiz.dto.AnswerRequestDto; // DTO 임포트 추가
 import com.fintech.server.quiz.dto.AnswerResponseDto; // DTO 임포트 추가
-import com.fintech.server.quiz.dto.QuizResponseDto;
+import com.fintech.server.quiz.dto.BatchAnswerRequestDto;
+import com.fintech.server.quiz.dto.BatchAnswerResponseDto;
 import com.fintech.server.quiz.dto.QuizCompleteResponse;
+import com.fintech.server.quiz.service.IdempotentRequestRegistry;
 import com.fintech.server.quiz.service.QuizService;
+import com.fintech.server.quiz.service.QuizSnapshotCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*; // PostMapping, RequestBody 임포트 추가
 
@@ -15,15 +19,20 @@ import org.springframework.web.bind.annotation.*; // PostMapping, RequestBody 
 public class QuizController {
 
     private final QuizService quizService;
+    private final QuizSnapshotCache quizSnapshotCache;
+    private final IdempotentRequestRegistry idempotentRequestRegistry;
 
     /**
-     * 특정 ID의 퀴즈 정보를 조회하는 API
+     * 특정 ID의 퀴즈 정보를 조회하는 API (직렬화된 스냅샷을 그대로 응답)
      */
     @GetMapping("/{id}")
     public ResponseEntity<?> getQuiz(@PathVariable("id") Long quizId) {
         try {
-            QuizResponseDto quizResponse = quizService.findQuizById(quizId);
-            return ResponseEntity.ok(quizResponse);
+            byte[] quizJson = quizSnapshotCache.getQuizJson(quizId);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header("X-Content-Version", String.valueOf(quizSnapshotCache.getContentVersion()))
+                    .body(quizJson);
         } catch (RuntimeException e) { // 더 구체적인 예외 처리
             return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
@@ -48,15 +57,38 @@ public class QuizController {
         }
     }
 
+    /**
+     * 퀴즈 한 회차의 답안을 한 번에 채점하는 API
+     */
+    @PostMapping("/{id}/answers:batch")
+    public ResponseEntity<?> submitAnswers(
+            @PathVariable("id") Long quizId,
+            @RequestBody BatchAnswerRequestDto requestDto) {
+        try {
+            BatchAnswerResponseDto response = quizService.submitAnswers(quizId, requestDto);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Invalid request: " + e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body("Internal server error: " + e.getMessage());
+        }
+    }
+
     /**
      * 퀴즈 완료 처리 API
+     * Idempotency-Key 헤더가 있으면 같은 키로 다시 보낸 요청에는 처음 결과를 그대로 응답
      */
     @PostMapping("/{id}/complete")
     public ResponseEntity<?> completeQuiz(
             @PathVariable("id") Long quizId,
-            @RequestParam("userId") Long userId) {
+            @RequestParam("userId") Long userId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         try {
-            QuizCompleteResponse response = quizService.completeQuiz(quizId, userId);
+            QuizCompleteResponse response = idempotentRequestRegistry.execute(
+                    "quiz-complete:" + userId + ":" + quizId, idempotencyKey,
+                    () -> quizService.completeQuiz(quizId, userId));
             return ResponseEntity.ok(response);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body("Invalid request: " + e.getMessage());
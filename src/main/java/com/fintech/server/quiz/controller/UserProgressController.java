@@ -1,6 +1,7 @@
 package com.fintech.server.quiz.controller;
 
 import com.fintech.server.quiz.dto.LevelProgressDto;
+import com.fintech.server.quiz.dto.SectorMasteryDto;
 import com.fintech.server.quiz.dto.SubsectorProgressDto;
 import com.fintech.server.quiz.dto.UserProgressDto;
 import com.fintech.server.quiz.service.UserProgressService;
@@ -9,7 +10,10 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 // import org.springframework.security.core.annotation.AuthenticationPrincipal;
 // import com.fintech.server.user.UserDetailsImpl; // 사용자 인증 객체
 import org.springframework.web.bind.annotation.*;
@@ -86,6 +90,22 @@ public class UserProgressController {
         return ResponseEntity.ok(subsectorProgress);
     }
     
+    /**
+     * 섹터별 숙련도 조회 (레벨 완료 집계 기준)
+     */
+    @GetMapping("/user/me/sectors")
+    @Operation(summary = "나의 섹터별 숙련도 조회", description = "로그인된 사용자의 섹터별 완료 레벨 수와 숙련도를 조회합니다.")
+    public ResponseEntity<List<SectorMasteryDto>> getSectorMastery() {
+        // JWT 필터가 인증 주체로 넣은 사용자 ID
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof Long userId)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        log.info("사용자 {}의 섹터별 숙련도 조회 요청", userId);
+        
+        List<SectorMasteryDto> mastery = userProgressService.getSectorMastery(userId);
+        return ResponseEntity.ok(mastery);
+    }
 
     /**
      * 사용자의 레벨별 완료한 퀴즈 수 요약 조회
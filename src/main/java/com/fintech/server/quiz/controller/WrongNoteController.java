@@ -10,6 +10,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/wrong-notes")
 @RequiredArgsConstructor
@@ -25,10 +27,16 @@ public class WrongNoteController {
             @Parameter(description = "사용자 ID") @RequestParam Long userId,
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
-            @Parameter(description = "필터 (all, unresolved, pinned, needreview)") @RequestParam(defaultValue = "all") String filter) {
+            @Parameter(description = "필터 (all, unresolved, resolved, needreview)") @RequestParam(defaultValue = "all") String filter,
+            @Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor, 있으면 page 대신 사용)") @RequestParam(required = false) String cursor) {
         
-        WrongNoteDto.ListResponse response = wrongNoteService.getUserWrongNotes(userId, page, size, filter);
-        return ResponseEntity.ok(response);
+        try {
+            WrongNoteDto.ListResponse response = wrongNoteService.getUserWrongNotes(userId, page, size, filter, cursor);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid wrong note cursor: userId={}, error={}", userId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/{noteId}")
@@ -64,12 +72,28 @@ public class WrongNoteController {
 
 
     @PutMapping("/{noteId}/mark-reviewed")
-    @Operation(summary = "복습 완료 처리", description = "오답 노트를 복습 완료로 표시합니다.")
+    @Operation(summary = "복습 완료 처리", description = "오답 노트를 복습 완료로 표시하고 복습 품질에 따라 다음 복습 시각을 정합니다.")
     public ResponseEntity<WrongNoteDto.Response> markAsReviewed(
             @Parameter(description = "사용자 ID") @RequestParam Long userId,
-            @Parameter(description = "오답 노트 ID") @PathVariable Long noteId) {
+            @Parameter(description = "오답 노트 ID") @PathVariable Long noteId,
+            @Parameter(description = "복습 품질 (0~5, 3 이상이면 기억함)") @RequestParam(defaultValue = "4") int quality) {
+        
+        try {
+            WrongNoteDto.Response response = wrongNoteService.markAsReviewed(userId, noteId, quality);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid review quality: userId={}, noteId={}, error={}", userId, noteId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/due")
+    @Operation(summary = "복습할 오답 노트 조회", description = "복습 예정 시각이 지난 오답 노트를 오래된 순서로 조회합니다.")
+    public ResponseEntity<List<WrongNoteDto.Response>> getDueWrongNotes(
+            @Parameter(description = "사용자 ID") @RequestParam Long userId,
+            @Parameter(description = "조회할 개수 (최대 100)") @RequestParam(defaultValue = "20") int limit) {
         
-        WrongNoteDto.Response response = wrongNoteService.markAsReviewed(userId, noteId);
+        List<WrongNoteDto.Response> response = wrongNoteService.getDueWrongNotes(userId, limit);
         return ResponseEntity.ok(response);
     }
 
@@ -0,0 +1,26 @@
+package com.fintech.server.quiz.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 퀴즈 한 회차의 답안을 한 번에 제출하는 요청 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class BatchAnswerRequestDto {
+    private Long userId; // 테스트를 위해 임시로 추가 (JWT가 없을 때 사용)
+    private List<AnswerItem> answers;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class AnswerItem {
+        private Long questionId;
+        private Long selectedOptionId;
+    }
+}
@@ -0,0 +1,29 @@
+package com.fintech.server.quiz.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 일괄 답안 제출 결과 DTO
+ */
+@Getter
+@Builder
+public class BatchAnswerResponseDto {
+    private Long quizId;
+    private int answeredQuestions;
+    private int correctAnswers;
+    private List<AnswerResultDto> results;
+
+    // 문제별 채점 결과
+    @Getter
+    @Builder
+    public static class AnswerResultDto {
+        private Long questionId;
+        private Long selectedOptionId;
+        private boolean isCorrect;
+        private Long correctOptionId;
+        private String feedback;
+    }
+}
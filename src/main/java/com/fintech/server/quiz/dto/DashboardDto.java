@@ -25,6 +25,9 @@ public class DashboardDto {
     // 현재 진행 중인 레벨
     private CurrentLevelSessionDto currentLevelSession;
     
+    // 시간 예산 초과/오류로 비워진 섹션 이름 (정상 응답이면 빈 배열)
+    private List<String> degradedSections;
+    
     @Getter
     @Builder
     public static class UserInfoDto {
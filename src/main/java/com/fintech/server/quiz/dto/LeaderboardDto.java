@@ -0,0 +1,19 @@
+package com.fintech.server.quiz.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardDto {
+    private Long subsectorId; // null이면 전체 순위
+    private Integer totalUsers; // 순위표에 오른 사용자 수 (점수 0 제외)
+    private LeaderboardEntryDto myEntry; // 내 순위 (요청한 사용자가 없거나 순위표에 없으면 null)
+    private List<LeaderboardEntryDto> entries;
+}
@@ -0,0 +1,17 @@
+package com.fintech.server.quiz.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardEntryDto {
+    private Integer rank; // 순위 (동점자는 같은 순위)
+    private Long userId;
+    private String nickname;
+    private Integer score; // 퀴즈별 최신 완료 기록 점수 합
+}
@@ -0,0 +1,18 @@
+package com.fintech.server.quiz.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SectorMasteryDto {
+    private Long sectorId;
+    private String sectorName;
+    private Integer totalLevels; // 섹터의 전체 레벨 수
+    private Integer completedLevels; // 완료한 레벨 수
+    private Double masteryRate; // 숙련도 (완료 레벨 / 전체 레벨)
+}
@@ -7,7 +7,7 @@ import lombok.Getter;
 import java.time.LocalDateTime;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class UserBadgeResponseDto {
     private Long id;
     private BadgeResponseDto badge;
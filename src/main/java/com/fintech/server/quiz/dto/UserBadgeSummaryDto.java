@@ -15,11 +15,13 @@ public class UserBadgeSummaryDto {
     private Integer totalBadges;
     private Integer achievedBadgesCount;
     private Integer progressPercentage;
+    private Long snapshotVersion; // 배지 상태가 바뀔 때마다 증가하는 스냅샷 버전
 
     public static UserBadgeSummaryDto of(BadgeResponseDto currentBadge, 
                                        BadgeResponseDto nextBadge,
                                        List<UserBadgeResponseDto> allBadges,
-                                       List<UserBadgeResponseDto> achievedBadges) {
+                                       List<UserBadgeResponseDto> achievedBadges,
+                                       long snapshotVersion) {
         int totalBadges = allBadges.size();
         int achievedCount = achievedBadges.size();
         int progressPercentage = totalBadges > 0 ? (achievedCount * 100) / totalBadges : 0;
@@ -32,6 +34,7 @@ public class UserBadgeSummaryDto {
                 .totalBadges(totalBadges)
                 .achievedBadgesCount(achievedCount)
                 .progressPercentage(progressPercentage)
+                .snapshotVersion(snapshotVersion)
                 .build();
     }
 }
@@ -0,0 +1,19 @@
+package com.fintech.server.quiz.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 사용자 총점수 요약 (퀴즈별 최신 진행 기록 기준, DB 집계 결과)
+ */
+@Getter
+@Builder
+public class UserScoreSummary {
+    private long userId;
+    private int totalScore;       // 완료한 퀴즈 점수 합
+    private int totalQuizzes;     // 진행 기록이 있는 퀴즈 수
+    private int completedQuizzes; // 완료한 퀴즈 수
+    private int passedQuizzes;    // 통과한 퀴즈 수
+    private double averageScore;  // 완료한 퀴즈 평균 점수
+    private double passRate;      // 완료한 퀴즈 중 통과 비율
+}
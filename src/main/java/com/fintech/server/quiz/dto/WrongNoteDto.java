@@ -35,6 +35,12 @@ public class WrongNoteDto {
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
         
+        // 간격 반복 복습 일정 (해결된 노트는 dueAt이 null)
+        private LocalDateTime dueAt;
+        private Integer intervalDays;
+        private Double easeFactor;
+        private Integer repetitions;
+        
         // 추가 정보
         private String quizTitle;
         private String sectorName;
@@ -115,5 +121,7 @@ public class WrongNoteDto {
         private Integer totalPages;
         private Integer currentPage;
         private Integer pageSize;
+        private String nextCursor; // 다음 페이지 커서 (마지막 페이지면 null)
+        private Boolean hasNext;
     }
 }
@@ -4,13 +4,13 @@ import com.fintech.server.entity.User;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
-import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "user_answers")
+@Table(name = "user_answers",
+       uniqueConstraints = @UniqueConstraint(name = "uk_user_answers_user_question", columnNames = {"user_id", "question_id"}))
 @Getter
 @Setter
 @EntityListeners(AuditingEntityListener.class)
@@ -35,8 +35,12 @@ public class UserAnswer {
     @Column(name = "is_correct")
     private boolean isCorrect;
 
-    @CreatedDate
-    @Column(name = "answered_at", updatable = false)
+    // 같은 문제에 답한 횟수 (사용자/문제당 최신 답변 한 행만 유지)
+    @Column(name = "attempt_count", nullable = false)
+    private int attemptCount = 1;
+
+    // 최신 답변 시각 (upsert가 다시 제출할 때마다 갱신)
+    @Column(name = "answered_at")
     private LocalDateTime answeredAt;
 }
 
@@ -0,0 +1,37 @@
+package com.fintech.server.quiz.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 답변 시도 이력 (추가만 하는 로그)
+ * user_answers는 사용자/문제당 최신 답변 한 행만 유지하므로 모든 시도가 필요할 때만 이 테이블에 함께 기록합니다.
+ */
+@Entity
+@Table(name = "user_answer_history")
+@Getter
+@Setter
+public class UserAnswerHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "question_id", nullable = false)
+    private Long questionId;
+
+    @Column(name = "selected_option_id")
+    private Long selectedOptionId;
+
+    @Column(name = "is_correct", nullable = false)
+    private boolean isCorrect;
+
+    @Column(name = "answered_at", nullable = false)
+    private LocalDateTime answeredAt;
+}
@@ -6,7 +6,8 @@ import lombok.Getter;
 import lombok.Setter;
 
 @Entity
-@Table(name = "user_badges")
+@Table(name = "user_badges",
+       uniqueConstraints = @UniqueConstraint(name = "uk_user_badges_user_badge", columnNames = {"user_id", "badge_id"}))
 @Getter
 @Setter
 public class UserBadge {
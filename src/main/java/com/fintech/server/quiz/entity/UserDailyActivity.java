@@ -20,6 +20,18 @@ public class UserDailyActivity {
     @MapsId("userId") // UserDailyActivityId의 userId 필드에 매핑
     @JoinColumn(name = "user_id")
     private User user;
+
+    // 그날 완료한 퀴즈 수
+    @Column(name = "quizzes_completed", nullable = false)
+    private int quizzesCompleted;
+
+    // 그날 제출한 답변 수
+    @Column(name = "answers_count", nullable = false)
+    private int answersCount;
+
+    // 그날 학습 시간(분, 답변 수 기준 추정치)
+    @Column(name = "minutes_spent", nullable = false)
+    private int minutesSpent;
     
     // 활동 날짜 (편의 메서드)
     public LocalDate getActivityDate() {
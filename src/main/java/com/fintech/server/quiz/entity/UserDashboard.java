@@ -0,0 +1,118 @@
+package com.fintech.server.quiz.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 사용자별 대시보드 읽기 모델
+ * 답변/퀴즈 완료/다시풀기 이벤트가 처리될 때마다 갱신되며, 대시보드 조회는 이 한 행만 읽습니다.
+ */
+@Entity
+@Table(name = "user_dashboard")
+@Getter
+@Setter
+public class UserDashboard {
+
+    private static final int ACTIVITY_WINDOW_DAYS = 64;
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "nickname")
+    private String nickname;
+
+    @Column(name = "badge_title")
+    private String badgeTitle; // 현재 배지 이름
+
+    @Column(name = "badge_level_number")
+    private Integer badgeLevelNumber;
+
+    @Column(name = "total_score", nullable = false)
+    private Integer totalScore = 0;
+
+    @Column(name = "completed_quizzes", nullable = false)
+    private Integer completedQuizzes = 0;
+
+    @Column(name = "passed_quizzes", nullable = false)
+    private Integer passedQuizzes = 0;
+
+    @Column(name = "completed_levels", nullable = false)
+    private Integer completedLevels = 0;
+
+    @Column(name = "total_answers", nullable = false)
+    private Integer totalAnswers = 0;
+
+    @Column(name = "current_level_id")
+    private Long currentLevelId; // 가장 최근에 완료한 퀴즈의 레벨
+
+    @Column(name = "current_level_completed", nullable = false)
+    private Integer currentLevelCompleted = 0;
+
+    @Column(name = "current_level_correct", nullable = false)
+    private Integer currentLevelCorrect = 0;
+
+    @Column(name = "current_level_started_at")
+    private LocalDateTime currentLevelStartedAt;
+
+    @Column(name = "last_active_date")
+    private LocalDate lastActiveDate;
+
+    @Column(name = "activity_bitmap", nullable = false)
+    private Long activityBitmap = 0L; // bit i = lastActiveDate로부터 i일 전 활동 여부 (최근 64일)
+
+    @Column(name = "recent_activities_json", columnDefinition = "TEXT")
+    private String recentActivitiesJson; // 최근 활동 (최신순, 최대 10개)
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 활동일 기록 (비트맵 갱신)
+     */
+    public void markActive(LocalDate date) {
+        if (lastActiveDate == null) {
+            lastActiveDate = date;
+            activityBitmap = 1L;
+            return;
+        }
+        long offset = ChronoUnit.DAYS.between(date, lastActiveDate);
+        if (offset < 0) {
+            // 더 최근 날짜: 기준일을 옮기고 비트맵을 밀어냄
+            long shift = -offset;
+            activityBitmap = shift >= ACTIVITY_WINDOW_DAYS ? 1L : (activityBitmap << shift) | 1L;
+            lastActiveDate = date;
+        } else if (offset < ACTIVITY_WINDOW_DAYS) {
+            activityBitmap |= 1L << offset;
+        }
+    }
+
+    /**
+     * 특정 날짜 활동 여부 (최근 64일 범위)
+     */
+    public boolean isActiveOn(LocalDate date) {
+        if (lastActiveDate == null) {
+            return false;
+        }
+        long offset = ChronoUnit.DAYS.between(date, lastActiveDate);
+        return offset >= 0 && offset < ACTIVITY_WINDOW_DAYS && (activityBitmap & (1L << offset)) != 0;
+    }
+
+    /**
+     * 연속 학습 일수 (오늘 활동이 없으면 어제까지의 연속 일수)
+     */
+    public int calculateStreak(LocalDate today) {
+        LocalDate day = isActiveOn(today) ? today : today.minusDays(1);
+        int streak = 0;
+        while (streak < ACTIVITY_WINDOW_DAYS && isActiveOn(day)) {
+            streak++;
+            day = day.minusDays(1);
+        }
+        return streak;
+    }
+}
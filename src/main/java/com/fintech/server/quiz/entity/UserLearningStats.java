@@ -0,0 +1,36 @@
+package com.fintech.server.quiz.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 학습 누적 집계 (배지 평가용)
+ * 답변/완료/다시풀기 시점에 증감만 반영하므로 학습 이력이 늘어나도 한 행만 읽으면 됩니다.
+ */
+@Entity
+@Table(name = "user_learning_stats")
+@Getter
+@Setter
+public class UserLearningStats {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "completed_quizzes", nullable = false)
+    private Integer completedQuizzes = 0; // 완료한 퀴즈 수 (퀴즈 기준 중복 제외)
+
+    @Column(name = "correct_answers", nullable = false)
+    private Integer correctAnswers = 0; // 정답 답변 수
+
+    @Column(name = "passed_quizzes", nullable = false)
+    private Integer passedQuizzes = 0; // 통과한 퀴즈 수
+
+    @Column(name = "last_activity_at")
+    private LocalDateTime lastActivityAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,44 @@
+package com.fintech.server.quiz.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 레벨 완료 기록 (사용자/레벨당 한 행)
+ * 레벨을 통과한 시점에 기록하고, 다시풀기로 통과 조건이 깨지면 삭제합니다.
+ * 완료 레벨 수와 서브섹터/섹터별 집계는 이 기록과 user_level_rollups로만 조회합니다.
+ */
+@Entity
+@Table(name = "user_level_completions",
+       uniqueConstraints = @UniqueConstraint(name = "uk_user_level_completions_user_level",
+                                             columnNames = {"user_id", "level_id"}),
+       indexes = @Index(name = "idx_user_level_completions_user_subsector", columnList = "user_id, subsector_id"))
+@Getter
+@Setter
+public class UserLevelCompletion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "level_id", nullable = false)
+    private Long levelId;
+
+    @Column(name = "subsector_id", nullable = false)
+    private Long subsectorId;
+
+    @Column(name = "sector_id", nullable = false)
+    private Long sectorId;
+
+    @Column(name = "correct_answers", nullable = false)
+    private int correctAnswers; // 통과 시점의 레벨 정답 수
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,22 @@
+package com.fintech.server.quiz.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 사용자별 완료 레벨 수 집계 (서브섹터/섹터 단위)
+ * 레벨 완료 기록이 추가/삭제될 때 같은 트랜잭션에서 증감만 반영합니다.
+ */
+@Entity
+@Table(name = "user_level_rollups")
+@Getter
+@Setter
+public class UserLevelRollup {
+    // user_id, scope_type, scope_id를 복합 기본 키로 사용합니다.
+    @EmbeddedId
+    private UserLevelRollupId id;
+
+    @Column(name = "completed_levels", nullable = false)
+    private int completedLevels;
+}
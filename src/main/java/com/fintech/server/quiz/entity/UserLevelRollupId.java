@@ -0,0 +1,31 @@
+package com.fintech.server.quiz.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+@Embeddable
+@Getter
+@Setter
+@EqualsAndHashCode
+public class UserLevelRollupId implements Serializable {
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scope_type", length = 20)
+    private Scope scopeType;
+
+    @Column(name = "scope_id")
+    private Long scopeId; // 서브섹터 ID 또는 섹터 ID
+
+    public enum Scope {
+        SUBSECTOR, SECTOR
+    }
+}
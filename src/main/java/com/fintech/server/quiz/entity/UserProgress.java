@@ -10,7 +10,8 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "user_progress")
+@Table(name = "user_progress",
+       uniqueConstraints = @UniqueConstraint(name = "uk_user_progress_user_quiz", columnNames = {"user_id", "quiz_id"}))
 @Getter
 @Setter
 @EntityListeners(AuditingEntityListener.class)
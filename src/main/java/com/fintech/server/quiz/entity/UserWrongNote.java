@@ -12,7 +12,14 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "user_wrong_notes")
+@Table(name = "user_wrong_notes",
+       uniqueConstraints = @UniqueConstraint(name = "uk_user_wrong_notes_user_question", columnNames = {"user_id", "question_id"}),
+       indexes = {
+               @Index(name = "idx_user_wrong_notes_user_last_wrong", columnList = "user_id, last_wrong_at, id"),
+               @Index(name = "idx_user_wrong_notes_user_resolved_last_wrong", columnList = "user_id, resolved, last_wrong_at, id"),
+               @Index(name = "idx_user_wrong_notes_user_resolved_times_wrong", columnList = "user_id, resolved, times_wrong, last_wrong_at, id"),
+               @Index(name = "idx_user_wrong_notes_user_due", columnList = "user_id, due_at")
+       })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -54,6 +61,19 @@ public class UserWrongNote {
     @Column(name = "resolved", nullable = false)
     private Boolean resolved = false;
 
+    // 간격 반복(SM-2) 복습 일정 - 해결된 노트는 due_at이 null (복습 대상 아님)
+    @Column(name = "due_at")
+    private LocalDateTime dueAt;
+
+    @Column(name = "interval_days", nullable = false)
+    private Integer intervalDays = 0;
+
+    @Column(name = "ease_factor", nullable = false)
+    private Double easeFactor = DEFAULT_EASE_FACTOR;
+
+    @Column(name = "repetitions", nullable = false)
+    private Integer repetitions = 0;
+
 
     @Column(name = "personal_note_md", columnDefinition = "TEXT")
     private String personalNoteMd;
@@ -75,19 +95,76 @@ public class UserWrongNote {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    public static final double DEFAULT_EASE_FACTOR = 2.5;
+    public static final double MIN_EASE_FACTOR = 1.3;
+    // 다시 틀렸을 때 적용하는 복습 품질 (SM-2 기준 0~5)
+    private static final int WRONG_ANSWER_QUALITY = 1;
+    // 다시 틀렸을 때 난이도 계수 감소량 (오답 upsert 쿼리도 이 값을 파라미터로 사용)
+    public static final double WRONG_ANSWER_EASE_PENALTY = -easeFactorDelta(WRONG_ANSWER_QUALITY);
+
     // 편의 메서드
     public void incrementTimesWrong() {
         this.timesWrong++;
         this.lastWrongAt = LocalDateTime.now();
     }
 
-    public void markAsReviewed() {
-        this.reviewedAt = LocalDateTime.now();
+    /**
+     * 복습 결과 반영 (SM-2)
+     * quality 3 이상이면 간격을 1일 → 6일 → 이전 간격 × 난이도 계수로 늘리고, 3 미만이면 1일부터 다시 시작
+     * 해결된 노트는 복습 시각만 기록합니다.
+     */
+    public void markAsReviewed(int quality) {
+        if (quality < 0 || quality > 5) {
+            throw new IllegalArgumentException("Review quality must be between 0 and 5: " + quality);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        this.reviewedAt = now;
+        if (this.resolved) {
+            return;
+        }
+
+        if (quality >= 3) {
+            if (this.repetitions == 0) {
+                this.intervalDays = 1;
+            } else if (this.repetitions == 1) {
+                this.intervalDays = 6;
+            } else {
+                this.intervalDays = (int) Math.round(this.intervalDays * this.easeFactor);
+            }
+            this.repetitions++;
+        } else {
+            this.repetitions = 0;
+            this.intervalDays = 1;
+        }
+        adjustEaseFactor(quality);
+        this.dueAt = now.plusDays(this.intervalDays);
+    }
+
+    /**
+     * 새로 틀렸거나 다시 틀린 노트는 바로 복습 대상으로 (반복 횟수 초기화, 난이도 계수는 낮춤)
+     */
+    public void scheduleImmediateReview() {
+        if (this.repetitions > 0 || this.intervalDays > 0) {
+            adjustEaseFactor(WRONG_ANSWER_QUALITY);
+        }
+        this.repetitions = 0;
+        this.intervalDays = 0;
+        this.dueAt = LocalDateTime.now();
     }
 
     public void markAsResolved() {
         this.resolved = true;
         this.reviewedAt = LocalDateTime.now();
+        this.dueAt = null;
+    }
+
+    private void adjustEaseFactor(int quality) {
+        this.easeFactor = Math.max(MIN_EASE_FACTOR, this.easeFactor + easeFactorDelta(quality));
+    }
+
+    private static double easeFactorDelta(int quality) {
+        int miss = 5 - quality;
+        return 0.1 - miss * (0.08 + miss * 0.02);
     }
 
 }
@@ -0,0 +1,21 @@
+package com.fintech.server.quiz.event;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 답변 저장 완료 이벤트 (커밋 이후 오답 노트/배지/대시보드 반영용)
+ *
+ * @param answeredCount         이번에 제출한 답변 수
+ * @param correctCount          그중 정답 수
+ * @param newAnswerCount        새로 생성된 답변 행 수 (기존 답변 갱신은 제외)
+ * @param wrongOptionByQuestion 틀린 문제 ID → 선택한 선택지 ID (모두 맞혔으면 비어 있음)
+ */
+public record AnswerSubmittedEvent(Long userId,
+                                   Long quizId,
+                                   int answeredCount,
+                                   int correctCount,
+                                   int newAnswerCount,
+                                   Map<Long, Long> wrongOptionByQuestion,
+                                   LocalDateTime occurredAt) {
+}
@@ -0,0 +1,13 @@
+package com.fintech.server.quiz.event;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 배지 평가 완료 이벤트 (배지 스냅샷 캐시 갱신용)
+ * stateChanged가 true면 획득/해제된 배지가 있어 스냅샷을 다시 만들어야 하고,
+ * false면 진행률(badgeId → 0~100)만 바뀐 것입니다.
+ */
+public record BadgeEvaluatedEvent(Long userId, Map<Long, Integer> progressByBadge, boolean stateChanged,
+                                  LocalDateTime occurredAt) {
+}
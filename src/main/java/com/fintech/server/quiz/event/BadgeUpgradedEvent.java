@@ -0,0 +1,10 @@
+package com.fintech.server.quiz.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대표 배지 승급 이벤트 (이전 대표 배지보다 높은 등급으로 바뀐 경우에만 발행)
+ */
+public record BadgeUpgradedEvent(Long userId, Long badgeId, String badgeCode, String badgeName,
+                                 Integer levelNumber, LocalDateTime occurredAt) {
+}
@@ -0,0 +1,19 @@
+package com.fintech.server.quiz.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 퀴즈 완료 이벤트 (커밋 이후 배지/대시보드 반영용)
+ * previousScore/wasPassed는 이번 완료 직전 기록 (완료 기록이 없었으면 previousScore는 null),
+ * levelProgress는 같은 트랜잭션에서 집계한 퀴즈 레벨의 진행 상황 - 대시보드 증분 반영용
+ */
+public record QuizCompletedEvent(Long userId, Long quizId, boolean passed, int score,
+                                 Integer previousScore, boolean wasPassed,
+                                 LevelProgress levelProgress, LocalDateTime occurredAt) {
+
+    /**
+     * 레벨 진행 상황 (완료 퀴즈 수, 정답 수, 가장 이른 시작 시각)
+     */
+    public record LevelProgress(Long levelId, int completedQuizzes, int correctAnswers, LocalDateTime startedAt) {
+    }
+}
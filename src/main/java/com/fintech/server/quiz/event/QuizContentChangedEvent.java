@@ -0,0 +1,8 @@
+package com.fintech.server.quiz.event;
+
+/**
+ * 퀴즈 콘텐츠(섹터/레벨/퀴즈/문제/선택지)가 변경되었음을 알리는 이벤트
+ * - 메모리에 적재된 콘텐츠 인덱스/캐시들이 이 이벤트를 받아 다시 구성됩니다.
+ */
+public record QuizContentChangedEvent(String reason) {
+}
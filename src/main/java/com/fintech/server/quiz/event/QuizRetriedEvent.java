@@ -0,0 +1,13 @@
+package com.fintech.server.quiz.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 퀴즈 다시풀기 이벤트 (이전 답변/진행 기록 삭제 후 배지/대시보드 재계산용)
+ * removedScore는 삭제된 완료 기록의 점수 (완료 기록이 없었으면 null),
+ * levelProgress는 삭제 후 같은 트랜잭션에서 집계한 퀴즈 레벨의 진행 상황 - 대시보드 증분 반영용
+ */
+public record QuizRetriedEvent(Long userId, Long quizId, Integer removedScore, boolean removedPass,
+                               int removedAnswers, QuizCompletedEvent.LevelProgress levelProgress,
+                               LocalDateTime occurredAt) {
+}
@@ -0,0 +1,16 @@
+package com.fintech.server.quiz.event;
+
+import java.util.Map;
+
+/**
+ * 오답 노트 변경 이벤트 (커밋 이후 오답 노트 통계 캐시 반영용)
+ * deltasByLevel은 레벨별 해결/미해결 노트 수 증감이며, null이면 변경 범위를 알 수 없어 사용자 통계를 다시 계산해야 합니다.
+ */
+public record WrongNotesChangedEvent(Long userId, Map<Long, LevelDelta> deltasByLevel) {
+
+    public record LevelDelta(int resolved, int unresolved) {
+        public LevelDelta plus(LevelDelta other) {
+            return new LevelDelta(resolved + other.resolved, unresolved + other.unresolved);
+        }
+    }
+}
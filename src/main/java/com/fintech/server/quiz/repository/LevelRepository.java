@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface LevelRepository extends JpaRepository<Level, Long> {
@@ -13,4 +14,12 @@ public interface LevelRepository extends JpaRepository<Level, Long> {
     
     @Query("SELECT l FROM Level l JOIN FETCH l.subsector WHERE l.id = :levelId")
     Optional<Level> findByIdWithSubsector(@Param("levelId") Long levelId);
+
+    /**
+     * 학습 카탈로그 적재용 레벨 목록 (id, subsectorId, levelNumber, title, learningGoal, badgeId)
+     * 서브섹터별 레벨 번호 순으로 정렬되어 있어 바로 다음 행이 같은 서브섹터의 다음 레벨입니다.
+     */
+    @Query("SELECT l.id, l.subsector.id, l.levelNumber, l.title, l.learningGoal, l.badgeId FROM Level l " +
+           "ORDER BY l.subsector.id ASC, l.levelNumber ASC, l.id ASC")
+    List<Object[]> findAllCatalogRows();
 }
@@ -5,10 +5,29 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface QuestionOptionRepository extends JpaRepository<QuestionOption, Long> {
     
     @Query("SELECT qo FROM QuestionOption qo WHERE qo.question.id = :questionId AND qo.isCorrect = true")
     Optional<QuestionOption> findCorrectOptionByQuestionId(@Param("questionId") Long questionId);
+
+    /**
+     * 정답 인덱스 구성을 위한 전체 선택지 키 조회
+     * [optionId, questionId, quizId, isCorrect, answerExplanationMd]
+     */
+    @Query("SELECT qo.id, q.id, q.quizId, qo.isCorrect, q.answerExplanationMd " +
+           "FROM QuestionOption qo JOIN qo.question q")
+    List<Object[]> findAllAnswerKeys();
+
+    /**
+     * 여러 문제의 선택지 일괄 조회 (오답 노트 응답용)
+     * [questionId, optionId, contentMd, isCorrect] - 문제별 표시 순서
+     */
+    @Query("SELECT qo.question.id, qo.id, qo.contentMd, qo.isCorrect FROM QuestionOption qo " +
+           "WHERE qo.question.id IN :questionIds " +
+           "ORDER BY qo.question.id, qo.sortOrder, qo.id")
+    List<Object[]> findOptionRowsByQuestionIds(@Param("questionIds") Collection<Long> questionIds);
 }
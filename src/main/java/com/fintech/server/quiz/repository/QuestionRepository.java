@@ -26,4 +26,11 @@ public interface QuestionRepository extends JpaRepository<Question, Long> {
      */
     @Query("SELECT DISTINCT q FROM Question q LEFT JOIN FETCH q.options WHERE q.quiz.id = :quizId ORDER BY q.id")
     List<Question> findByQuizIdWithOptions(@Param("quizId") Long quizId);
+    
+    /**
+     * 전체 문제의 학습 패널 내용 (정답 인덱스 구성용, 오답 노트 스냅샷에 사용)
+     * [questionId, hintMd, teachingExplainerMd, solvingKeypointsMd]
+     */
+    @Query("SELECT q.id, q.hintMd, q.teachingExplainerMd, q.solvingKeypointsMd FROM Question q")
+    List<Object[]> findAllLearningPanels();
 }
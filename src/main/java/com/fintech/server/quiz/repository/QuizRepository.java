@@ -27,6 +27,12 @@ public interface QuizRepository extends JpaRepository<Quiz, Long> {
      * 특정 레벨의 모든 퀴즈를 ID 순서대로 조회
      */
     List<Quiz> findByLevelIdOrderById(Long levelId);
+
+    /**
+     * 학습 카탈로그 적재용 퀴즈 목록 (id, levelId, title)
+     */
+    @Query("SELECT q.id, q.level.id, q.title FROM Quiz q ORDER BY q.id ASC")
+    List<Object[]> findAllCatalogRows();
 }
 
 /**
@@ -8,4 +8,10 @@ import java.util.List;
 public interface SectorRepository extends JpaRepository<Sector, Long> {
     @Query("SELECT DISTINCT s FROM Sector s LEFT JOIN FETCH s.subsectors ORDER BY s.id ASC")
     List<Sector> findAllWithSubsectors();
+
+    /**
+     * 학습 카탈로그 적재용 섹터 목록 (id, name, slug, description)
+     */
+    @Query("SELECT s.id, s.name, s.slug, s.description FROM Sector s ORDER BY s.id ASC")
+    List<Object[]> findAllCatalogRows();
 }
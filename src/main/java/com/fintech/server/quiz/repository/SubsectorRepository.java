@@ -4,9 +4,16 @@ import com.fintech.server.quiz.entity.Subsector;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import java.util.List;
 import java.util.Optional;
 
 public interface SubsectorRepository extends JpaRepository<Subsector, Long> {
     @Query("SELECT ss FROM Subsector ss LEFT JOIN FETCH ss.levels WHERE ss.id = :id")
     Optional<Subsector> findByIdWithLevels(@Param("id") Long id);
+
+    /**
+     * 학습 카탈로그 적재용 서브섹터 목록 (id, sectorId, name, slug, description, sortOrder)
+     */
+    @Query("SELECT ss.id, ss.sector.id, ss.name, ss.slug, ss.description, ss.sortOrder FROM Subsector ss ORDER BY ss.id ASC")
+    List<Object[]> findAllCatalogRows();
 }
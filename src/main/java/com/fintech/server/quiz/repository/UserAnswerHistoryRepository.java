@@ -0,0 +1,19 @@
+package com.fintech.server.quiz.repository;
+
+import com.fintech.server.quiz.entity.UserAnswerHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserAnswerHistoryRepository extends JpaRepository<UserAnswerHistory, Long> {
+
+    /**
+     * 특정 사용자의 답변 이력 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM UserAnswerHistory h WHERE h.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+}
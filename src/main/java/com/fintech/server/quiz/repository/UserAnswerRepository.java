@@ -1,10 +1,16 @@
 package com.fintech.server.quiz.repository; // 패키지 경로를 quiz.repository로 변경
 
 import com.fintech.server.quiz.entity.UserAnswer; // import 경로 변경
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface UserAnswerRepository extends JpaRepository<UserAnswer, Long> {
@@ -15,11 +21,80 @@ public interface UserAnswerRepository extends JpaRepository<UserAnswer, Long> {
     @Query("SELECT ua FROM UserAnswer ua WHERE ua.user.id = :userId AND ua.question.quiz.id = :quizId")
     List<UserAnswer> findByUserIdAndQuizId(@Param("userId") Long userId, @Param("quizId") Long quizId);
     
+    /**
+     * 특정 사용자의 여러 문제 최신 답변 (쓰기 잠금, SELECT ... FOR UPDATE)
+     * upsert 전에 이전 정답 여부를 읽을 때 사용 (호출 전에 사용자 집계 행을 잠가 동시 제출을 직렬화하므로 앞 트랜잭션 커밋 후의 값을 읽음)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ua FROM UserAnswer ua WHERE ua.user.id = :userId AND ua.question.id IN :questionIds")
+    List<UserAnswer> findForUpdateByUserIdAndQuestionIdIn(@Param("userId") Long userId, @Param("questionIds") Collection<Long> questionIds);
+    
+    /**
+     * 특정 사용자의 특정 퀴즈 답변 수와 정답 수 (answerCount, correctCount) - 문제당 한 행이므로 중복 제거 불필요
+     */
+    @Query("SELECT COUNT(ua), COALESCE(SUM(CASE WHEN ua.isCorrect = true THEN 1 ELSE 0 END), 0) FROM UserAnswer ua " +
+           "WHERE ua.user.id = :userId AND ua.question.quizId = :quizId")
+    List<Object[]> countAnswersByUserIdAndQuizId(@Param("userId") Long userId, @Param("quizId") Long quizId);
+    
+    /**
+     * 문제별 최신 답변 저장 (없으면 생성, 있으면 선택지/정답 여부/답변 시각 갱신 후 시도 횟수 증가)
+     * 반환값은 MySQL 영향 행 수 - 1이면 새로 생성, 2면 기존 답변 갱신
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_answers (user_id, question_id, selected_option_id, is_correct, answered_at, attempt_count) " +
+                   "VALUES (:userId, :questionId, :selectedOptionId, :correct, :answeredAt, 1) " +
+                   "ON DUPLICATE KEY UPDATE selected_option_id = VALUES(selected_option_id), " +
+                   "is_correct = VALUES(is_correct), answered_at = VALUES(answered_at), " +
+                   "attempt_count = attempt_count + 1",
+           nativeQuery = true)
+    int upsertLatestAnswer(@Param("userId") Long userId,
+                           @Param("questionId") Long questionId,
+                           @Param("selectedOptionId") Long selectedOptionId,
+                           @Param("correct") boolean correct,
+                           @Param("answeredAt") LocalDateTime answeredAt);
+    
     /**
      * 특정 사용자의 모든 답변 조회
      */
     List<UserAnswer> findByUserId(Long userId);
     
+    /**
+     * 특정 사용자가 답변한 퀴즈 ID 목록 (중복 제거, 엔티티를 읽지 않음)
+     */
+    @Query("SELECT DISTINCT ua.question.quizId FROM UserAnswer ua WHERE ua.user.id = :userId")
+    List<Long> findAnsweredQuizIdsByUserId(@Param("userId") Long userId);
+    
+    /**
+     * 특정 사용자의 답변 수
+     */
+    @Query("SELECT COUNT(ua) FROM UserAnswer ua WHERE ua.user.id = :userId")
+    long countByUserId(@Param("userId") Long userId);
+    
+    /**
+     * 특정 사용자의 기간 내 답변 날짜 목록 (중복 제거)
+     */
+    @Query(value = "SELECT DISTINCT DATE(ua.answered_at) FROM user_answers ua " +
+                   "WHERE ua.user_id = :userId AND ua.answered_at >= :since",
+           nativeQuery = true)
+    List<Object> findAnswerDatesSince(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+    
+    /**
+     * 특정 사용자의 최근 답변 요약 (quizId, isCorrect, answeredAt) - 최신순
+     */
+    @Query("SELECT ua.question.quizId, ua.isCorrect, ua.answeredAt FROM UserAnswer ua " +
+           "WHERE ua.user.id = :userId AND ua.answeredAt >= :since ORDER BY ua.answeredAt DESC")
+    List<Object[]> findRecentAnswerSummaries(@Param("userId") Long userId,
+                                             @Param("since") LocalDateTime since,
+                                             Pageable pageable);
+    
+    /**
+     * 특정 사용자의 특정 퀴즈 답변 일괄 삭제 (DELETE 한 문장)
+     */
+    @Modifying
+    @Query("DELETE FROM UserAnswer ua WHERE ua.user.id = :userId " +
+           "AND ua.question.id IN (SELECT q.id FROM Question q WHERE q.quizId = :quizId)")
+    int deleteByUserIdAndQuizId(@Param("userId") Long userId, @Param("quizId") Long quizId);
+    
     /**
      * 특정 사용자의 답변 삭제
      */
@@ -29,6 +29,35 @@ public interface UserBadgeRepository extends JpaRepository<UserBadge, Long> {
     @Query("SELECT b FROM Badge b WHERE b.levelNumber = (SELECT COALESCE(MAX(ub.badge.levelNumber), 0) + 1 FROM UserBadge ub WHERE ub.user.id = :userId AND ub.isAchieved = true)")
     Optional<Badge> findNextBadgeForUser(@Param("userId") Long userId);
     
+    // 특정 사용자의 배지별 획득 여부 (badgeId, isAchieved)
+    @Query("SELECT ub.badge.id, ub.isAchieved FROM UserBadge ub WHERE ub.user.id = :userId")
+    List<Object[]> findBadgeStatesByUserId(@Param("userId") Long userId);
+    
+    // 특정 사용자의 배지 행 (id, badgeId, isAchieved, earnedAt, awardedAt, source) - 배지 스냅샷용
+    // 미획득 배지의 진행률은 저장하지 않으므로(획득/해제만 기록) progress 컬럼은 읽지 않음
+    @Query("SELECT ub.id, ub.badge.id, ub.isAchieved, ub.earnedAt, ub.awardedAt, ub.source " +
+           "FROM UserBadge ub WHERE ub.user.id = :userId")
+    List<Object[]> findBadgeRowsByUserId(@Param("userId") Long userId);
+    
+    // 새로 획득한 배지 일괄 기록 ((user_id, badge_id) 유니크 키에 upsert, 이미 획득한 배지는 획득 시각 유지)
+    @Modifying
+    @Query(value = "INSERT INTO user_badges (user_id, badge_id, earned_at, awarded_at, progress, is_achieved, source) " +
+                   "SELECT :userId, b.id, :now, :now, 100, TRUE, :source FROM badges b WHERE b.id IN (:badgeIds) " +
+                   "ON DUPLICATE KEY UPDATE earned_at = IF(is_achieved, earned_at, VALUES(earned_at)), " +
+                   "awarded_at = IF(is_achieved, awarded_at, VALUES(awarded_at)), " +
+                   "source = IF(is_achieved, source, VALUES(source)), " +
+                   "progress = 100, is_achieved = TRUE",
+           nativeQuery = true)
+    int awardBadges(@Param("userId") Long userId,
+                    @Param("badgeIds") List<Long> badgeIds,
+                    @Param("now") java.time.LocalDateTime now,
+                    @Param("source") String source);
+    
+    // 조건을 더 이상 만족하지 않는 배지 일괄 해제
+    @Modifying
+    @Query("UPDATE UserBadge ub SET ub.isAchieved = false WHERE ub.user.id = :userId AND ub.badge.id IN :badgeIds")
+    int revokeBadges(@Param("userId") Long userId, @Param("badgeIds") List<Long> badgeIds);
+    
     // 특정 사용자의 모든 벳지 삭제
     @Modifying
     @Query("DELETE FROM UserBadge ub WHERE ub.user.id = :userId")
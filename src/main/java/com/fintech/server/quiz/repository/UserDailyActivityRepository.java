@@ -3,6 +3,9 @@ package com.fintech.server.quiz.repository;
 import com.fintech.server.quiz.entity.UserDailyActivity;
 import com.fintech.server.quiz.entity.UserDailyActivityId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -20,4 +23,18 @@ public interface UserDailyActivityRepository extends JpaRepository<UserDailyActi
     
     // 특정 사용자의 활동 기록 삭제
     void deleteByIdUserId(Long userId);
+
+    // 하루 활동 증분 반영 (없으면 생성, 있으면 누적) - 이미 삭제된 사용자는 users 조인으로 건너뜀
+    @Modifying
+    @Query(value = "INSERT INTO user_daily_activity (user_id, activity_date, quizzes_completed, answers_count, minutes_spent) " +
+                   "SELECT u.id, :activityDate, :quizzes, :answers, :minutes FROM users u WHERE u.id = :userId " +
+                   "ON DUPLICATE KEY UPDATE quizzes_completed = quizzes_completed + VALUES(quizzes_completed), " +
+                   "answers_count = answers_count + VALUES(answers_count), " +
+                   "minutes_spent = minutes_spent + VALUES(minutes_spent)",
+           nativeQuery = true)
+    int upsertActivity(@Param("userId") Long userId,
+                       @Param("activityDate") LocalDate activityDate,
+                       @Param("quizzes") int quizzes,
+                       @Param("answers") int answers,
+                       @Param("minutes") int minutes);
 }
\ No newline at end of file
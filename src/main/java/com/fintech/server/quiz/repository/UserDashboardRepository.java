@@ -0,0 +1,39 @@
+package com.fintech.server.quiz.repository;
+
+import com.fintech.server.quiz.entity.UserDashboard;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface UserDashboardRepository extends JpaRepository<UserDashboard, Long> {
+
+    /**
+     * 빈 대시보드 행 추가 (이미 있으면 무시)
+     * 요청 스레드와 학습 이벤트 파이프라인이 같은 사용자의 행을 동시에 만들어도 기본 키 충돌이 나지 않음
+     * @return 새로 추가되면 1, 이미 있으면 0
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO user_dashboard (user_id, updated_at) VALUES (:userId, :updatedAt)",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 대시보드 행 잠금 조회 (SELECT ... FOR UPDATE) - 생성 직후 다른 트랜잭션이 만든 행도 최신 값으로 읽음
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM UserDashboard d WHERE d.userId = :userId")
+    Optional<UserDashboard> findForUpdateByUserId(@Param("userId") Long userId);
+
+    /**
+     * 특정 사용자의 대시보드 삭제 (게스트 정리용)
+     */
+    @Modifying
+    @Query("DELETE FROM UserDashboard d WHERE d.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+}
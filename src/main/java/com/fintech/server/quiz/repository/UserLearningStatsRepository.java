@@ -0,0 +1,67 @@
+package com.fintech.server.quiz.repository;
+
+import com.fintech.server.quiz.entity.UserLearningStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface UserLearningStatsRepository extends JpaRepository<UserLearningStats, Long> {
+
+    /**
+     * 사용자 집계 행 쓰기 잠금 (SELECT ... FOR UPDATE) - 같은 사용자의 학습 기록 변경을 직렬화할 때 사용
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserLearningStats s WHERE s.userId = :userId")
+    Optional<UserLearningStats> findForUpdateByUserId(@Param("userId") Long userId);
+
+    /**
+     * 정답 수 증감 반영 (행이 없으면 0 반환)
+     */
+    @Modifying
+    @Query("UPDATE UserLearningStats s SET s.correctAnswers = s.correctAnswers + :correctDelta, " +
+           "s.lastActivityAt = :now, s.updatedAt = :now WHERE s.userId = :userId")
+    int addAnswerDelta(@Param("userId") Long userId,
+                       @Param("correctDelta") int correctDelta,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * 완료/통과/정답 수 증감 반영 (행이 없으면 0 반환)
+     */
+    @Modifying
+    @Query("UPDATE UserLearningStats s SET s.completedQuizzes = s.completedQuizzes + :completedDelta, " +
+           "s.passedQuizzes = s.passedQuizzes + :passedDelta, " +
+           "s.correctAnswers = s.correctAnswers + :correctDelta, " +
+           "s.lastActivityAt = :now, s.updatedAt = :now WHERE s.userId = :userId")
+    int addQuizDelta(@Param("userId") Long userId,
+                     @Param("completedDelta") int completedDelta,
+                     @Param("passedDelta") int passedDelta,
+                     @Param("correctDelta") int correctDelta,
+                     @Param("now") LocalDateTime now);
+
+    /**
+     * 집계 행이 없을 때 기존 이력으로 한 번만 채움 (동시 요청 시 먼저 들어간 행 유지)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO user_learning_stats " +
+                   "(user_id, completed_quizzes, correct_answers, passed_quizzes, last_activity_at, updated_at) " +
+                   "SELECT :userId, " +
+                   "(SELECT COUNT(DISTINCT up.quiz_id) FROM user_progress up WHERE up.user_id = :userId), " +
+                   "(SELECT COUNT(*) FROM user_answers ua WHERE ua.user_id = :userId AND ua.is_correct = 1), " +
+                   "(SELECT COUNT(DISTINCT up.quiz_id) FROM user_progress up WHERE up.user_id = :userId AND up.passed = 1), " +
+                   "NOW(), NOW()",
+           nativeQuery = true)
+    int backfill(@Param("userId") Long userId);
+
+    /**
+     * 특정 사용자의 집계 삭제 (게스트 정리용)
+     */
+    @Modifying
+    @Query("DELETE FROM UserLearningStats s WHERE s.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+}
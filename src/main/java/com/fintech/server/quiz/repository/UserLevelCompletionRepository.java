@@ -0,0 +1,47 @@
+package com.fintech.server.quiz.repository;
+
+import com.fintech.server.quiz.entity.UserLevelCompletion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface UserLevelCompletionRepository extends JpaRepository<UserLevelCompletion, Long> {
+
+    /**
+     * 레벨 완료 기록 추가 (이미 있으면 무시)
+     * @return 새로 추가되면 1, 이미 있으면 0
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO user_level_completions " +
+                   "(user_id, level_id, subsector_id, sector_id, correct_answers, completed_at) " +
+                   "VALUES (:userId, :levelId, :subsectorId, :sectorId, :correctAnswers, :completedAt)",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId,
+                       @Param("levelId") Long levelId,
+                       @Param("subsectorId") Long subsectorId,
+                       @Param("sectorId") Long sectorId,
+                       @Param("correctAnswers") int correctAnswers,
+                       @Param("completedAt") LocalDateTime completedAt);
+
+    /**
+     * 특정 사용자의 특정 레벨 완료 기록 삭제
+     * @return 삭제된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("DELETE FROM UserLevelCompletion c WHERE c.userId = :userId AND c.levelId = :levelId")
+    int deleteByUserIdAndLevelId(@Param("userId") Long userId, @Param("levelId") Long levelId);
+
+    boolean existsByUserIdAndLevelId(Long userId, Long levelId);
+
+    long countByUserId(Long userId);
+
+    /**
+     * 특정 사용자의 레벨 완료 기록 삭제 (게스트 정리용)
+     */
+    @Modifying
+    @Query("DELETE FROM UserLevelCompletion c WHERE c.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+}
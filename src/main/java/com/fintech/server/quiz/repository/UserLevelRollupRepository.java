@@ -0,0 +1,34 @@
+package com.fintech.server.quiz.repository;
+
+import com.fintech.server.quiz.entity.UserLevelRollup;
+import com.fintech.server.quiz.entity.UserLevelRollupId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface UserLevelRollupRepository extends JpaRepository<UserLevelRollup, UserLevelRollupId> {
+
+    // 특정 사용자의 범위(서브섹터/섹터)별 집계 전체
+    List<UserLevelRollup> findByIdUserIdAndIdScopeType(Long userId, UserLevelRollupId.Scope scopeType);
+
+    // 완료 레벨 수 증감 반영 (없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO user_level_rollups (user_id, scope_type, scope_id, completed_levels) " +
+                   "VALUES (:userId, :scopeType, :scopeId, GREATEST(:delta, 0)) " +
+                   "ON DUPLICATE KEY UPDATE completed_levels = GREATEST(completed_levels + :delta, 0)",
+           nativeQuery = true)
+    int addCompletedLevels(@Param("userId") Long userId,
+                           @Param("scopeType") String scopeType,
+                           @Param("scopeId") Long scopeId,
+                           @Param("delta") int delta);
+
+    /**
+     * 특정 사용자의 집계 삭제 (게스트 정리용)
+     */
+    @Modifying
+    @Query("DELETE FROM UserLevelRollup r WHERE r.id.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+}
@@ -1,12 +1,17 @@
 package com.fintech.server.quiz.repository;
 
 import com.fintech.server.quiz.entity.UserProgress;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface UserProgressRepository extends JpaRepository<UserProgress, Long> {
@@ -16,6 +21,58 @@ public interface UserProgressRepository extends JpaRepository<UserProgress, Long
      */
     List<UserProgress> findByUserIdOrderByCreatedAtDesc(Long userId);
     
+    /**
+     * 특정 사용자의 진행 기록 요약 (quizId, score, passed, startedAt, finishedAt) - 최신순
+     * 엔티티/연관관계를 읽지 않고 집계에 필요한 컬럼만 조회
+     */
+    @Query("SELECT up.quiz.id, up.score, up.passed, up.startedAt, up.finishedAt FROM UserProgress up " +
+           "WHERE up.user.id = :userId ORDER BY up.createdAt DESC")
+    List<Object[]> findProgressSummariesByUserId(@Param("userId") Long userId);
+    
+    /**
+     * 특정 사용자의 총점수 집계 (totalScore, totalQuizzes, completedQuizzes, passedQuizzes)
+     * 퀴즈별 최신 기록 하나만 남기도록 ROW_NUMBER() 윈도 함수로 고른 뒤 DB에서 한 번에 집계
+     */
+    @Query(value = "SELECT COALESCE(SUM(CASE WHEN t.finished_at IS NOT NULL THEN t.score ELSE 0 END), 0), " +
+                   "COUNT(*), " +
+                   "COALESCE(SUM(CASE WHEN t.finished_at IS NOT NULL THEN 1 ELSE 0 END), 0), " +
+                   "COALESCE(SUM(CASE WHEN t.passed THEN 1 ELSE 0 END), 0) " +
+                   "FROM (SELECT up.score, up.passed, up.finished_at, " +
+                   "ROW_NUMBER() OVER (PARTITION BY up.quiz_id ORDER BY up.created_at DESC, up.id DESC) AS rn " +
+                   "FROM user_progress up WHERE up.user_id = :userId) t " +
+                   "WHERE t.rn = 1",
+           nativeQuery = true)
+    List<Object[]> summarizeScoresByUserId(@Param("userId") Long userId);
+    
+    /**
+     * 전체 사용자의 서브섹터별 점수 (userId, subsectorId, score) - 순위표 재구성용
+     * 퀴즈별 최신 기록 중 완료된 것의 점수 합 (총점수 집계와 같은 기준)
+     */
+    @Query(value = "SELECT t.user_id, l.subsector_id, SUM(t.score) " +
+                   "FROM (SELECT up.user_id, up.quiz_id, up.score, up.finished_at, " +
+                   "ROW_NUMBER() OVER (PARTITION BY up.user_id, up.quiz_id ORDER BY up.created_at DESC, up.id DESC) AS rn " +
+                   "FROM user_progress up) t " +
+                   "JOIN quizzes q ON q.id = t.quiz_id " +
+                   "JOIN levels l ON l.id = q.level_id " +
+                   "WHERE t.rn = 1 AND t.finished_at IS NOT NULL " +
+                   "GROUP BY t.user_id, l.subsector_id",
+           nativeQuery = true)
+    List<Object[]> sumLatestScoresByUserAndSubsector();
+    
+    /**
+     * 특정 사용자의 서브섹터별 점수 (subsectorId, score) - 순위표 갱신용
+     */
+    @Query(value = "SELECT l.subsector_id, SUM(t.score) " +
+                   "FROM (SELECT up.quiz_id, up.score, up.finished_at, " +
+                   "ROW_NUMBER() OVER (PARTITION BY up.quiz_id ORDER BY up.created_at DESC, up.id DESC) AS rn " +
+                   "FROM user_progress up WHERE up.user_id = :userId) t " +
+                   "JOIN quizzes q ON q.id = t.quiz_id " +
+                   "JOIN levels l ON l.id = q.level_id " +
+                   "WHERE t.rn = 1 AND t.finished_at IS NOT NULL " +
+                   "GROUP BY l.subsector_id",
+           nativeQuery = true)
+    List<Object[]> sumLatestScoresBySubsector(@Param("userId") Long userId);
+    
     /**
      * 특정 사용자의 특정 레벨 진행률 조회 (최적화된 쿼리)
      */
@@ -49,6 +106,38 @@ public interface UserProgressRepository extends JpaRepository<UserProgress, Long
            "ORDER BY l.levelNumber ASC, up.createdAt DESC")
     List<UserProgress> findByUserIdAndSubsectorId(@Param("userId") Long userId, @Param("subsectorId") Long subsectorId);
     
+    /**
+     * 특정 사용자의 서브섹터 퀴즈별 진행 집계
+     * (quizId, 기록 수, 완료 수, 통과 수, 완료 점수 합, 완료 최고 점수, 최초 시작 시각, 최근 완료 시각)
+     */
+    @Query("SELECT q.id, COUNT(up.id), " +
+           "SUM(CASE WHEN up.finishedAt IS NOT NULL THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN up.passed = true THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN up.finishedAt IS NOT NULL THEN up.score ELSE 0 END), " +
+           "MAX(CASE WHEN up.finishedAt IS NOT NULL THEN up.score ELSE 0 END), " +
+           "MIN(up.startedAt), MAX(up.finishedAt) " +
+           "FROM UserProgress up " +
+           "JOIN up.quiz q " +
+           "JOIN q.level l " +
+           "WHERE up.user.id = :userId AND l.subsector.id = :subsectorId " +
+           "GROUP BY q.id")
+    List<Object[]> findQuizProgressAggregatesBySubsector(@Param("userId") Long userId, @Param("subsectorId") Long subsectorId);
+    
+    /**
+     * 특정 사용자의 레벨 퀴즈별 진행 집계 (컬럼 구성은 findQuizProgressAggregatesBySubsector와 동일)
+     */
+    @Query("SELECT q.id, COUNT(up.id), " +
+           "SUM(CASE WHEN up.finishedAt IS NOT NULL THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN up.passed = true THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN up.finishedAt IS NOT NULL THEN up.score ELSE 0 END), " +
+           "MAX(CASE WHEN up.finishedAt IS NOT NULL THEN up.score ELSE 0 END), " +
+           "MIN(up.startedAt), MAX(up.finishedAt) " +
+           "FROM UserProgress up " +
+           "JOIN up.quiz q " +
+           "WHERE up.user.id = :userId AND q.level.id = :levelId " +
+           "GROUP BY q.id")
+    List<Object[]> findQuizProgressAggregatesByLevel(@Param("userId") Long userId, @Param("levelId") Long levelId);
+    
     /**
      * 특정 사용자의 완료한 퀴즈 수 (레벨별)
      */
@@ -106,6 +195,39 @@ public interface UserProgressRepository extends JpaRepository<UserProgress, Long
     @Query("SELECT COUNT(DISTINCT up.quiz.id) FROM UserProgress up WHERE up.user.id = :userId AND up.quiz.level.id = :levelId AND up.passed = true")
     Long countPassedQuizzesByUserIdAndLevelId(@Param("userId") Long userId, @Param("levelId") Long levelId);
     
+    /**
+     * 특정 사용자의 특정 퀴즈 진행 기록 (사용자/퀴즈당 한 행, 쓰기 잠금 SELECT ... FOR UPDATE)
+     * 완료 upsert/다시풀기 삭제 전에 이전 통과 여부를 읽을 때 사용 - 동시 요청은 앞 트랜잭션 커밋 후의 값을 읽음
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT up FROM UserProgress up WHERE up.user.id = :userId AND up.quiz.id = :quizId")
+    Optional<UserProgress> findForUpdateByUserIdAndQuizId(@Param("userId") Long userId, @Param("quizId") Long quizId);
+    
+    /**
+     * 퀴즈 완료 기록 저장 (없으면 생성, 있으면 점수/통과 여부/시각 갱신)
+     * 첫 완료 여부는 영향 행 수로 판단하지 않음 (finished_at은 초 단위라 같은 초에 같은 결과로 다시 완료하면 갱신도 1을 반환)
+     * 호출하는 쪽에서 잠금 조회한 이전 기록으로 판단합니다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_progress (user_id, quiz_id, started_at, finished_at, score, passed, teaching_views, created_at) " +
+                   "VALUES (:userId, :quizId, :startedAt, :finishedAt, :score, :passed, 0, :finishedAt) " +
+                   "ON DUPLICATE KEY UPDATE started_at = VALUES(started_at), finished_at = VALUES(finished_at), " +
+                   "score = VALUES(score), passed = VALUES(passed)",
+           nativeQuery = true)
+    int upsertCompletion(@Param("userId") Long userId,
+                         @Param("quizId") Long quizId,
+                         @Param("startedAt") LocalDateTime startedAt,
+                         @Param("finishedAt") LocalDateTime finishedAt,
+                         @Param("score") int score,
+                         @Param("passed") boolean passed);
+    
+    /**
+     * 특정 사용자의 특정 퀴즈 진행 기록 일괄 삭제 (다시풀기용, DELETE 한 문장)
+     */
+    @Modifying
+    @Query("DELETE FROM UserProgress up WHERE up.user.id = :userId AND up.quiz.id = :quizId")
+    int deleteByUserIdAndQuizId(@Param("userId") Long userId, @Param("quizId") Long quizId);
+    
     /**
      * 특정 사용자의 특정 퀴즈 진행률 조회 (다시풀기용)
      */
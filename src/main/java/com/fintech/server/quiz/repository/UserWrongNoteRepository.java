@@ -3,9 +3,12 @@ package com.fintech.server.quiz.repository;
 import com.fintech.server.quiz.entity.UserWrongNote;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +26,50 @@ public interface UserWrongNoteRepository extends JpaRepository<UserWrongNote, Lo
     @Query("SELECT uwn FROM UserWrongNote uwn WHERE uwn.user.id = :userId AND uwn.question.id = :questionId")
     Optional<UserWrongNote> findByUserIdAndQuestionId(@Param("userId") Long userId, @Param("questionId") Long questionId);
     
+    /**
+     * 특정 사용자의 여러 문제 오답 노트 해결 여부 [questionId, resolved(1/0)] (쓰기 잠금 SELECT ... FOR UPDATE)
+     * 일괄 upsert 전에 다시 틀려 미해결로 돌아가는 노트를 판별 - 동시 요청은 앞 트랜잭션 커밋 후의 값을 읽음
+     */
+    @Query(value = "SELECT question_id, CASE WHEN resolved THEN 1 ELSE 0 END FROM user_wrong_notes " +
+                   "WHERE user_id = :userId AND question_id IN (:questionIds) FOR UPDATE",
+           nativeQuery = true)
+    List<Object[]> findResolvedForUpdate(@Param("userId") Long userId, @Param("questionIds") Collection<Long> questionIds);
+    
+    /**
+     * 오답 기록 (없으면 생성, 있으면 틀린 횟수 증가 후 미해결로 되돌리고 바로 복습 대상으로)
+     * - 스냅샷 컬럼은 생성할 때만 채우고 갱신하지 않음
+     * - 난이도 계수는 복습 이력이 있으면 UserWrongNote.scheduleImmediateReview와 같이 easePenalty만큼 낮춤 (최소 minEaseFactor)
+     *   MySQL은 UPDATE 절을 왼쪽부터 적용하므로 repetitions/interval_days 초기화보다 먼저 계산
+     * 반환값은 MySQL 영향 행 수 - 1이면 새로 생성, 2면 기존 노트 갱신 (times_wrong이 항상 바뀌므로 갱신은 항상 2)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_wrong_notes (user_id, question_id, last_answer_option_id, correct_option_id, " +
+                   "times_wrong, first_wrong_at, last_wrong_at, resolved, " +
+                   "snapshot_teaching_summary_md, snapshot_teaching_explainer_md, snapshot_keypoints_md, " +
+                   "due_at, interval_days, ease_factor, repetitions, created_at, updated_at) " +
+                   "VALUES (:userId, :questionId, :wrongOptionId, :correctOptionId, " +
+                   "1, :wrongAt, :wrongAt, false, " +
+                   ":teachingSummaryMd, :teachingExplainerMd, :keypointsMd, " +
+                   ":wrongAt, 0, :easeFactor, 0, :wrongAt, :wrongAt) " +
+                   "ON DUPLICATE KEY UPDATE times_wrong = times_wrong + 1, " +
+                   "last_answer_option_id = VALUES(last_answer_option_id), last_wrong_at = VALUES(last_wrong_at), " +
+                   "resolved = false, " +
+                   "ease_factor = CASE WHEN repetitions > 0 OR interval_days > 0 " +
+                   "THEN GREATEST(:minEaseFactor, ease_factor - :easePenalty) ELSE ease_factor END, " +
+                   "repetitions = 0, interval_days = 0, due_at = VALUES(due_at), updated_at = VALUES(updated_at)",
+           nativeQuery = true)
+    int upsertWrongAnswer(@Param("userId") Long userId,
+                          @Param("questionId") Long questionId,
+                          @Param("wrongOptionId") Long wrongOptionId,
+                          @Param("correctOptionId") Long correctOptionId,
+                          @Param("teachingSummaryMd") String teachingSummaryMd,
+                          @Param("teachingExplainerMd") String teachingExplainerMd,
+                          @Param("keypointsMd") String keypointsMd,
+                          @Param("easeFactor") double easeFactor,
+                          @Param("easePenalty") double easePenalty,
+                          @Param("minEaseFactor") double minEaseFactor,
+                          @Param("wrongAt") LocalDateTime wrongAt);
+    
     /**
      * 특정 사용자의 미해결 오답 노트 조회
      */
@@ -42,6 +89,85 @@ public interface UserWrongNoteRepository extends JpaRepository<UserWrongNote, Lo
     @Query("SELECT uwn FROM UserWrongNote uwn WHERE uwn.user.id = :userId AND uwn.timesWrong >= 1 AND uwn.resolved = false ORDER BY uwn.timesWrong DESC, uwn.lastWrongAt DESC")
     List<UserWrongNote> findNeedReviewByUserId(@Param("userId") Long userId);
     
+    // ===== 목록/상세 응답 조회 (프로젝션) =====
+    // 응답에 필요한 컬럼을 한 문장으로 읽어 지연 로딩 없이 DTO를 만듭니다. (선택지는 페이지 문제들에 대해 따로 한 번에 조회)
+    
+    /**
+     * 응답 컬럼 [id, userId, questionId, stemMd, quizId, quizTitle, lastAnswerOptionId, lastAnswerText,
+     *           correctOptionId, correctAnswerText, timesWrong, firstWrongAt, lastWrongAt, reviewedAt, resolved,
+     *           personalNoteMd, snapshotTeachingSummaryMd, snapshotTeachingExplainerMd, snapshotKeypointsMd,
+     *           createdAt, updatedAt, dueAt, intervalDays, easeFactor, repetitions]
+     */
+    String RESPONSE_SELECT = "SELECT uwn.id, uwn.user.id, q.id, q.stemMd, q.quizId, quiz.title, " +
+           "lao.id, lao.contentMd, co.id, co.contentMd, " +
+           "uwn.timesWrong, uwn.firstWrongAt, uwn.lastWrongAt, uwn.reviewedAt, uwn.resolved, uwn.personalNoteMd, " +
+           "uwn.snapshotTeachingSummaryMd, uwn.snapshotTeachingExplainerMd, uwn.snapshotKeypointsMd, " +
+           "uwn.createdAt, uwn.updatedAt, uwn.dueAt, uwn.intervalDays, uwn.easeFactor, uwn.repetitions " +
+           "FROM UserWrongNote uwn " +
+           "JOIN uwn.question q " +
+           "LEFT JOIN q.quiz quiz " +
+           "LEFT JOIN uwn.lastAnswerOption lao " +
+           "LEFT JOIN uwn.correctOption co ";
+    
+    /**
+     * 오답 노트 한 건의 응답 컬럼
+     */
+    @Query(RESPONSE_SELECT + "WHERE uwn.id = :noteId")
+    List<Object[]> findResponseRowById(@Param("noteId") Long noteId);
+    
+    /**
+     * 사용자/문제의 오답 노트 응답 컬럼
+     */
+    @Query(RESPONSE_SELECT + "WHERE uwn.user.id = :userId AND q.id = :questionId")
+    List<Object[]> findResponseRowByUserIdAndQuestionId(@Param("userId") Long userId, @Param("questionId") Long questionId);
+    
+    /**
+     * 복습 예정 시각이 지난 오답 노트 (dueAt, id 오름차순) - 해결된 노트는 dueAt이 null이라 제외됨
+     */
+    @Query(RESPONSE_SELECT + "WHERE uwn.user.id = :userId AND uwn.dueAt <= :now " +
+           "ORDER BY uwn.dueAt ASC, uwn.id ASC")
+    List<Object[]> findDueByUserId(@Param("userId") Long userId,
+                                   @Param("now") LocalDateTime now,
+                                   Pageable pageable);
+    
+    // 목록 페이지는 직전 페이지 마지막 행의 정렬 키보다 뒤에 있는 행만 LIMIT으로 읽습니다. (첫 페이지는 최대값 커서로 시작)
+    
+    /**
+     * 전체 오답 노트 페이지 (lastWrongAt, id 내림차순)
+     */
+    @Query(RESPONSE_SELECT + "WHERE uwn.user.id = :userId " +
+           "AND (uwn.lastWrongAt < :lastWrongAt OR (uwn.lastWrongAt = :lastWrongAt AND uwn.id < :id)) " +
+           "ORDER BY uwn.lastWrongAt DESC, uwn.id DESC")
+    List<Object[]> findPageByUserId(@Param("userId") Long userId,
+                                    @Param("lastWrongAt") LocalDateTime lastWrongAt,
+                                    @Param("id") Long id,
+                                    Pageable pageable);
+    
+    /**
+     * 해결/미해결 오답 노트 페이지 (lastWrongAt, id 내림차순)
+     */
+    @Query(RESPONSE_SELECT + "WHERE uwn.user.id = :userId AND uwn.resolved = :resolved " +
+           "AND (uwn.lastWrongAt < :lastWrongAt OR (uwn.lastWrongAt = :lastWrongAt AND uwn.id < :id)) " +
+           "ORDER BY uwn.lastWrongAt DESC, uwn.id DESC")
+    List<Object[]> findPageByUserIdAndResolved(@Param("userId") Long userId,
+                                               @Param("resolved") Boolean resolved,
+                                               @Param("lastWrongAt") LocalDateTime lastWrongAt,
+                                               @Param("id") Long id,
+                                               Pageable pageable);
+    
+    /**
+     * 복습이 필요한 오답 노트 페이지 (timesWrong, lastWrongAt, id 내림차순)
+     */
+    @Query(RESPONSE_SELECT + "WHERE uwn.user.id = :userId AND uwn.timesWrong >= 1 AND uwn.resolved = false " +
+           "AND (uwn.timesWrong < :timesWrong OR (uwn.timesWrong = :timesWrong " +
+           "AND (uwn.lastWrongAt < :lastWrongAt OR (uwn.lastWrongAt = :lastWrongAt AND uwn.id < :id)))) " +
+           "ORDER BY uwn.timesWrong DESC, uwn.lastWrongAt DESC, uwn.id DESC")
+    List<Object[]> findNeedReviewPageByUserId(@Param("userId") Long userId,
+                                              @Param("timesWrong") Integer timesWrong,
+                                              @Param("lastWrongAt") LocalDateTime lastWrongAt,
+                                              @Param("id") Long id,
+                                              Pageable pageable);
+    
     /**
      * 특정 사용자의 오답 노트 통계
      */
@@ -54,6 +180,19 @@ public interface UserWrongNoteRepository extends JpaRepository<UserWrongNote, Lo
     @Query("SELECT COUNT(uwn) FROM UserWrongNote uwn WHERE uwn.user.id = :userId AND uwn.resolved = true")
     Long countResolvedByUserId(@Param("userId") Long userId);
     
+    /**
+     * 특정 사용자의 레벨/해결 여부별 오답 노트 수 (levelId, resolved, count, needReviewCount)
+     * 개수 통계와 서브섹터/레벨별 통계를 한 번의 GROUP BY로 계산 (서브섹터/레벨 이름은 학습 카탈로그에서 조회)
+     */
+    @Query("SELECT quiz.level.id, uwn.resolved, COUNT(uwn), " +
+           "SUM(CASE WHEN uwn.timesWrong >= 1 AND uwn.resolved = false THEN 1 ELSE 0 END) " +
+           "FROM UserWrongNote uwn " +
+           "JOIN uwn.question q " +
+           "JOIN q.quiz quiz " +
+           "WHERE uwn.user.id = :userId " +
+           "GROUP BY quiz.level.id, uwn.resolved")
+    List<Object[]> countByLevelAndResolved(@Param("userId") Long userId);
+    
     /**
      * 특정 사용자의 오답 노트 삭제 (게스트 정리용)
      */
@@ -0,0 +1,156 @@
+package com.fintech.server.quiz.service;
+
+import com.fintech.server.quiz.entity.QuestionOption;
+import com.fintech.server.quiz.event.QuizContentChangedEvent;
+import com.fintech.server.quiz.repository.QuestionOptionRepository;
+import com.fintech.server.quiz.repository.QuestionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채점용 정답 인덱스 (메모리 적재)
+ * - questionId → 정답 optionId / quizId / 해설 / 학습 패널 내용(오답 노트 스냅샷용)
+ * - optionId → questionId / 정답 여부
+ * 시작 시 한 번 구성하고, 콘텐츠 변경 이벤트가 오면 새 스냅샷을 만들어 통째로 교체합니다.
+ * 채점 경로에서는 DB 조회 없이 이 인덱스만 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AnswerKeyIndex {
+
+    private final QuestionOptionRepository questionOptionRepository;
+    private final QuestionRepository questionRepository;
+
+    private volatile Snapshot snapshot;
+
+    public record OptionKey(Long optionId, Long questionId, boolean correct) {
+    }
+
+    public record QuestionKey(Long questionId, Long quizId, Long correctOptionId, String explanationMd,
+                              String hintMd, String teachingExplainerMd, String solvingKeypointsMd) {
+    }
+
+    private record Snapshot(Map<Long, OptionKey> options, Map<Long, QuestionKey> questions,
+                            Map<Long, Integer> questionCountByQuiz) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    @EventListener
+    public void onContentChanged(QuizContentChangedEvent event) {
+        log.info("콘텐츠 변경 감지, 정답 인덱스 재구성: reason={}", event.reason());
+        reload();
+    }
+
+    /**
+     * 전체 선택지와 문제별 학습 패널 내용을 각각 한 번에 읽어 새 인덱스를 만들고 원자적으로 교체
+     */
+    public synchronized void reload() {
+        List<Object[]> rows = questionOptionRepository.findAllAnswerKeys();
+        Map<Long, Object[]> panelByQuestion = new HashMap<>();
+        for (Object[] row : questionRepository.findAllLearningPanels()) {
+            panelByQuestion.put((Long) row[0], row);
+        }
+
+        Map<Long, OptionKey> options = new HashMap<>(rows.size() * 2);
+        Map<Long, Long> quizIdByQuestion = new HashMap<>();
+        Map<Long, Long> correctOptionByQuestion = new HashMap<>();
+        Map<Long, String> explanationByQuestion = new HashMap<>();
+
+        for (Object[] row : rows) {
+            Long optionId = (Long) row[0];
+            Long questionId = (Long) row[1];
+            boolean correct = (Boolean) row[3];
+
+            options.put(optionId, new OptionKey(optionId, questionId, correct));
+            quizIdByQuestion.put(questionId, (Long) row[2]);
+            explanationByQuestion.put(questionId, (String) row[4]);
+            if (correct) {
+                correctOptionByQuestion.put(questionId, optionId);
+            }
+        }
+
+        Map<Long, QuestionKey> questions = new HashMap<>(quizIdByQuestion.size() * 2);
+        Map<Long, Integer> questionCountByQuiz = new HashMap<>();
+        for (Map.Entry<Long, Long> entry : quizIdByQuestion.entrySet()) {
+            Long questionId = entry.getKey();
+            Object[] panel = panelByQuestion.getOrDefault(questionId, new Object[4]);
+            questionCountByQuiz.merge(entry.getValue(), 1, Integer::sum);
+            questions.put(questionId, new QuestionKey(
+                    questionId,
+                    entry.getValue(),
+                    correctOptionByQuestion.get(questionId),
+                    explanationByQuestion.get(questionId),
+                    (String) panel[1],
+                    (String) panel[2],
+                    (String) panel[3]));
+        }
+
+        snapshot = new Snapshot(Collections.unmodifiableMap(options), Collections.unmodifiableMap(questions),
+                Collections.unmodifiableMap(questionCountByQuiz));
+        log.info("정답 인덱스 구성 완료: 문제 {}개, 선택지 {}개", questions.size(), options.size());
+    }
+
+    /**
+     * 선택지 키 조회 (인덱스에 없으면 새로 추가된 콘텐츠로 보고 DB에서 보충)
+     */
+    public OptionKey getOption(Long optionId) {
+        OptionKey key = current().options().get(optionId);
+        if (key != null) {
+            return key;
+        }
+        QuestionOption option = questionOptionRepository.findById(optionId)
+                .orElseThrow(() -> new RuntimeException("Option not found with id: " + optionId));
+        log.warn("정답 인덱스에 없는 선택지 조회(DB 보충): optionId={}", optionId);
+        return new OptionKey(option.getId(), option.getQuestion().getId(), option.isCorrect());
+    }
+
+    /**
+     * 퀴즈의 문제 수 (선택지가 있는 문제 기준)
+     */
+    public int countQuestions(Long quizId) {
+        return current().questionCountByQuiz().getOrDefault(quizId, 0);
+    }
+
+    /**
+     * 문제 키 조회 (인덱스에 없으면 DB에서 보충)
+     */
+    public QuestionKey getQuestion(Long questionId) {
+        QuestionKey key = current().questions().get(questionId);
+        if (key != null) {
+            return key;
+        }
+        QuestionOption correctOption = questionOptionRepository.findCorrectOptionByQuestionId(questionId)
+                .orElseThrow(() -> new RuntimeException("Correct option not found for question id: " + questionId));
+        log.warn("정답 인덱스에 없는 문제 조회(DB 보충): questionId={}", questionId);
+        return new QuestionKey(
+                questionId,
+                correctOption.getQuestion().getQuizId(),
+                correctOption.getId(),
+                correctOption.getQuestion().getAnswerExplanationMd(),
+                correctOption.getQuestion().getHintMd(),
+                correctOption.getQuestion().getTeachingExplainerMd(),
+                correctOption.getQuestion().getSolvingKeypointsMd());
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            reload();
+            current = snapshot;
+        }
+        return current;
+    }
+}
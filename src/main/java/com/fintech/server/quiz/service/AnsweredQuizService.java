@@ -0,0 +1,52 @@
+package com.fintech.server.quiz.service;
+
+import com.fintech.server.quiz.event.AnswerSubmittedEvent;
+import com.fintech.server.quiz.event.QuizRetriedEvent;
+import com.fintech.server.quiz.repository.UserAnswerRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 사용자별 답변한 퀴즈 집합 조회
+ * - 답변한 퀴즈 ID 조회 쿼리 한 번으로 비트셋을 만들고 최근 사용자 기준으로 메모리에 보관
+ * - 답변 제출/다시풀기가 커밋되면 해당 사용자 항목을 무효화
+ */
+@Service
+@Slf4j
+public class AnsweredQuizService {
+
+    private final UserAnswerRepository userAnswerRepository;
+    private final LearningCatalog learningCatalog;
+
+    private final PerUserCache<AnsweredQuizSet> cache;
+
+    public AnsweredQuizService(UserAnswerRepository userAnswerRepository,
+                               LearningCatalog learningCatalog,
+                               @Value("${quiz.answered-quiz-cache.max-users:10000}") int maxUsers) {
+        this.userAnswerRepository = userAnswerRepository;
+        this.learningCatalog = learningCatalog;
+        this.cache = new PerUserCache<>(maxUsers);
+    }
+
+    /**
+     * 사용자가 답변한 퀴즈 집합
+     */
+    public AnsweredQuizSet getAnsweredQuizzes(Long userId) {
+        LearningCatalog.QuizIndex quizIndex = learningCatalog.getQuizIndex();
+        return cache.get(userId, cached -> cached.isBuiltFrom(quizIndex),
+                () -> AnsweredQuizSet.of(quizIndex, userAnswerRepository.findAnsweredQuizIdsByUserId(userId)));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAnswerSubmitted(AnswerSubmittedEvent event) {
+        cache.invalidate(event.userId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQuizRetried(QuizRetriedEvent event) {
+        cache.invalidate(event.userId());
+    }
+}
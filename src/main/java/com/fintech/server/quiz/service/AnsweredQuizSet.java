@@ -0,0 +1,60 @@
+package com.fintech.server.quiz.service;
+
+import java.util.BitSet;
+import java.util.Collection;
+
+/**
+ * 사용자가 답변한 퀴즈 집합 (카탈로그 퀴즈 번호 기준 비트셋)
+ * - 퀴즈 수가 수백 개여도 사용자당 수십 바이트로 레벨/서브섹터/대시보드 화면에서 함께 사용
+ * - 만들 때 사용한 카탈로그 퀴즈 번호를 함께 들고 있어 카탈로그가 다시 구성되어도 조회 결과가 섞이지 않음
+ */
+public final class AnsweredQuizSet {
+
+    private final LearningCatalog.QuizIndex quizIndex;
+    private final BitSet bits;
+
+    private AnsweredQuizSet(LearningCatalog.QuizIndex quizIndex, BitSet bits) {
+        this.quizIndex = quizIndex;
+        this.bits = bits;
+    }
+
+    static AnsweredQuizSet of(LearningCatalog.QuizIndex quizIndex, Collection<Long> quizIds) {
+        BitSet bits = new BitSet(quizIndex.size());
+        for (Long quizId : quizIds) {
+            int ordinal = quizIndex.ordinal(quizId);
+            if (ordinal >= 0) {
+                bits.set(ordinal);
+            }
+        }
+        return new AnsweredQuizSet(quizIndex, bits);
+    }
+
+    public boolean contains(Long quizId) {
+        int ordinal = quizIndex.ordinal(quizId);
+        return ordinal >= 0 && bits.get(ordinal);
+    }
+
+    /**
+     * 주어진 퀴즈 중 답변한 퀴즈 수
+     */
+    public int countIn(Collection<LearningCatalog.QuizNode> quizzes) {
+        int count = 0;
+        for (LearningCatalog.QuizNode quiz : quizzes) {
+            if (contains(quiz.id())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 전체 답변한 퀴즈 수
+     */
+    public int size() {
+        return bits.cardinality();
+    }
+
+    boolean isBuiltFrom(LearningCatalog.QuizIndex index) {
+        return quizIndex == index;
+    }
+}
@@ -0,0 +1,178 @@
+package com.fintech.server.quiz.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.server.quiz.dto.BadgeResponseDto;
+import com.fintech.server.quiz.entity.Badge;
+import com.fintech.server.quiz.repository.BadgeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 배지 규칙 엔진
+ * - 배지 조건(criteria_json, 없으면 required_quizzes/required_correct_answers 컬럼)을 한 번 컴파일해 메모리에 보관
+ * - 평가는 사용자 지표 벡터(UserStatsVector)에 대한 정수 비교만 수행하므로 배지별 조회/저장이 없음
+ * - 조회 API용 배지 목록(레벨 순)도 함께 보관
+ * - 배지 데이터가 바뀌면 reload()로 통째로 교체
+ *
+ * criteria_json 예시 (모든 조건을 만족해야 획득):
+ * [{"metric":"QUIZZES_COMPLETED","min":10},{"metric":"STREAK_DAYS","min":7},
+ *  {"metric":"SECTOR_MASTERY","sectorId":1,"min":50}]
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BadgeRuleEngine {
+
+    private final BadgeRepository badgeRepository;
+    private final ObjectMapper objectMapper;
+
+    private volatile Rules rules;
+
+    /**
+     * 조건 하나 (지표 >= 기준값)
+     */
+    public record Criterion(UserStatsVector.Metric metric, int threshold, Long sectorId) {
+        int actual(UserStatsVector stats) {
+            return metric == UserStatsVector.Metric.SECTOR_MASTERY
+                    ? stats.getSectorMastery(sectorId)
+                    : stats.get(metric);
+        }
+
+        int progress(UserStatsVector stats) {
+            return threshold <= 0 ? 100 : Math.min(100, actual(stats) * 100 / threshold);
+        }
+    }
+
+    /**
+     * 컴파일된 배지 규칙
+     */
+    public record CompiledBadge(Long badgeId, List<Criterion> criteria) {
+        boolean isAchieved(UserStatsVector stats) {
+            for (Criterion criterion : criteria) {
+                if (criterion.actual(stats) < criterion.threshold()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // 조건 중 가장 낮은 진행률
+        int progress(UserStatsVector stats) {
+            int progress = 100;
+            for (Criterion criterion : criteria) {
+                progress = Math.min(progress, criterion.progress(stats));
+            }
+            return progress;
+        }
+    }
+
+    /**
+     * 배지 평가 결과
+     */
+    public record Evaluation(Long badgeId, boolean achieved, int progress) {
+    }
+
+    private record CriterionSpec(String metric, Integer min, Long sectorId) {
+    }
+
+    private record Rules(List<CompiledBadge> badges, Set<UserStatsVector.Metric> requiredMetrics,
+                         List<BadgeResponseDto> catalog) {
+    }
+
+    /**
+     * 배지 테이블을 다시 읽어 규칙을 컴파일하고 교체
+     */
+    public synchronized void reload() {
+        List<CompiledBadge> badges = new ArrayList<>();
+        List<BadgeResponseDto> catalog = new ArrayList<>();
+        Set<UserStatsVector.Metric> requiredMetrics = EnumSet.noneOf(UserStatsVector.Metric.class);
+        for (Badge badge : badgeRepository.findAllByOrderByLevelNumberAsc()) {
+            CompiledBadge compiled = compile(badge);
+            compiled.criteria().forEach(criterion -> requiredMetrics.add(criterion.metric()));
+            badges.add(compiled);
+            catalog.add(BadgeResponseDto.from(badge));
+        }
+        rules = new Rules(Collections.unmodifiableList(badges), Collections.unmodifiableSet(requiredMetrics),
+                Collections.unmodifiableList(catalog));
+        log.info("배지 규칙 컴파일 완료: 배지 {}개, 사용 지표 {}", badges.size(), requiredMetrics);
+    }
+
+    /**
+     * 평가에 필요한 지표 (규칙에서 쓰지 않는 지표는 조회하지 않기 위함)
+     */
+    public Set<UserStatsVector.Metric> getRequiredMetrics() {
+        return current().requiredMetrics();
+    }
+
+    /**
+     * 전체 배지 목록 (레벨 순)
+     */
+    public List<BadgeResponseDto> getBadgeCatalog() {
+        return current().catalog();
+    }
+
+    /**
+     * 모든 배지 평가 (레벨 순)
+     */
+    public List<Evaluation> evaluate(UserStatsVector stats) {
+        List<CompiledBadge> badges = current().badges();
+        List<Evaluation> evaluations = new ArrayList<>(badges.size());
+        for (CompiledBadge badge : badges) {
+            evaluations.add(new Evaluation(badge.badgeId(), badge.isAchieved(stats), badge.progress(stats)));
+        }
+        return evaluations;
+    }
+
+    private CompiledBadge compile(Badge badge) {
+        List<Criterion> criteria = parseCriteria(badge);
+        if (criteria.isEmpty()) {
+            criteria = List.of(
+                    new Criterion(UserStatsVector.Metric.QUIZZES_COMPLETED, badge.getRequiredQuizzes(), null),
+                    new Criterion(UserStatsVector.Metric.CORRECT_ANSWERS, badge.getRequiredCorrectAnswers(), null));
+        }
+        return new CompiledBadge(badge.getId(), criteria);
+    }
+
+    private List<Criterion> parseCriteria(Badge badge) {
+        if (badge.getCriteriaJson() == null || badge.getCriteriaJson().isBlank()) {
+            return List.of();
+        }
+        try {
+            List<CriterionSpec> specs = objectMapper.readValue(badge.getCriteriaJson(),
+                    new TypeReference<List<CriterionSpec>>() {});
+            List<Criterion> criteria = new ArrayList<>(specs.size());
+            for (CriterionSpec spec : specs) {
+                if (spec.metric() == null) {
+                    throw new IllegalArgumentException("metric is required");
+                }
+                UserStatsVector.Metric metric = UserStatsVector.Metric.valueOf(spec.metric());
+                if (metric == UserStatsVector.Metric.SECTOR_MASTERY && spec.sectorId() == null) {
+                    throw new IllegalArgumentException("SECTOR_MASTERY requires sectorId");
+                }
+                criteria.add(new Criterion(metric, spec.min() != null ? spec.min() : 0, spec.sectorId()));
+            }
+            return List.copyOf(criteria);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            log.warn("배지 조건 해석 실패, 기본 컬럼 조건 사용: badgeId={}, 원인={}", badge.getId(), e.getMessage());
+            return List.of();
+        }
+    }
+
+    private Rules current() {
+        Rules current = rules;
+        if (current == null) {
+            reload();
+            current = rules;
+        }
+        return current;
+    }
+}
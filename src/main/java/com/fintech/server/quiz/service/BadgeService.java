@@ -6,19 +6,32 @@ import com.fintech.server.quiz.dto.UserBadgeResponseDto;
 import com.fintech.server.quiz.dto.UserBadgeSummaryDto;
 import com.fintech.server.quiz.entity.Badge;
 import com.fintech.server.quiz.entity.UserBadge;
+import com.fintech.server.quiz.entity.UserLearningStats;
+import com.fintech.server.quiz.entity.UserLevelRollupId;
+import com.fintech.server.quiz.event.BadgeEvaluatedEvent;
+import com.fintech.server.quiz.event.BadgeUpgradedEvent;
 import com.fintech.server.quiz.repository.BadgeRepository;
 import com.fintech.server.quiz.repository.UserBadgeRepository;
-import com.fintech.server.quiz.repository.UserAnswerRepository;
-import com.fintech.server.quiz.repository.UserProgressRepository;
+import com.fintech.server.quiz.repository.UserDashboardRepository;
 import com.fintech.server.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -27,9 +40,14 @@ public class BadgeService {
 
     private final BadgeRepository badgeRepository;
     private final UserBadgeRepository userBadgeRepository;
-    private final UserAnswerRepository userAnswerRepository;
-    private final UserProgressRepository userProgressRepository;
+    private final UserLearningStatsService userLearningStatsService;
     private final UserRepository userRepository;
+    private final BadgeRuleEngine badgeRuleEngine; // 컴파일된 배지 규칙
+    private final LevelCompletionLedger levelCompletionLedger; // 완료 레벨/섹터 숙련도 지표
+    private final UserDashboardRepository userDashboardRepository; // 연속 학습 일수 지표
+    private final LearningCatalog learningCatalog;
+    private final BadgeSnapshotCache badgeSnapshotCache; // 조회용 사용자별 배지 스냅샷
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 사용자의 벳지 진행 상황 업데이트 (필요시에만)
@@ -43,68 +61,81 @@ public class BadgeService {
 
     /**
      * 사용자의 벳지 진행 상황 업데이트 및 displayedBadge 자동 업데이트
+     * 컴파일된 배지 규칙을 사용자 지표 벡터로 평가하고, 획득/해제 상태가 바뀐 배지만 일괄 기록합니다.
      */
     @Transactional
     public void updateUserBadgeProgress(Long userId) {
-        List<Badge> allBadges = badgeRepository.findAllByOrderByLevelNumberAsc();
-        Badge previousHighestBadge = getCurrentBadgeLevel(userId);
+        UserStatsVector stats = buildStatsVector(userId, badgeRuleEngine.getRequiredMetrics(),
+                userLearningStatsService.getStats(userId));
         
-        for (Badge badge : allBadges) {
-            updateBadgeProgress(userId, badge);
+        // 저장된 획득 여부 한 번 조회 (badgeId → isAchieved)
+        Map<Long, Boolean> storedStates = new HashMap<>();
+        for (Object[] row : userBadgeRepository.findBadgeStatesByUserId(userId)) {
+            storedStates.put((Long) row[0], Boolean.TRUE.equals(row[1]));
         }
         
-        // 배지 업그레이드 확인 및 User의 displayedBadge 업데이트
-        Badge currentHighestBadge = getCurrentBadgeLevel(userId);
-        if (previousHighestBadge == null || 
-            (currentHighestBadge != null && !currentHighestBadge.getId().equals(previousHighestBadge.getId()))) {
-            updateUserDisplayedBadge(userId, currentHighestBadge);
+        List<Long> awarded = new ArrayList<>();
+        List<Long> revoked = new ArrayList<>();
+        Map<Long, Integer> progressByBadge = new HashMap<>();
+        for (BadgeRuleEngine.Evaluation evaluation : badgeRuleEngine.evaluate(stats)) {
+            progressByBadge.put(evaluation.badgeId(), evaluation.progress());
+            boolean wasAchieved = storedStates.getOrDefault(evaluation.badgeId(), false);
+            if (evaluation.achieved() && !wasAchieved) {
+                awarded.add(evaluation.badgeId());
+            } else if (!evaluation.achieved() && wasAchieved) {
+                revoked.add(evaluation.badgeId());
+            }
+        }
+        
+        // 커밋 이후 배지 스냅샷 갱신 (상태가 바뀌었으면 다시 구성, 아니면 진행률만 교체)
+        boolean stateChanged = !awarded.isEmpty() || !revoked.isEmpty();
+        eventPublisher.publishEvent(new BadgeEvaluatedEvent(userId, progressByBadge, stateChanged, LocalDateTime.now()));
+        if (!stateChanged) {
+            return;
+        }
+        if (!awarded.isEmpty()) {
+            userBadgeRepository.awardBadges(userId, awarded, LocalDateTime.now(), "quiz_completion");
+            log.info("User {} earned badges: {}", userId, awarded);
+        }
+        if (!revoked.isEmpty()) {
+            userBadgeRepository.revokeBadges(userId, revoked);
+            log.info("User {} badges revoked: {}", userId, revoked);
         }
+        
+        // 배지 상태가 바뀐 경우에만 User의 displayedBadge 업데이트
+        updateUserDisplayedBadge(userId, getCurrentBadgeLevel(userId));
     }
 
     /**
-     * 특정 벳지의 진행 상황 업데이트
+     * 배지 규칙이 사용하는 지표만 채운 사용자 지표 벡터
      */
-    @Transactional
-    public void updateBadgeProgress(Long userId, Badge badge) {
-        // 사용자의 현재 퀴즈 완료 수와 정답 수 계산
-        int completedQuizzes = calculateCompletedQuizzes(userId);
-        int correctAnswers = calculateCorrectAnswers(userId);
-        
-        // 벳지 요구사항 확인
-        boolean isAchieved = completedQuizzes >= badge.getRequiredQuizzes() && 
-                           correctAnswers >= badge.getRequiredCorrectAnswers();
-        
-        // 진행률 계산 (0-100)
-        int progress = calculateProgress(completedQuizzes, correctAnswers, badge);
+    private UserStatsVector buildStatsVector(Long userId, Set<UserStatsVector.Metric> metrics,
+                                             UserLearningStats learningStats) {
+        UserStatsVector stats = new UserStatsVector();
         
-        // 기존 UserBadge 조회 또는 생성
-        Optional<UserBadge> existingUserBadge = userBadgeRepository.findByUser_IdAndBadge_Id(userId, badge.getId());
+        // 누적 집계는 평가 한 번에 한 행만 조회
+        stats.set(UserStatsVector.Metric.QUIZZES_COMPLETED, learningStats.getCompletedQuizzes());
+        stats.set(UserStatsVector.Metric.QUIZZES_PASSED, learningStats.getPassedQuizzes());
+        stats.set(UserStatsVector.Metric.CORRECT_ANSWERS, learningStats.getCorrectAnswers());
         
-        if (existingUserBadge.isPresent()) {
-            UserBadge userBadge = existingUserBadge.get();
-            userBadge.setProgress(progress);
-            userBadge.setIsAchieved(isAchieved);
-            if (isAchieved && !userBadge.getIsAchieved()) {
-                userBadge.setEarnedAt(java.time.LocalDateTime.now());
-                userBadge.setAwardedAt(java.time.LocalDateTime.now());
-                userBadge.setSource("quiz_completion"); // 기본 소스 설정
-                log.info("User {} earned badge: {}", userId, badge.getName());
-            }
-            userBadgeRepository.save(userBadge);
-        } else {
-            UserBadge newUserBadge = new UserBadge();
-            newUserBadge.setUserId(userId);
-            newUserBadge.setBadgeId(badge.getId());
-            newUserBadge.setProgress(progress);
-            newUserBadge.setIsAchieved(isAchieved);
-            if (isAchieved) {
-                newUserBadge.setEarnedAt(java.time.LocalDateTime.now());
-                newUserBadge.setAwardedAt(java.time.LocalDateTime.now());
-                newUserBadge.setSource("quiz_completion"); // 기본 소스 설정
-                log.info("User {} earned badge: {}", userId, badge.getName());
-            }
-            userBadgeRepository.save(newUserBadge);
+        if (metrics.contains(UserStatsVector.Metric.STREAK_DAYS)) {
+            // 대시보드 읽기 모델의 활동 비트맵 기준 (이번 이벤트 묶음의 활동은 다음 평가에 반영)
+            stats.set(UserStatsVector.Metric.STREAK_DAYS, userDashboardRepository.findById(userId)
+                    .map(dashboard -> dashboard.calculateStreak(LocalDate.now()))
+                    .orElse(0));
+        }
+        if (metrics.contains(UserStatsVector.Metric.LEVELS_COMPLETED)) {
+            stats.set(UserStatsVector.Metric.LEVELS_COMPLETED, levelCompletionLedger.countCompletedLevels(userId));
+        }
+        if (metrics.contains(UserStatsVector.Metric.SECTOR_MASTERY)) {
+            levelCompletionLedger.getCompletedLevelsByScope(userId, UserLevelRollupId.Scope.SECTOR)
+                    .forEach((sectorId, completedLevels) -> {
+                        int totalLevels = learningCatalog.countLevelsBySector(sectorId);
+                        stats.setSectorMastery(sectorId,
+                                totalLevels > 0 ? Math.min(100, completedLevels * 100 / totalLevels) : 0);
+                    });
         }
+        return stats;
     }
 
     /**
@@ -129,51 +160,20 @@ public class BadgeService {
     }
 
     /**
-     * 사용자의 모든 벳지 조회
-     */
-    public List<UserBadge> getUserBadges(Long userId) {
-        return userBadgeRepository.findByUser_IdOrderByEarnedAtDesc(userId);
-    }
-
-    /**
-     * 사용자의 획득한 벳지들만 조회
-     */
-    public List<UserBadge> getAchievedBadges(Long userId) {
-        return userBadgeRepository.findByUser_IdAndIsAchievedTrueOrderByEarnedAtDesc(userId);
-    }
-
-    /**
-     * 완료된 퀴즈 수 계산 (UserProgress 테이블 기준)
-     */
-    private int calculateCompletedQuizzes(Long userId) {
-        return userProgressRepository.findByUser_Id(userId).size();
-    }
-
-    /**
-     * 정답 수 계산
+     * 벳지 개수 조회
      */
-    private int calculateCorrectAnswers(Long userId) {
-        return (int) userAnswerRepository.findByUserId(userId).stream()
-                .filter(answer -> answer.isCorrect())
-                .count();
+    public long getBadgeCount() {
+        return badgeRepository.count();
     }
 
     /**
-     * 벳지 진행률 계산
+     * 시작 시 벳지 데이터가 비어 있으면 초기화 (대시보드 조회 시점에 하던 초기화를 옮김)
      */
-    private int calculateProgress(int completedQuizzes, int correctAnswers, Badge badge) {
-        int quizProgress = Math.min(100, (completedQuizzes * 100) / badge.getRequiredQuizzes());
-        int answerProgress = Math.min(100, (correctAnswers * 100) / badge.getRequiredCorrectAnswers());
-        
-        // 두 조건 중 더 낮은 진행률을 반환
-        return Math.min(quizProgress, answerProgress);
-    }
-
-    /**
-     * 벳지 개수 조회
-     */
-    public long getBadgeCount() {
-        return badgeRepository.count();
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeBadgesOnStartup() {
+        if (badgeRepository.count() == 0) {
+            initializeBadges();
+        }
     }
 
     /**
@@ -245,6 +245,8 @@ public class BadgeService {
         master.setRequiredCorrectAnswers(120);
         badgeRepository.save(master);
 
+        badgeRuleEngine.reload();
+        badgeSnapshotCache.invalidateAll();
         log.info("Badge system initialized with 6 levels");
     }
 
@@ -255,82 +257,131 @@ public class BadgeService {
     public void updateUserDisplayedBadge(Long userId, Badge newBadge) {
         User user = userRepository.findById(userId).orElse(null);
         if (user != null) {
+            Badge previousBadge = user.getDisplayedBadge();
             user.setDisplayedBadge(newBadge);
             userRepository.save(user);
             log.info("User {} displayedBadge updated to: {}", userId, newBadge != null ? newBadge.getName() : "null");
+            
+            // 더 높은 등급으로 바뀐 경우에만 승급 알림 (커밋 이후 실시간 스트림으로 전달)
+            if (isUpgrade(previousBadge, newBadge)) {
+                eventPublisher.publishEvent(new BadgeUpgradedEvent(userId, newBadge.getId(), newBadge.getCode(),
+                        newBadge.getName(), newBadge.getLevelNumber(), LocalDateTime.now()));
+            }
+        }
+    }
+
+    private boolean isUpgrade(Badge previousBadge, Badge newBadge) {
+        if (newBadge == null || newBadge.getLevelNumber() == null) {
+            return false;
         }
+        if (previousBadge == null || previousBadge.getLevelNumber() == null) {
+            return true;
+        }
+        return newBadge.getLevelNumber() > previousBadge.getLevelNumber();
     }
 
     // ========== 새로운 API 메서드들 ==========
+    // 조회 API는 배지 상태를 바꾸지 않고 사용자별 배지 스냅샷만 읽습니다. (배지 평가는 학습 이벤트 경로에서만 수행)
+
+    /**
+     * 사용자 배지 스냅샷 (캐시, 없으면 배지 행 조회와 메모리 배지 목록으로 구성)
+     * 미획득 배지의 진행률은 저장하지 않으므로 캐시가 비어 있을 때만 배지 규칙이 쓰는 지표를 함께 읽음
+     */
+    public UserBadgeSnapshot getBadgeSnapshot(Long userId) {
+        return badgeSnapshotCache.get(userId, version -> loadBadgeSnapshot(userId, version));
+    }
 
     /**
      * 사용자 뱃지 요약 정보 조회
      */
     public UserBadgeSummaryDto getUserBadgeSummary(Long userId) {
-        // 뱃지 데이터 초기화 (개발용)
-        initializeBadges();
-        
-        // 사용자의 뱃지 진행 상황 업데이트
-        updateUserBadgeProgress(userId);
-        
-        // 현재 뱃지
-        Badge currentBadge = getCurrentBadgeLevel(userId);
-        BadgeResponseDto currentBadgeResponse = BadgeResponseDto.from(currentBadge);
-        
-        // 다음 뱃지
-        Badge nextBadge = getNextBadgeLevel(userId);
-        BadgeResponseDto nextBadgeResponse = BadgeResponseDto.from(nextBadge);
-        
-        // 모든 뱃지 목록
-        List<UserBadge> allUserBadges = getUserBadges(userId);
-        List<UserBadgeResponseDto> allBadgeResponses = allUserBadges.stream()
-                .map(UserBadgeResponseDto::from)
-                .collect(Collectors.toList());
-        
-        // 획득한 뱃지 목록
-        List<UserBadge> achievedBadges = getAchievedBadges(userId);
-        List<UserBadgeResponseDto> achievedBadgeResponses = achievedBadges.stream()
-                .map(UserBadgeResponseDto::from)
-                .collect(Collectors.toList());
-        
-        return UserBadgeSummaryDto.of(currentBadgeResponse, nextBadgeResponse, allBadgeResponses, achievedBadgeResponses);
+        UserBadgeSnapshot snapshot = getBadgeSnapshot(userId);
+        return UserBadgeSummaryDto.of(snapshot.currentBadge(), snapshot.nextBadge(),
+                snapshot.allBadges(), snapshot.achievedBadges(), snapshot.version());
     }
 
     /**
      * 사용자 현재 뱃지 조회 (ResponseDto)
      */
     public BadgeResponseDto getCurrentBadgeResponse(Long userId) {
-        Badge currentBadge = getCurrentBadgeLevel(userId);
-        return BadgeResponseDto.from(currentBadge);
+        return getBadgeSnapshot(userId).currentBadge();
     }
 
     /**
      * 사용자 획득한 뱃지 목록 조회 (ResponseDto)
      */
     public List<UserBadgeResponseDto> getAchievedBadgeResponses(Long userId) {
-        List<UserBadge> achievedBadges = getAchievedBadges(userId);
-        return achievedBadges.stream()
-                .map(UserBadgeResponseDto::from)
-                .collect(Collectors.toList());
+        return getBadgeSnapshot(userId).achievedBadges();
     }
 
     /**
-     * 사용자 모든 뱃지 목록 조회 (ResponseDto)
+     * 사용자 모든 뱃지 목록 조회 (ResponseDto, 전체 배지를 레벨 순으로 진행률과 함께)
      */
     public List<UserBadgeResponseDto> getAllUserBadgeResponses(Long userId) {
-        List<UserBadge> allUserBadges = getUserBadges(userId);
-        return allUserBadges.stream()
-                .map(UserBadgeResponseDto::from)
-                .collect(Collectors.toList());
+        return getBadgeSnapshot(userId).allBadges();
     }
 
     /**
      * 모든 뱃지 목록 조회 (ResponseDto)
      */
     public List<BadgeResponseDto> getAllBadgeResponses() {
-        List<Badge> allBadges = badgeRepository.findAllByOrderByLevelNumberAsc();
-        return allBadges.stream()
-                .map(BadgeResponseDto::from)
-                .collect(Collectors.toList());
+        return badgeRuleEngine.getBadgeCatalog();
+    }
+
+    /**
+     * 배지 스냅샷 구성
+     * 획득/수여 정보는 사용자 배지 행에서, 미획득 배지의 진행률은 저장된 누적 집계로 계산 (집계 행이 없으면 0)
+     */
+    private UserBadgeSnapshot loadBadgeSnapshot(Long userId, long version) {
+        Map<Long, Object[]> rowsByBadge = new HashMap<>();
+        for (Object[] row : userBadgeRepository.findBadgeRowsByUserId(userId)) {
+            rowsByBadge.put((Long) row[1], row);
+        }
+        
+        Map<Long, Integer> progressByBadge = new HashMap<>();
+        userLearningStatsService.findStats(userId).ifPresent(learningStats ->
+                badgeRuleEngine.evaluate(buildStatsVector(userId, badgeRuleEngine.getRequiredMetrics(), learningStats))
+                        .forEach(evaluation -> progressByBadge.put(evaluation.badgeId(), evaluation.progress())));
+        
+        List<BadgeResponseDto> catalog = badgeRuleEngine.getBadgeCatalog();
+        List<UserBadgeResponseDto> allBadges = new ArrayList<>(catalog.size());
+        List<UserBadgeResponseDto> achievedBadges = new ArrayList<>();
+        BadgeResponseDto currentBadge = null;
+        for (BadgeResponseDto badge : catalog) {
+            Object[] row = rowsByBadge.get(badge.getId());
+            boolean achieved = row != null && Boolean.TRUE.equals(row[2]);
+            UserBadgeResponseDto userBadge = UserBadgeResponseDto.builder()
+                    .id(row != null ? (Long) row[0] : null)
+                    .badge(badge)
+                    .progress(achieved ? 100 : progressByBadge.getOrDefault(badge.getId(), 0))
+                    .isAchieved(achieved)
+                    .earnedAt(achieved ? (LocalDateTime) row[3] : null)
+                    .awardedAt(achieved ? (LocalDateTime) row[4] : null)
+                    .source(achieved ? (String) row[5] : null)
+                    .build();
+            allBadges.add(userBadge);
+            if (achieved) {
+                achievedBadges.add(userBadge);
+                currentBadge = badge; // 레벨 순이므로 마지막으로 획득한 배지가 최고 레벨
+            }
+        }
+        achievedBadges.sort(Comparator.comparing(UserBadgeResponseDto::getEarnedAt,
+                Comparator.nullsLast(Comparator.reverseOrder())));
+        
+        // 현재 배지: 최고 레벨 획득 배지 (없으면 첫 번째 배지), 다음 배지: 그 다음 레벨 번호의 배지
+        int nextLevelNumber = currentBadge != null ? currentBadge.getLevelNumber() + 1 : 1;
+        BadgeResponseDto nextBadge = catalog.stream()
+                .filter(badge -> badge.getLevelNumber() == nextLevelNumber)
+                .findFirst()
+                .orElse(null);
+        if (currentBadge == null) {
+            currentBadge = catalog.stream()
+                    .filter(badge -> badge.getLevelNumber() == 1)
+                    .findFirst()
+                    .orElse(null);
+        }
+        
+        return new UserBadgeSnapshot(version, currentBadge, nextBadge,
+                Collections.unmodifiableList(allBadges), Collections.unmodifiableList(achievedBadges));
     }
 }
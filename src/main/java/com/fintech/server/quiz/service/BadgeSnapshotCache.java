@@ -0,0 +1,50 @@
+package com.fintech.server.quiz.service;
+
+import com.fintech.server.quiz.event.BadgeEvaluatedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+/**
+ * 사용자별 배지 스냅샷 캐시
+ * - 최근 사용자 기준으로 메모리에 보관
+ * - 배지 평가가 커밋되면 획득/해제가 있었던 사용자는 무효화하고, 진행률만 바뀐 사용자는 새 버전으로 교체
+ */
+@Component
+public class BadgeSnapshotCache {
+
+    private final PerUserCache<UserBadgeSnapshot> cache;
+    // 스냅샷 버전 (전체에서 단조 증가)
+    private final AtomicLong versions = new AtomicLong();
+
+    public BadgeSnapshotCache(@Value("${quiz.badge-snapshot-cache.max-users:10000}") int maxUsers) {
+        this.cache = new PerUserCache<>(maxUsers);
+    }
+
+    /**
+     * 캐시된 스냅샷 조회 (없으면 loader로 새 버전을 만들어 보관)
+     */
+    public UserBadgeSnapshot get(Long userId, LongFunction<UserBadgeSnapshot> loader) {
+        return cache.get(userId, () -> loader.apply(versions.incrementAndGet()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBadgeEvaluated(BadgeEvaluatedEvent event) {
+        if (event.stateChanged()) {
+            cache.invalidate(event.userId());
+            return;
+        }
+        cache.update(event.userId(), snapshot -> snapshot.withProgress(versions.incrementAndGet(), event.progressByBadge()));
+    }
+
+    /**
+     * 배지 데이터가 바뀌면 전체 무효화
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
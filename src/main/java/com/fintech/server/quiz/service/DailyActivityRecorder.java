@@ -0,0 +1,125 @@
+package com.fintech.server.quiz.service;
+
+import com.fintech.server.quiz.event.AnswerSubmittedEvent;
+import com.fintech.server.quiz.event.QuizCompletedEvent;
+import com.fintech.server.quiz.repository.UserDailyActivityRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 일별 활동(user_daily_activity) 기록기 (write-behind)
+ * - 커밋된 답변/퀴즈 완료 이벤트를 (사용자, 날짜) 단위로 메모리에서 합산
+ * - 주기적으로 모인 증분을 한 트랜잭션에서 upsert (같은 날 여러 번 풀어도 행 하나만 갱신)
+ * - 반영에 실패한 증분은 다시 합쳐 두었다가 다음 주기에 재시도
+ */
+@Component
+@Slf4j
+public class DailyActivityRecorder {
+
+    private final UserDailyActivityRepository userDailyActivityRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int minutesPerAnswer;
+
+    private final ConcurrentHashMap<Key, Delta> pending = new ConcurrentHashMap<>();
+
+    private final Counter flushedCounter;
+    private final Counter flushFailedCounter;
+
+    private record Key(Long userId, LocalDate activityDate) {
+    }
+
+    private record Delta(int quizzes, int answers, int minutes) {
+        Delta plus(Delta other) {
+            return new Delta(quizzes + other.quizzes, answers + other.answers, minutes + other.minutes);
+        }
+    }
+
+    public DailyActivityRecorder(UserDailyActivityRepository userDailyActivityRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${quiz.activity.minutes-per-answer:5}") int minutesPerAnswer) {
+        this.userDailyActivityRepository = userDailyActivityRepository;
+        this.minutesPerAnswer = minutesPerAnswer;
+
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.flushedCounter = meterRegistry.counter("quiz.activity.flushed");
+        this.flushFailedCounter = meterRegistry.counter("quiz.activity.flush_failed");
+        meterRegistry.gauge("quiz.activity.pending", pending, Map::size);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAnswerSubmitted(AnswerSubmittedEvent event) {
+        record(event.userId(), event.occurredAt().toLocalDate(),
+                new Delta(0, event.answeredCount(), event.answeredCount() * minutesPerAnswer));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQuizCompleted(QuizCompletedEvent event) {
+        record(event.userId(), event.occurredAt().toLocalDate(), new Delta(1, 0, 0));
+    }
+
+    /**
+     * (사용자, 날짜) 단위로 증분 합산 (같은 날 여러 이벤트는 하나로 합쳐짐)
+     */
+    private void record(Long userId, LocalDate activityDate, Delta delta) {
+        pending.merge(new Key(userId, activityDate), delta, Delta::plus);
+    }
+
+    /**
+     * 모인 증분을 일괄 반영
+     */
+    @Scheduled(fixedDelayString = "${quiz.activity.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 반영할 증분을 꺼내는 동안 들어온 이벤트는 다음 주기로 넘어감
+        Map<Key, Delta> batch = new LinkedHashMap<>();
+        for (Key key : pending.keySet()) {
+            Delta delta = pending.remove(key);
+            if (delta != null) {
+                batch.put(key, delta);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> batch.forEach((key, delta) ->
+                    userDailyActivityRepository.upsertActivity(key.userId(), key.activityDate(),
+                            delta.quizzes(), delta.answers(), delta.minutes())));
+            flushedCounter.increment(batch.size());
+        } catch (Exception e) {
+            flushFailedCounter.increment();
+            log.warn("일별 활동 반영 실패, 다음 주기에 재시도: 건수={}, 원인={}", batch.size(), e.getMessage());
+            batch.forEach((key, delta) -> pending.merge(key, delta, Delta::plus));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        if (!pending.isEmpty()) {
+            log.warn("일별 활동 기록기 종료 시 미반영 증분 {}건", pending.size());
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.fintech.server.quiz.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 대시보드 조립기
+ * - DB를 읽는 작업(읽기 모델 로드/최초 생성, DB를 읽는 섹션)은 전용 스레드 풀에서 동시에 실행하고 각자의 시간 예산까지만 기다림
+ * - 이미 읽은 행만으로 만드는 섹션은 요청 스레드에서 바로 계산
+ * - 예산을 넘기거나 실패한 섹션만 비워 둔 채 degradedSections로 알림
+ * - 풀이 가득 차면 요청 스레드에서 직접 실행 (작업을 버려서 섹션이 비는 일은 없음)
+ */
+@Component
+@Slf4j
+public class DashboardComposer {
+
+    private static final String SECTION_TIMEOUT_PREFIX = "quiz.dashboard.section-timeouts.";
+
+    private final ThreadPoolExecutor executor;
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final long defaultTimeoutMillis;
+
+    public DashboardComposer(Environment environment,
+                             MeterRegistry meterRegistry,
+                             @Value("${quiz.dashboard.threads:8}") int threads,
+                             @Value("${quiz.dashboard.queue-capacity:200}") int queueCapacity,
+                             @Value("${quiz.dashboard.section-timeout-ms:300}") long defaultTimeoutMillis) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+        this.defaultTimeoutMillis = defaultTimeoutMillis;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "dashboard-section-" + threadNumber.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        meterRegistry.gauge("quiz.dashboard.executor.queue.size", executor, e -> e.getQueue().size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 대시보드 한 번 조립에 사용할 작업 묶음 생성
+     */
+    public Composition newComposition() {
+        return new Composition();
+    }
+
+    /**
+     * 한 요청의 섹션 계산과 degraded 섹션 기록
+     */
+    public final class Composition {
+
+        private final List<String> degradedSections = new ArrayList<>();
+
+        private Composition() {
+        }
+
+        /**
+         * 전용 풀에서 읽고 시간 예산(section-timeouts.<name>)까지만 기다림
+         * 예산을 넘기면 null (작업은 계속 진행되어 다음 요청에서 사용), 실패하면 예외를 그대로 전달
+         * 읽은 값으로 만드는 섹션이 비게 되므로 호출하는 쪽에서 degradeAll로 알림
+         */
+        public <T> T load(String name, Supplier<T> loader) {
+            CompletableFuture<T> future = CompletableFuture.supplyAsync(() -> timed(name, loader), executor);
+            try {
+                return future.get(timeoutMillis(name), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                countDegraded(name, "timeout");
+                log.warn("대시보드 읽기 시간 초과: section={}", name);
+                return null;
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new IllegalStateException("Dashboard load failed: " + name, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                countDegraded(name, "interrupted");
+                return null;
+            }
+        }
+
+        /**
+         * DB를 읽는 섹션을 전용 풀에서 시작 (시간 예산은 시작 시점부터 계산, 결과는 join으로 받음)
+         */
+        public <T> Forked<T> fork(String name, Supplier<T> builder) {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis(name));
+            return new Forked<>(name, CompletableFuture.supplyAsync(() -> timed(name, builder), executor), deadline);
+        }
+
+        /**
+         * fork로 시작한 섹션 결과를 남은 예산까지만 기다림 (예산 초과/실패면 degraded로 기록하고 null)
+         */
+        public <T> T join(Forked<T> section) {
+            try {
+                return section.future.get(Math.max(0L, section.deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                degrade(section.name, "timeout");
+                log.warn("대시보드 섹션 시간 초과: section={}", section.name);
+                return null;
+            } catch (ExecutionException e) {
+                degrade(section.name, "error");
+                log.warn("대시보드 섹션 계산 실패: section={}, 원인={}", section.name, e.getCause().getMessage());
+                return null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                degrade(section.name, "interrupted");
+                return null;
+            }
+        }
+
+        /**
+         * 요청 스레드에서 섹션 계산 (실패하면 degraded로 기록하고 null)
+         */
+        public <T> T compute(String name, Supplier<T> builder) {
+            try {
+                return timed(name, builder);
+            } catch (RuntimeException e) {
+                degrade(name, "error");
+                log.warn("대시보드 섹션 계산 실패: section={}, 원인={}", name, e.getMessage());
+                return null;
+            }
+        }
+
+        /**
+         * 섹션 전체를 degraded로 기록 (읽기 모델을 예산 안에 읽지 못한 경우)
+         */
+        public void degradeAll(List<String> names) {
+            names.forEach(name -> degrade(name, "unavailable"));
+        }
+
+        /**
+         * 예산 초과/실패로 비워진 섹션 이름 (기록 순서)
+         */
+        public List<String> degradedSections() {
+            return List.copyOf(degradedSections);
+        }
+
+        private void degrade(String name, String reason) {
+            degradedSections.add(name);
+            countDegraded(name, reason);
+        }
+    }
+
+    /**
+     * 전용 풀에서 계산 중인 섹션 (이름, 결과, 예산 마감 시각)
+     */
+    public static final class Forked<T> {
+        private final String name;
+        private final CompletableFuture<T> future;
+        private final long deadlineNanos;
+
+        private Forked(String name, CompletableFuture<T> future, long deadlineNanos) {
+            this.name = name;
+            this.future = future;
+            this.deadlineNanos = deadlineNanos;
+        }
+    }
+
+    private void countDegraded(String name, String reason) {
+        meterRegistry.counter("quiz.dashboard.section.degraded", "section", name, "reason", reason).increment();
+    }
+
+    private long timeoutMillis(String name) {
+        return environment.getProperty(SECTION_TIMEOUT_PREFIX + name, Long.class, defaultTimeoutMillis);
+    }
+
+    private <T> T timed(String name, Supplier<T> loader) {
+        long start = System.nanoTime();
+        try {
+            return loader.get();
+        } finally {
+            meterRegistry.timer("quiz.dashboard.section.duration", "section", name)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package com.fintech.server.quiz.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.server.entity.User;
+import com.fintech.server.quiz.entity.Badge;
+import com.fintech.server.quiz.entity.UserDashboard;
+import com.fintech.server.quiz.event.AnswerSubmittedEvent;
+import com.fintech.server.quiz.event.QuizCompletedEvent;
+import com.fintech.server.quiz.event.QuizRetriedEvent;
+import com.fintech.server.quiz.repository.UserAnswerRepository;
+import com.fintech.server.quiz.repository.UserDashboardRepository;
+import com.fintech.server.quiz.repository.UserProgressRepository;
+import com.fintech.server.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 사용자 대시보드 읽기 모델(user_dashboard) 관리
+ * - 행이 없으면 기존 이력으로 한 번 생성
+ * - 이후에는 학습 이벤트에 담긴 증감으로 활동 비트맵/최근 활동/답변 수/점수/완료·통과 퀴즈 수를 갱신하고,
+ *   현재 레벨 진행 상황은 이벤트가 같은 트랜잭션에서 집계해 온 값으로, 완료 레벨 수는 레벨 완료 기록에서 조회
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardProjectionService {
+
+    static final int RECENT_ACTIVITY_LIMIT = 10;
+    private static final int ACTIVITY_WINDOW_DAYS = 64;
+
+    private final UserDashboardRepository userDashboardRepository;
+    private final UserProgressRepository userProgressRepository;
+    private final UserAnswerRepository userAnswerRepository;
+    private final UserRepository userRepository;
+    private final BadgeService badgeService;
+    private final LearningCatalog learningCatalog;
+    private final LevelCompletionLedger levelCompletionLedger;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 최근 활동 항목 (recent_activities_json에 저장)
+     */
+    public record RecentActivity(String title, Integer score, LocalDateTime activityTime) {
+    }
+
+    /**
+     * 사용자 대시보드 조회 (없으면 생성)
+     */
+    @Transactional
+    public UserDashboard getOrCreate(Long userId) {
+        return userDashboardRepository.findById(userId)
+                .orElseGet(() -> rebuild(userId));
+    }
+
+    /**
+     * 학습 이벤트 반영 (학습 이벤트 파이프라인에서 사용자별로 모아서 호출)
+     */
+    @Transactional
+    public void apply(Long userId, List<Object> events) {
+        Optional<UserDashboard> existing = userDashboardRepository.findById(userId);
+        if (existing.isEmpty()) {
+            // 새로 만들면 이벤트 내용까지 이미 반영된 상태
+            rebuild(userId);
+            return;
+        }
+
+        UserDashboard dashboard = existing.get();
+        List<RecentActivity> recentActivities = readRecentActivities(dashboard);
+        boolean levelsChanged = false;
+
+        for (Object event : events) {
+            if (event instanceof AnswerSubmittedEvent answered) {
+                dashboard.markActive(answered.occurredAt().toLocalDate());
+                dashboard.setTotalAnswers(dashboard.getTotalAnswers() + answered.newAnswerCount());
+                recentActivities.add(0, new RecentActivity(
+                        quizTitle(answered.quizId()),
+                        answered.answeredCount() > 0 ? answered.correctCount() * 100 / answered.answeredCount() : 0,
+                        answered.occurredAt()));
+            } else if (event instanceof QuizCompletedEvent completed) {
+                dashboard.markActive(completed.occurredAt().toLocalDate());
+                applyCompletion(dashboard, completed);
+                levelsChanged = true;
+            } else if (event instanceof QuizRetriedEvent retried) {
+                applyRetry(dashboard, retried);
+                levelsChanged = true;
+            }
+        }
+
+        if (levelsChanged) {
+            // 완료 레벨 수는 레벨 완료 기록에서 바로 조회
+            dashboard.setCompletedLevels(levelCompletionLedger.countCompletedLevels(userId));
+        }
+        applyBadge(dashboard, userId);
+        writeRecentActivities(dashboard, recentActivities);
+        dashboard.setUpdatedAt(LocalDateTime.now());
+        userDashboardRepository.save(dashboard);
+    }
+
+    /**
+     * 최근 활동 목록 (최신순)
+     */
+    public List<RecentActivity> readRecentActivities(UserDashboard dashboard) {
+        if (dashboard.getRecentActivitiesJson() == null || dashboard.getRecentActivitiesJson().isBlank()) {
+            return new ArrayList<>();
+        }
+        try {
+            return new ArrayList<>(objectMapper.readValue(dashboard.getRecentActivitiesJson(),
+                    new TypeReference<List<RecentActivity>>() {}));
+        } catch (JsonProcessingException e) {
+            log.warn("대시보드 최근 활동 파싱 실패: userId={}", dashboard.getUserId(), e);
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * 기존 이력으로 대시보드 행 생성
+     * 요청 스레드(getOrCreate)와 파이프라인(apply)이 동시에 만들 수 있으므로 빈 행을 INSERT IGNORE로 확보한 뒤 잠금 조회로 채움
+     */
+    private UserDashboard rebuild(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
+
+        userDashboardRepository.insertIfAbsent(userId, LocalDateTime.now());
+        UserDashboard dashboard = userDashboardRepository.findForUpdateByUserId(userId)
+                .orElseThrow(() -> new RuntimeException("Dashboard not found with id: " + userId));
+        // 먼저 만든 트랜잭션이 채운 값이 있어도 이력으로 다시 계산
+        dashboard.setLastActiveDate(null);
+        dashboard.setActivityBitmap(0L);
+        dashboard.setNickname(user.getNickname());
+        dashboard.setTotalAnswers((int) userAnswerRepository.countByUserId(userId));
+
+        // 최근 64일 활동일
+        LocalDate today = LocalDate.now();
+        LocalDateTime since = today.minusDays(ACTIVITY_WINDOW_DAYS - 1).atStartOfDay();
+        userAnswerRepository.findAnswerDatesSince(userId, since).stream()
+                .map(this::toLocalDate)
+                .sorted()
+                .forEach(dashboard::markActive);
+
+        // 최근 7일 활동 (최신순 최대 10개)
+        List<RecentActivity> recentActivities = new ArrayList<>();
+        for (Object[] row : userAnswerRepository.findRecentAnswerSummaries(
+                userId, LocalDateTime.now().minusDays(7), PageRequest.of(0, RECENT_ACTIVITY_LIMIT))) {
+            recentActivities.add(new RecentActivity(
+                    quizTitle((Long) row[0]),
+                    Boolean.TRUE.equals(row[1]) ? 100 : 0,
+                    (LocalDateTime) row[2]));
+        }
+        writeRecentActivities(dashboard, recentActivities);
+
+        applyProgressSummary(dashboard, userId);
+        applyBadge(dashboard, userId);
+        dashboard.setUpdatedAt(LocalDateTime.now());
+
+        log.info("대시보드 읽기 모델 생성: userId={}", userId);
+        return userDashboardRepository.save(dashboard);
+    }
+
+    /**
+     * 진행 기록 요약 한 번으로 점수/완료 퀴즈/현재 레벨 계산 (행을 처음 만들 때만 사용, 사용자/퀴즈당 한 행), 완료 레벨은 레벨 완료 기록 기준
+     */
+    private void applyProgressSummary(UserDashboard dashboard, Long userId) {
+        int totalScore = 0;
+        int completedQuizzes = 0;
+        int passedQuizzes = 0;
+        Map<Long, int[]> completedAndCorrectByLevel = new HashMap<>();
+        Map<Long, LocalDateTime> startedAtByLevel = new HashMap<>();
+        Long currentLevelId = null;
+        LocalDateTime latestFinishedAt = null;
+
+        for (Object[] row : userProgressRepository.findProgressSummariesByUserId(userId)) {
+            Long quizId = (Long) row[0];
+            int score = row[1] != null ? (Integer) row[1] : 0;
+            boolean passed = Boolean.TRUE.equals(row[2]);
+            LocalDateTime startedAt = (LocalDateTime) row[3];
+            LocalDateTime finishedAt = (LocalDateTime) row[4];
+
+            if (passed) {
+                passedQuizzes++;
+            }
+            if (finishedAt == null) {
+                continue;
+            }
+            totalScore += score;
+            completedQuizzes++;
+
+            Optional<LearningCatalog.QuizNode> quiz = learningCatalog.findQuiz(quizId);
+            if (quiz.isEmpty()) {
+                continue;
+            }
+            Long levelId = quiz.get().levelId();
+            int[] counts = completedAndCorrectByLevel.computeIfAbsent(levelId, id -> new int[2]);
+            counts[0]++;
+            counts[1] += score;
+            if (startedAt != null) {
+                startedAtByLevel.merge(levelId, startedAt, (a, b) -> a.isBefore(b) ? a : b);
+            }
+            if (latestFinishedAt == null || finishedAt.isAfter(latestFinishedAt)) {
+                latestFinishedAt = finishedAt;
+                currentLevelId = levelId;
+            }
+        }
+
+        // 완료 레벨 수는 레벨 완료 기록에서 바로 조회
+        int completedLevels = levelCompletionLedger.countCompletedLevels(userId);
+
+        dashboard.setTotalScore(totalScore);
+        dashboard.setCompletedQuizzes(completedQuizzes);
+        dashboard.setPassedQuizzes(passedQuizzes);
+        dashboard.setCompletedLevels(completedLevels);
+        dashboard.setCurrentLevelId(currentLevelId);
+        int[] currentCounts = currentLevelId != null ? completedAndCorrectByLevel.get(currentLevelId) : new int[2];
+        dashboard.setCurrentLevelCompleted(currentCounts[0]);
+        dashboard.setCurrentLevelCorrect(currentCounts[1]);
+        dashboard.setCurrentLevelStartedAt(currentLevelId != null ? startedAtByLevel.get(currentLevelId) : null);
+    }
+
+    /**
+     * 퀴즈 완료 증감 반영 (다시 완료한 퀴즈는 이전 점수/통과 여부를 빼고 더함)
+     * 완료한 퀴즈의 레벨이 현재 레벨이 되고, 레벨 진행 상황은 이벤트에 담긴 값으로 교체
+     */
+    private void applyCompletion(UserDashboard dashboard, QuizCompletedEvent completed) {
+        boolean firstCompletion = completed.previousScore() == null;
+        int previousScore = firstCompletion ? 0 : completed.previousScore();
+
+        dashboard.setTotalScore(dashboard.getTotalScore() + completed.score() - previousScore);
+        dashboard.setCompletedQuizzes(dashboard.getCompletedQuizzes() + (firstCompletion ? 1 : 0));
+        dashboard.setPassedQuizzes(dashboard.getPassedQuizzes()
+                + (completed.passed() ? 1 : 0) - (completed.wasPassed() ? 1 : 0));
+        applyCurrentLevel(dashboard, completed.levelProgress());
+    }
+
+    /**
+     * 다시풀기 증감 반영 (삭제된 완료 기록과 답변만큼 차감)
+     * 다시 푸는 퀴즈가 현재 레벨이면 레벨 진행 상황을 이벤트에 담긴 값으로 교체
+     */
+    private void applyRetry(UserDashboard dashboard, QuizRetriedEvent retried) {
+        if (retried.removedScore() != null) {
+            dashboard.setTotalScore(dashboard.getTotalScore() - retried.removedScore());
+            dashboard.setCompletedQuizzes(dashboard.getCompletedQuizzes() - 1);
+        }
+        if (retried.removedPass()) {
+            dashboard.setPassedQuizzes(dashboard.getPassedQuizzes() - 1);
+        }
+        dashboard.setTotalAnswers(Math.max(0, dashboard.getTotalAnswers() - retried.removedAnswers()));
+
+        QuizCompletedEvent.LevelProgress levelProgress = retried.levelProgress();
+        if (levelProgress != null && levelProgress.levelId().equals(dashboard.getCurrentLevelId())) {
+            applyCurrentLevel(dashboard, levelProgress);
+        }
+    }
+
+    private void applyCurrentLevel(UserDashboard dashboard, QuizCompletedEvent.LevelProgress levelProgress) {
+        if (levelProgress == null) {
+            return;
+        }
+        dashboard.setCurrentLevelId(levelProgress.levelId());
+        dashboard.setCurrentLevelCompleted(levelProgress.completedQuizzes());
+        dashboard.setCurrentLevelCorrect(levelProgress.correctAnswers());
+        dashboard.setCurrentLevelStartedAt(levelProgress.startedAt());
+    }
+
+    private void applyBadge(UserDashboard dashboard, Long userId) {
+        Badge badge = badgeService.getCurrentBadgeLevel(userId);
+        dashboard.setBadgeTitle(badge != null ? badge.getName() : null);
+        dashboard.setBadgeLevelNumber(badge != null ? badge.getLevelNumber() : null);
+    }
+
+    private void writeRecentActivities(UserDashboard dashboard, List<RecentActivity> recentActivities) {
+        List<RecentActivity> ring = recentActivities.size() > RECENT_ACTIVITY_LIMIT
+                ? recentActivities.subList(0, RECENT_ACTIVITY_LIMIT)
+                : recentActivities;
+        try {
+            dashboard.setRecentActivitiesJson(objectMapper.writeValueAsString(ring));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize recent activities for user id: " + dashboard.getUserId(), e);
+        }
+    }
+
+    private String quizTitle(Long quizId) {
+        return learningCatalog.findQuiz(quizId).map(LearningCatalog.QuizNode::title).orElse(null);
+    }
+
+    private LocalDate toLocalDate(Object value) {
+        if (value instanceof LocalDate localDate) {
+            return localDate;
+        }
+        return ((java.sql.Date) value).toLocalDate();
+    }
+}
@@ -1,17 +1,9 @@
 package com.fintech.server.quiz.service;
 
-import com.fintech.server.entity.User;
 import com.fintech.server.quiz.dto.DashboardDto;
-import com.fintech.server.quiz.dto.LevelProgressDto;
-import com.fintech.server.quiz.entity.Level;
-import com.fintech.server.quiz.entity.Quiz;
-import com.fintech.server.quiz.entity.UserAnswer;
 import com.fintech.server.quiz.entity.UserDailyActivity;
-import com.fintech.server.quiz.repository.LevelRepository;
-import com.fintech.server.quiz.repository.UserAnswerRepository;
+import com.fintech.server.quiz.entity.UserDashboard;
 import com.fintech.server.quiz.repository.UserDailyActivityRepository;
-import com.fintech.server.quiz.entity.Badge;
-import com.fintech.server.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -19,8 +11,9 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,279 +21,198 @@ import java.util.stream.Collectors;
 @Slf4j
 public class DashboardService {
 
-    private final UserRepository userRepository;
-    private final LevelRepository levelRepository;
-    private final UserAnswerRepository userAnswerRepository;
-    private final UserDailyActivityRepository userDailyActivityRepository;
-    private final LevelService levelService;
-    private final BadgeService badgeService;
-    private final QuizService quizService;
+    private final DashboardProjectionService dashboardProjectionService; // 사용자별 대시보드 읽기 모델
+    private final LearningCatalog learningCatalog; // 레벨/퀴즈 메모리 카탈로그
+    private final DashboardComposer dashboardComposer; // 읽기 모델 시간 예산 + 섹션 조립
+    private final UserDailyActivityRepository userDailyActivityRepository; // 일별 활동 집계
+    private final LevelCompletionLedger levelCompletionLedger; // 레벨 완료 기록 (다음 레벨 해금 판단)
+
+    private static final List<String> SECTIONS = List.of("userInfo", "learningStats", "weeklyProgress",
+            "recentActivities", "nextLevelRecommendation", "currentLevelSession");
 
     /**
      * 사용자 대시보드 조회
+     * 읽기 모델(user_dashboard) 한 행을 시간 예산 안에서 읽은 뒤(없으면 생성) 여섯 섹션을 조립합니다.
+     * - DB를 읽는 섹션(주간 현황: 일별 활동 기간 조회, 다음 레벨 추천: 레벨 완료 기록 조회)은 전용 풀에서 동시에, 섹션별 예산 안에서 계산
+     * - 읽기 모델과 메모리 카탈로그만 쓰는 나머지 섹션은 그동안 요청 스레드에서 계산
+     * 읽기 모델을 예산 안에 읽지 못하면 모든 섹션을, 예산을 넘기거나 계산에 실패한 섹션은 해당 섹션만 비워 두고
+     * degradedSections에 이름을 담아 반환합니다.
      */
     public DashboardDto getUserDashboard(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
+        DashboardComposer.Composition composition = dashboardComposer.newComposition();
+
+        UserDashboard dashboard = composition.load("projection", () -> dashboardProjectionService.getOrCreate(userId));
+        if (dashboard == null) {
+            composition.degradeAll(SECTIONS);
+            return DashboardDto.builder()
+                    .degradedSections(composition.degradedSections())
+                    .build();
+        }
+
+        // DB를 읽는 섹션은 먼저 풀에서 시작
+        DashboardComposer.Forked<List<DashboardDto.WeeklyProgressDto>> weeklyProgress =
+                composition.fork("weeklyProgress", () -> getWeeklyProgress(dashboard));
+        DashboardComposer.Forked<DashboardDto.NextLevelRecommendationDto> nextLevelRecommendation =
+                composition.fork("nextLevelRecommendation", () -> getNextLevelRecommendation(dashboard));
 
-        // 사용자 기본 정보
-        DashboardDto.UserInfoDto userInfo = getUserInfo(user, userId);
-        
-        // 학습 통계
-        DashboardDto.LearningStatsDto learningStats = getLearningStats(userId);
-        
-        // 주간 진행 현황
-        List<DashboardDto.WeeklyProgressDto> weeklyProgress = getWeeklyProgress(userId);
-        
-        // 최근 활동
-        List<DashboardDto.RecentActivityDto> recentActivities = getRecentActivities(userId);
-        
-        // 다음 레벨 추천
-        DashboardDto.NextLevelRecommendationDto nextLevelRecommendation = getNextLevelRecommendation(userId);
-        
-        // 현재 진행 중인 레벨
-        DashboardDto.CurrentLevelSessionDto currentLevelSession = getCurrentLevelSession(userId);
+        DashboardDto.UserInfoDto userInfo = composition.compute("userInfo", () -> getUserInfo(dashboard));
+        DashboardDto.LearningStatsDto learningStats = composition.compute("learningStats", () -> getLearningStats(dashboard));
+        List<DashboardDto.RecentActivityDto> recentActivities =
+                composition.compute("recentActivities", () -> getRecentActivities(dashboard));
+        DashboardDto.CurrentLevelSessionDto currentLevelSession =
+                composition.compute("currentLevelSession", () -> getCurrentLevelSession(dashboard));
 
         return DashboardDto.builder()
                 .userInfo(userInfo)
                 .learningStats(learningStats)
-                .weeklyProgress(weeklyProgress)
+                .weeklyProgress(composition.join(weeklyProgress))
                 .recentActivities(recentActivities)
-                .nextLevelRecommendation(nextLevelRecommendation)
+                .nextLevelRecommendation(composition.join(nextLevelRecommendation))
                 .currentLevelSession(currentLevelSession)
+                .degradedSections(composition.degradedSections())
                 .build();
     }
 
-    private DashboardDto.UserInfoDto getUserInfo(User user, Long userId) {
-        // 벳지 시스템을 사용한 현재 레벨 계산
-        String currentLevelTitle = "레벨 없음";
-        Integer currentLevelNumber = 0;
-        
-        // 벳지 데이터 초기화는 한 번만 실행 (이미 초기화되었는지 확인)
-        if (badgeService.getBadgeCount() == 0) {
-            badgeService.initializeBadges();
-        }
-        
-        // 사용자의 벳지 진행 상황 업데이트 (필요시에만)
-        badgeService.updateUserBadgeProgressIfNeeded(userId);
-        
-        // 현재 벳지 레벨 조회
-        Badge currentBadge = badgeService.getCurrentBadgeLevel(userId);
-        
-        if (currentBadge != null) {
-            currentLevelTitle = currentBadge.getName();
-            currentLevelNumber = currentBadge.getLevelNumber();
-        }
-
-        // 스트릭 계산 - 연속 학습 일수
-        int streak = calculateStreak(userId);
-
-        // 총 점수 계산 - 실제 퀴즈 점수 합계
-        int totalScore = calculateTotalScore(userId);
+    private DashboardDto.UserInfoDto getUserInfo(UserDashboard dashboard) {
+        // 배지 시스템 기준 현재 레벨 (배지 평가 시 읽기 모델에 함께 반영됨)
+        String currentLevelTitle = dashboard.getBadgeTitle() != null ? dashboard.getBadgeTitle() : "레벨 없음";
+        Integer currentLevelNumber = dashboard.getBadgeLevelNumber() != null ? dashboard.getBadgeLevelNumber() : 0;
 
         return DashboardDto.UserInfoDto.builder()
-                .userId(user.getId())
-                .nickname(user.getNickname())
+                .userId(dashboard.getUserId())
+                .nickname(dashboard.getNickname())
                 .currentLevelTitle(currentLevelTitle)
                 .currentLevelNumber(currentLevelNumber)
-                .streak(streak)
-                .totalScore(totalScore)
+                .streak(dashboard.calculateStreak(LocalDate.now()))
+                .totalScore(dashboard.getTotalScore())
                 .build();
     }
 
-    private DashboardDto.LearningStatsDto getLearningStats(Long userId) {
-        // 실제 계산 메서드들 사용
-        int totalLevelsCompleted = calculateCompletedLevels(userId);
-        int totalQuizzesCompleted = calculateCompletedQuizzes(userId);
-        int totalQuestionsAnswered = userAnswerRepository.findByUserId(userId).size();
-        int totalMinutesSpent = calculateTotalMinutesSpent(userId);
-        double averageScore = calculateAverageScore(userId);
+    private DashboardDto.LearningStatsDto getLearningStats(UserDashboard dashboard) {
+        int completedQuizzes = dashboard.getCompletedQuizzes();
+        double averageScore = completedQuizzes > 0 ? (double) dashboard.getTotalScore() / completedQuizzes : 0.0;
 
         return DashboardDto.LearningStatsDto.builder()
-                .totalLevelsCompleted(totalLevelsCompleted)
-                .totalQuizzesCompleted(totalQuizzesCompleted)
-                .totalQuestionsAnswered(totalQuestionsAnswered)
-                .totalMinutesSpent(totalMinutesSpent)
+                .totalLevelsCompleted(dashboard.getCompletedLevels())
+                .totalQuizzesCompleted(completedQuizzes)
+                .totalQuestionsAnswered(dashboard.getTotalAnswers())
+                // TODO: 실제 소요 시간 계산 로직 필요 (현재는 임시로 답변당 5분)
+                .totalMinutesSpent(dashboard.getTotalAnswers() * 5)
                 .averageScore(averageScore)
                 .build();
     }
 
-    private List<DashboardDto.WeeklyProgressDto> getWeeklyProgress(Long userId) {
+    private List<DashboardDto.WeeklyProgressDto> getWeeklyProgress(UserDashboard dashboard) {
         LocalDate today = LocalDate.now();
         LocalDate weekStart = today.minusDays(today.getDayOfWeek().getValue() - 1);
-        
+
+        // 이번 주 일별 활동 집계 (기간 조회 한 번)
+        Map<LocalDate, UserDailyActivity> activityByDate = userDailyActivityRepository
+                .findByIdUserIdAndIdActivityDateBetween(dashboard.getUserId(), weekStart, weekStart.plusDays(6)).stream()
+                .collect(Collectors.toMap(UserDailyActivity::getActivityDate, Function.identity()));
+
         List<DashboardDto.WeeklyProgressDto> weeklyProgress = new ArrayList<>();
-        
+
         for (int i = 0; i < 7; i++) {
             LocalDate date = weekStart.plusDays(i);
-            boolean completed = hasUserActivityOnDate(userId, date);
-            
+            UserDailyActivity activity = activityByDate.get(date);
+            // 일별 집계는 주기적으로 반영되므로 방금 한 활동은 읽기 모델의 활동 비트맵으로 보완
+            boolean completed = activity != null || dashboard.isActiveOn(date);
+
             weeklyProgress.add(DashboardDto.WeeklyProgressDto.builder()
                     .dayOfMonth(date.getDayOfMonth())
                     .completed(completed)
-                    .minutesSpent(completed ? 30 : 0) // 임시
-                    .quizzesCompleted(completed ? 2 : 0) // 임시
+                    .minutesSpent(activity != null ? activity.getMinutesSpent() : 0)
+                    .quizzesCompleted(activity != null ? activity.getQuizzesCompleted() : 0)
                     .build());
         }
-        
-        return weeklyProgress;
-    }
 
-    private boolean hasUserActivityOnDate(Long userId, LocalDate date) {
-        // 해당 날짜에 사용자 활동이 있는지 확인
-        return userAnswerRepository.findByUserId(userId).stream()
-                .anyMatch(answer -> answer.getAnsweredAt().toLocalDate().equals(date));
+        return weeklyProgress;
     }
 
-    private List<DashboardDto.RecentActivityDto> getRecentActivities(Long userId) {
-        // 최근 활동 데이터 조회 - 최근 7일간의 활동
+    private List<DashboardDto.RecentActivityDto> getRecentActivities(UserDashboard dashboard) {
+        // 최근 7일간의 활동
         LocalDateTime sevenDaysAgo = LocalDateTime.now().minusDays(7);
-        
-        List<UserAnswer> recentAnswers = userAnswerRepository.findByUserId(userId).stream()
-                .filter(answer -> answer.getAnsweredAt().isAfter(sevenDaysAgo))
-                .sorted(Comparator.comparing(UserAnswer::getAnsweredAt).reversed())
-                .limit(10)
-                .collect(Collectors.toList());
 
-        return recentAnswers.stream()
-                .map(answer -> {
-                    Quiz quiz = answer.getQuestion().getQuiz();
-                    return DashboardDto.RecentActivityDto.builder()
-                            .type("QUIZ_COMPLETED")
-                            .title(quiz.getTitle())
-                            .score(answer.isCorrect() ? 100 : 0)
-                            .activityTime(answer.getAnsweredAt())
-                            .build();
-                })
+        return dashboardProjectionService.readRecentActivities(dashboard).stream()
+                .filter(activity -> activity.activityTime() != null && activity.activityTime().isAfter(sevenDaysAgo))
+                .map(activity -> DashboardDto.RecentActivityDto.builder()
+                        .type("QUIZ_COMPLETED")
+                        .title(activity.title())
+                        .score(activity.score())
+                        .activityTime(activity.activityTime())
+                        .build())
                 .collect(Collectors.toList());
     }
 
-    private DashboardDto.NextLevelRecommendationDto getNextLevelRecommendation(Long userId) {
-        // 현재 진행 중인 레벨 확인
-        Level currentLevel = levelRepository.findById(1L).orElse(null); // 임시
-        
-        if (currentLevel != null) {
-            return DashboardDto.NextLevelRecommendationDto.builder()
-                    .levelId(currentLevel.getId())
-                    .levelTitle(currentLevel.getTitle())
-                    .subsectorName(currentLevel.getSubsector().getName())
-                    .reason("현재 레벨 진행 중")
-                    .progressPercentage(50)
-                    .remainingQuizzes(2)
-                    .difficulty("EASY")
-                    .estimatedTime(30)
-                    .learningGoal(currentLevel.getLearningGoal())
-                    .build();
-        }
-        
-        return null;
-    }
-
-    private DashboardDto.CurrentLevelSessionDto getCurrentLevelSession(Long userId) {
-        // 현재 진행 중인 레벨 세션 조회
-        try {
-            LevelProgressDto progress = levelService.getLevelProgress(1L, userId, 1L); // 임시 (subsectorId 추가)
-            
-            return DashboardDto.CurrentLevelSessionDto.builder()
-                    .sessionId("level_" + progress.getLevelId() + "_" + userId)
-                    .levelId(progress.getLevelId())
-                    .levelTitle(progress.getLevelTitle())
-                    .subsectorName(progress.getSubsectorName())
-                    .startedAt(progress.getStartedAt() != null ? progress.getStartedAt().toString() : null)
-                    .timeLimit(progress.getTimeLimit())
-                    .timeRemaining(progress.getTimeLimit() - progress.getTimeSpent())
-                    .currentQuizIndex(progress.getCompletedQuizzes())
-                    .completedQuizzes(progress.getCompletedQuizzes())
-                    .correctAnswers(progress.getCorrectAnswers())
-                    .remainingToPass(progress.getRemainingToPass())
-                    .status(progress.getStatus().name())
-                    .build();
-        } catch (Exception e) {
-            log.warn("Failed to get current level session for user: {}", userId, e);
+    private DashboardDto.NextLevelRecommendationDto getNextLevelRecommendation(UserDashboard dashboard) {
+        LearningCatalog.LevelNode currentLevel = currentLevel(dashboard);
+        if (currentLevel == null) {
             return null;
         }
-    }
 
-    // 실제 계산 메서드들
-    private int calculateStreak(Long userId) {
-        // 연속 학습 일수 계산
-        List<UserDailyActivity> activities = userDailyActivityRepository.findByIdUserIdOrderByIdActivityDateDesc(userId);
-        if (activities.isEmpty()) {
-            return 0;
-        }
-
-        int streak = 0;
-        LocalDate currentDate = LocalDate.now();
-        
-        for (UserDailyActivity activity : activities) {
-            if (activity.getActivityDate().equals(currentDate) || 
-                activity.getActivityDate().equals(currentDate.minusDays(streak))) {
-                streak++;
-                currentDate = currentDate.minusDays(1);
-            } else {
-                break;
-            }
-        }
-        
-        return streak;
+        // 현재 레벨을 통과했으면(레벨 완료 기록 조회) 같은 서브섹터의 다음 레벨, 아니면 현재 레벨 추천
+        boolean currentLevelCompleted = levelCompletionLedger.isCompleted(dashboard.getUserId(), currentLevel.id());
+        LearningCatalog.LevelNode recommended = currentLevelCompleted
+                ? learningCatalog.findNextLevel(currentLevel.id()).orElse(currentLevel)
+                : currentLevel;
+        int completed = isCurrentLevel(dashboard, recommended) ? dashboard.getCurrentLevelCompleted() : 0;
+        int totalQuizzes = recommended.quizCount();
+
+        return DashboardDto.NextLevelRecommendationDto.builder()
+                .levelId(recommended.id())
+                .levelTitle(recommended.title())
+                .subsectorName(learningCatalog.getSubsector(recommended.subsectorId()).name())
+                .reason(recommended != currentLevel ? "현재 레벨 완료" : "현재 레벨 진행 중")
+                .progressPercentage(totalQuizzes > 0 ? Math.min(100, completed * 100 / totalQuizzes) : 0)
+                .remainingQuizzes(Math.max(0, totalQuizzes - completed))
+                .difficulty("EASY")
+                .estimatedTime(30)
+                .learningGoal(recommended.learningGoal())
+                .build();
     }
 
-    private int calculateTotalScore(Long userId) {
-        // QuizService의 정확한 총점수 계산 사용 (중복 제거 포함)
-        try {
-            java.util.Map<String, Object> scoreData = quizService.getUserTotalScore(userId);
-            return (Integer) scoreData.get("totalScore");
-        } catch (Exception e) {
-            log.warn("Failed to get total score from QuizService for user: {}", userId, e);
-            return 0;
+    private DashboardDto.CurrentLevelSessionDto getCurrentLevelSession(UserDashboard dashboard) {
+        LearningCatalog.LevelNode level = currentLevel(dashboard);
+        if (level == null) {
+            return null;
         }
-    }
 
-    private int calculateCompletedLevels(Long userId) {
-        // 완료된 레벨 수 계산
-        List<Level> allLevels = levelRepository.findAll();
-        int completedLevels = 0;
-        
-        for (Level level : allLevels) {
-            try {
-                LevelProgressDto progress = levelService.getLevelProgress(level.getId(), userId, level.getSubsector().getId());
-                if (progress.getStatus() == LevelProgressDto.LevelStatus.COMPLETED && progress.isLevelPassed()) {
-                    completedLevels++;
-                }
-            } catch (Exception e) {
-                // 레벨 진행 상황을 가져올 수 없는 경우 무시
-            }
-        }
-        
-        return completedLevels;
+        boolean started = isCurrentLevel(dashboard, level);
+        int completedQuizzes = started ? dashboard.getCurrentLevelCompleted() : 0;
+        int correctAnswers = started ? dashboard.getCurrentLevelCorrect() : 0;
+        int timeLimit = LevelService.QUESTIONS_PER_LEVEL * 15 * 60; // 4문제 × 15분
+        int timeSpent = completedQuizzes * 300; // 완료된 퀴즈 수 × 5분
+
+        return DashboardDto.CurrentLevelSessionDto.builder()
+                .sessionId("level_" + level.id() + "_" + dashboard.getUserId())
+                .levelId(level.id())
+                .levelTitle(level.title())
+                .subsectorName(learningCatalog.getSubsector(level.subsectorId()).name())
+                .startedAt(started && dashboard.getCurrentLevelStartedAt() != null
+                        ? dashboard.getCurrentLevelStartedAt().toString() : null)
+                .timeLimit(timeLimit)
+                .timeRemaining(timeLimit - timeSpent)
+                .currentQuizIndex(completedQuizzes)
+                .completedQuizzes(completedQuizzes)
+                .correctAnswers(correctAnswers)
+                .remainingToPass(Math.max(0, LevelService.PASS_SCORE - correctAnswers))
+                .status(LevelService.determineLevelStatus(completedQuizzes, correctAnswers).name())
+                .build();
     }
 
-    private int calculateCompletedQuizzes(Long userId) {
-        // QuizService의 정확한 완료된 퀴즈 수 계산 사용 (중복 제거 포함)
-        try {
-            java.util.Map<String, Object> scoreData = quizService.getUserTotalScore(userId);
-            return (Integer) scoreData.get("completedQuizzes");
-        } catch (Exception e) {
-            log.warn("Failed to get completed quizzes from QuizService for user: {}", userId, e);
-            return 0;
+    /**
+     * 현재 레벨 (최근 완료한 퀴즈의 레벨, 기록이 없으면 카탈로그의 첫 레벨)
+     */
+    private LearningCatalog.LevelNode currentLevel(UserDashboard dashboard) {
+        if (dashboard.getCurrentLevelId() != null) {
+            return learningCatalog.findLevel(dashboard.getCurrentLevelId()).orElse(null);
         }
+        List<LearningCatalog.LevelNode> levels = learningCatalog.getAllLevels();
+        return levels.isEmpty() ? null : levels.get(0);
     }
 
-    private int calculateTotalMinutesSpent(Long userId) {
-        // 총 학습 시간 계산 (분)
-        List<UserAnswer> userAnswers = userAnswerRepository.findByUserId(userId);
-        // TODO: 실제 소요 시간 계산 로직 필요 (현재는 임시로 5분씩)
-        return userAnswers.size() * 5;
-    }
-
-    private double calculateAverageScore(Long userId) {
-        // QuizService의 정확한 평균 점수 계산 사용 (중복 제거 포함)
-        try {
-            java.util.Map<String, Object> scoreData = quizService.getUserTotalScore(userId);
-            return (Double) scoreData.get("averageScore");
-        } catch (Exception e) {
-            log.warn("Failed to get average score from QuizService for user: {}", userId, e);
-            return 0.0;
-        }
+    private boolean isCurrentLevel(UserDashboard dashboard, LearningCatalog.LevelNode level) {
+        return level.id().equals(dashboard.getCurrentLevelId());
     }
 }
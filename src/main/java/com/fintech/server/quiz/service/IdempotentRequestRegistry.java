@@ -0,0 +1,92 @@
+package com.fintech.server.quiz.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 멱등 요청 처리기 (Idempotency-Key 헤더)
+ * - 같은 범위(scope)와 키로 다시 들어온 요청은 처음 요청의 결과를 그대로 돌려줌
+ * - 처음 요청이 아직 처리 중이면 끝날 때까지 기다렸다가 같은 결과를 받음
+ * - 실패한 요청은 기록하지 않으므로 같은 키로 재시도 가능
+ * - 결과는 정해진 시간(quiz.idempotency.ttl-seconds) 동안만 보관
+ */
+@Component
+@Slf4j
+public class IdempotentRequestRegistry {
+
+    private final long ttlNanos;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private record Entry(CompletableFuture<Object> result, long createdAtNanos) {
+    }
+
+    public IdempotentRequestRegistry(@Value("${quiz.idempotency.ttl-seconds:600}") long ttlSeconds) {
+        this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+    }
+
+    /**
+     * 키가 없으면 바로 실행, 있으면 범위+키당 한 번만 실행
+     * action은 트랜잭션 밖에서 호출해야 커밋된 결과만 기록됨
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String scope, String idempotencyKey, Supplier<T> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+
+        String key = scope + ":" + idempotencyKey;
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        Entry entry = entries.compute(key, (k, existing) ->
+                existing != null && !isExpired(existing) ? existing : new Entry(created, System.nanoTime()));
+
+        if (entry.result() != created) {
+            log.info("멱등 요청 재사용: key={}", key);
+            return (T) await(entry.result());
+        }
+
+        try {
+            T result = action.get();
+            created.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            entries.remove(key, entry);
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 만료된 결과 정리
+     */
+    @Scheduled(fixedDelayString = "${quiz.idempotency.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        entries.entrySet().removeIf(e -> e.getValue().result().isDone() && isExpired(e.getValue()));
+    }
+
+    private boolean isExpired(Entry entry) {
+        return System.nanoTime() - entry.createdAtNanos() > ttlNanos;
+    }
+
+    private Object await(CompletableFuture<Object> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for idempotent request", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.fintech.server.quiz.service;
+
+import com.fintech.server.quiz.entity.UserAnswerHistory;
+import com.fintech.server.quiz.repository.UserAnswerHistoryRepository;
+import com.fintech.server.quiz.repository.UserAnswerRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자/문제별 최신 답변 저장소
+ * - user_answers는 (user_id, question_id) 유니크 키로 문제당 한 행만 유지하고 upsert 한 문장으로 기록
+ * - quiz.answers.keep-history가 켜져 있으면 모든 시도를 user_answer_history에 함께 추가
+ * - 호출하는 쪽의 트랜잭션 안에서 실행
+ */
+@Component
+public class LatestAnswerStore {
+
+    private final UserAnswerRepository userAnswerRepository;
+    private final UserAnswerHistoryRepository userAnswerHistoryRepository;
+    private final boolean keepHistory;
+
+    /**
+     * 저장할 답변 한 건
+     */
+    public record Answer(Long questionId, Long selectedOptionId, boolean correct) {
+    }
+
+    public LatestAnswerStore(UserAnswerRepository userAnswerRepository,
+                             UserAnswerHistoryRepository userAnswerHistoryRepository,
+                             @Value("${quiz.answers.keep-history:false}") boolean keepHistory) {
+        this.userAnswerRepository = userAnswerRepository;
+        this.userAnswerHistoryRepository = userAnswerHistoryRepository;
+        this.keepHistory = keepHistory;
+    }
+
+    /**
+     * 최신 답변 저장
+     * @return 새 답변이면 true, 기존 답변을 갱신했으면 false
+     */
+    public boolean save(Long userId, Answer answer, LocalDateTime answeredAt) {
+        int affectedRows = userAnswerRepository.upsertLatestAnswer(
+                userId, answer.questionId(), answer.selectedOptionId(), answer.correct(), answeredAt);
+        if (keepHistory) {
+            userAnswerHistoryRepository.save(toHistory(userId, answer, answeredAt));
+        }
+        return affectedRows == 1;
+    }
+
+    /**
+     * 여러 답변 저장 (답변마다 upsert 한 문장, 이력은 한 번에 추가)
+     * @return 새로 생성된 답변 수
+     */
+    public int saveAll(Long userId, List<Answer> answers, LocalDateTime answeredAt) {
+        int newAnswers = 0;
+        for (Answer answer : answers) {
+            if (userAnswerRepository.upsertLatestAnswer(
+                    userId, answer.questionId(), answer.selectedOptionId(), answer.correct(), answeredAt) == 1) {
+                newAnswers++;
+            }
+        }
+        if (keepHistory) {
+            userAnswerHistoryRepository.saveAll(answers.stream()
+                    .map(answer -> toHistory(userId, answer, answeredAt))
+                    .toList());
+        }
+        return newAnswers;
+    }
+
+    private UserAnswerHistory toHistory(Long userId, Answer answer, LocalDateTime answeredAt) {
+        UserAnswerHistory history = new UserAnswerHistory();
+        history.setUserId(userId);
+        history.setQuestionId(answer.questionId());
+        history.setSelectedOptionId(answer.selectedOptionId());
+        history.setCorrect(answer.correct());
+        history.setAnsweredAt(answeredAt);
+        return history;
+    }
+}
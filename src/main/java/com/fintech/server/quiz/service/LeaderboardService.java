@@ -0,0 +1,231 @@
+package com.fintech.server.quiz.service;
+
+import com.fintech.server.quiz.dto.LeaderboardDto;
+import com.fintech.server.quiz.dto.LeaderboardEntryDto;
+import com.fintech.server.quiz.event.QuizCompletedEvent;
+import com.fintech.server.quiz.event.QuizRetriedEvent;
+import com.fintech.server.quiz.repository.UserProgressRepository;
+import com.fintech.server.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 전체/서브섹터별 순위표
+ * - 시작 시 DB 집계 한 번으로 메모리 순위표를 구성하고, 퀴즈 완료/다시풀기가 커밋되면 해당 사용자 점수만 다시 읽어 반영
+ * - 상위 N명, 내 순위, 내 주변 순위는 DB 조회 없이 순위표에서 계산 (닉네임만 표시할 사용자 수만큼 한 번에 조회)
+ * 점수는 총점수 집계(UserScoreService)와 같은 기준입니다. (퀴즈별 최신 완료 기록 점수 합)
+ */
+@Service
+@Slf4j
+public class LeaderboardService {
+
+    private final UserProgressRepository userProgressRepository;
+    private final UserRepository userRepository;
+    private final int maxLimit;
+
+    private volatile Boards boards = new Boards(new ScoreLeaderboard(), new ConcurrentHashMap<>());
+    // 재구성 중 점수가 바뀐 사용자 - 새 순위표로 교체한 뒤 다시 반영
+    private volatile Set<Long> changedDuringRebuild;
+    // 점수 조회 순번 - 커밋 이후에 받으므로 순번이 큰 조회일수록 그 이전 커밋을 모두 포함
+    private final AtomicLong refreshSequence = new AtomicLong();
+    // 사용자별 마지막으로 반영한 조회 순번 (늦게 끝난 이전 조회가 새 점수를 덮어쓰지 않도록)
+    private final ConcurrentHashMap<Long, Long> appliedSequences = new ConcurrentHashMap<>();
+
+    private record Boards(ScoreLeaderboard global, ConcurrentHashMap<Long, ScoreLeaderboard> bySubsector) {
+        ScoreLeaderboard subsector(Long subsectorId) {
+            return bySubsector.computeIfAbsent(subsectorId, id -> new ScoreLeaderboard());
+        }
+    }
+
+    public LeaderboardService(UserProgressRepository userProgressRepository,
+                              UserRepository userRepository,
+                              @Value("${quiz.leaderboard.max-limit:100}") int maxLimit) {
+        this.userProgressRepository = userProgressRepository;
+        this.userRepository = userRepository;
+        this.maxLimit = maxLimit;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * DB 집계 한 번으로 순위표를 새로 만들고 교체
+     */
+    public synchronized void rebuild() {
+        Set<Long> changed = ConcurrentHashMap.newKeySet();
+        changedDuringRebuild = changed;
+        try {
+            Boards rebuilt = new Boards(new ScoreLeaderboard(), new ConcurrentHashMap<>());
+            Map<Long, Integer> totals = new HashMap<>();
+            for (Object[] row : userProgressRepository.sumLatestScoresByUserAndSubsector()) {
+                Long userId = ((Number) row[0]).longValue();
+                Long subsectorId = ((Number) row[1]).longValue();
+                int score = ((Number) row[2]).intValue();
+                rebuilt.subsector(subsectorId).update(userId, score);
+                totals.merge(userId, score, Integer::sum);
+            }
+            totals.forEach(rebuilt.global()::update);
+            boards = rebuilt;
+            log.info("순위표 재구성 완료: users={}, subsectors={}", rebuilt.global().size(), rebuilt.bySubsector().size());
+        } finally {
+            changedDuringRebuild = null;
+        }
+        changed.forEach(this::refreshUser);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQuizCompleted(QuizCompletedEvent event) {
+        refreshUser(event.userId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQuizRetried(QuizRetriedEvent event) {
+        refreshUser(event.userId());
+    }
+
+    /**
+     * 사용자의 서브섹터별 점수를 다시 읽어 반영 (점수가 없어진 서브섹터는 제거)
+     * 같은 사용자의 조회가 겹쳐 순서가 바뀌면 더 늦게 시작한 조회의 점수만 반영
+     */
+    public void refreshUser(Long userId) {
+        Set<Long> changed = changedDuringRebuild;
+        if (changed != null) {
+            changed.add(userId);
+        }
+        Boards current = boards;
+        long sequence = refreshSequence.incrementAndGet();
+        Map<Long, Integer> scores = new HashMap<>();
+        for (Object[] row : userProgressRepository.sumLatestScoresBySubsector(userId)) {
+            scores.put(((Number) row[0]).longValue(), ((Number) row[1]).intValue());
+        }
+        applyIfNewer(userId, sequence, () -> {
+            current.bySubsector().forEach((subsectorId, board) -> {
+                if (!scores.containsKey(subsectorId)) {
+                    board.remove(userId);
+                }
+            });
+            scores.forEach((subsectorId, score) -> current.subsector(subsectorId).update(userId, score));
+            current.global().update(userId, scores.values().stream().mapToInt(Integer::intValue).sum());
+        });
+    }
+
+    /**
+     * 순위표에서 사용자 제거 (계정 삭제 시)
+     */
+    public void removeUser(Long userId) {
+        Boards current = boards;
+        applyIfNewer(userId, refreshSequence.incrementAndGet(), () -> {
+            current.global().remove(userId);
+            current.bySubsector().values().forEach(board -> board.remove(userId));
+        });
+    }
+
+    private void applyIfNewer(Long userId, long sequence, Runnable apply) {
+        appliedSequences.compute(userId, (id, applied) -> {
+            if (applied != null && applied > sequence) {
+                return applied; // 더 늦게 시작한 조회가 이미 반영됨
+            }
+            apply.run();
+            return sequence;
+        });
+    }
+
+    /**
+     * 상위 N명 (userId가 있으면 내 순위도 함께)
+     */
+    public LeaderboardDto getTop(Long subsectorId, int limit, Long userId) {
+        ScoreLeaderboard board = board(subsectorId);
+        return toDto(subsectorId, board, board.top(clamp(limit)), userId);
+    }
+
+    /**
+     * 내 순위
+     */
+    public LeaderboardEntryDto getMyRank(Long userId, Long subsectorId) {
+        ScoreLeaderboard.Entry entry = board(subsectorId).find(userId);
+        if (entry == null) {
+            return null;
+        }
+        return toEntryDtos(List.of(entry)).get(0);
+    }
+
+    /**
+     * 내 앞뒤로 radius명씩
+     */
+    public LeaderboardDto getNeighbors(Long userId, Long subsectorId, int radius) {
+        ScoreLeaderboard board = board(subsectorId);
+        return toDto(subsectorId, board, board.around(userId, clamp(radius)), userId);
+    }
+
+    private ScoreLeaderboard board(Long subsectorId) {
+        Boards current = boards;
+        if (subsectorId == null) {
+            return current.global();
+        }
+        ScoreLeaderboard board = current.bySubsector().get(subsectorId);
+        return board != null ? board : new ScoreLeaderboard();
+    }
+
+    private int clamp(int value) {
+        return Math.max(0, Math.min(value, maxLimit));
+    }
+
+    private LeaderboardDto toDto(Long subsectorId, ScoreLeaderboard board, List<ScoreLeaderboard.Entry> entries,
+                                 Long userId) {
+        ScoreLeaderboard.Entry mine = userId != null ? board.find(userId) : null;
+        List<ScoreLeaderboard.Entry> all = entries;
+        if (mine != null && entries.stream().noneMatch(entry -> entry.userId() == mine.userId())) {
+            all = new ArrayList<>(entries);
+            all.add(mine);
+        }
+        List<LeaderboardEntryDto> dtos = toEntryDtos(all);
+
+        LeaderboardEntryDto myEntry = null;
+        if (mine != null) {
+            myEntry = dtos.stream().filter(dto -> dto.getUserId() == mine.userId()).findFirst().orElse(null);
+        }
+        return LeaderboardDto.builder()
+                .subsectorId(subsectorId)
+                .totalUsers(board.size())
+                .myEntry(myEntry)
+                .entries(dtos.subList(0, entries.size()))
+                .build();
+    }
+
+    /**
+     * 닉네임은 표시할 사용자만 한 번에 조회
+     */
+    private List<LeaderboardEntryDto> toEntryDtos(List<ScoreLeaderboard.Entry> entries) {
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, String> nicknames = userRepository.findNicknamesByIds(
+                        entries.stream().map(ScoreLeaderboard.Entry::userId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> (String) row[1]));
+        return entries.stream()
+                .map(entry -> LeaderboardEntryDto.builder()
+                        .rank(entry.rank())
+                        .userId(entry.userId())
+                        .nickname(nicknames.get(entry.userId()))
+                        .score(entry.score())
+                        .build())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,286 @@
+package com.fintech.server.quiz.service;
+
+import com.fintech.server.quiz.event.QuizContentChangedEvent;
+import com.fintech.server.quiz.repository.LevelRepository;
+import com.fintech.server.quiz.repository.QuizRepository;
+import com.fintech.server.quiz.repository.SectorRepository;
+import com.fintech.server.quiz.repository.SubsectorRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 학습 카탈로그 (섹터 → 서브섹터 → 레벨 → 퀴즈) 메모리 적재본
+ * - 카탈로그 테이블은 작고 거의 바뀌지 않으므로 시작 시 전체를 읽어 불변 그래프로 보관
+ * - 부모/자식 이동, 서브섹터 안에서의 다음 레벨, 레벨/서브섹터별 퀴즈 수, 퀴즈 → 레벨 매핑을 모두 O(1)로 제공
+ * - 콘텐츠 변경 이벤트가 오면 새 그래프를 만든 뒤 통째로 교체
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LearningCatalog {
+
+    private final SectorRepository sectorRepository;
+    private final SubsectorRepository subsectorRepository;
+    private final LevelRepository levelRepository;
+    private final QuizRepository quizRepository;
+
+    private volatile Snapshot snapshot;
+
+    public record SectorNode(Long id, String name, String slug, String description, List<Long> subsectorIds) {
+    }
+
+    public record SubsectorNode(Long id, Long sectorId, String name, String slug, String description,
+                                Integer sortOrder, List<Long> levelIds, int quizCount) {
+    }
+
+    public record LevelNode(Long id, Long subsectorId, Integer levelNumber, String title, String learningGoal,
+                            Long badgeId, List<QuizNode> quizzes, Long nextLevelId) {
+        public int quizCount() {
+            return quizzes.size();
+        }
+    }
+
+    public record QuizNode(Long id, Long levelId, String title) {
+    }
+
+    /**
+     * 퀴즈 ID → 0부터 시작하는 연속 번호 (카탈로그 구성마다 새로 만들어지며, 사용자별 비트셋의 비트 위치로 사용)
+     */
+    public record QuizIndex(Map<Long, Integer> ordinals) {
+        public int ordinal(Long quizId) {
+            Integer ordinal = ordinals.get(quizId);
+            return ordinal != null ? ordinal : -1;
+        }
+
+        public int size() {
+            return ordinals.size();
+        }
+    }
+
+    private record Snapshot(List<SectorNode> orderedSectors,
+                            Map<Long, SectorNode> sectors,
+                            Map<Long, SubsectorNode> subsectors,
+                            Map<Long, LevelNode> levels,
+                            Map<Long, QuizNode> quizzes,
+                            QuizIndex quizIndex) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    @EventListener
+    public void onContentChanged(QuizContentChangedEvent event) {
+        log.info("콘텐츠 변경 감지, 학습 카탈로그 재구성: reason={}", event.reason());
+        reload();
+    }
+
+    /**
+     * 카탈로그 테이블을 각각 한 번씩 읽어 새 그래프를 만들고 원자적으로 교체
+     */
+    @Transactional(readOnly = true)
+    public synchronized void reload() {
+        // 1. 퀴즈 (레벨별, ID 순)
+        Map<Long, QuizNode> quizzes = new LinkedHashMap<>();
+        Map<Long, List<QuizNode>> quizzesByLevel = new LinkedHashMap<>();
+        for (Object[] row : quizRepository.findAllCatalogRows()) {
+            QuizNode quiz = new QuizNode((Long) row[0], (Long) row[1], (String) row[2]);
+            quizzes.put(quiz.id(), quiz);
+            quizzesByLevel.computeIfAbsent(quiz.levelId(), id -> new ArrayList<>()).add(quiz);
+        }
+
+        // 2. 레벨 (서브섹터별 레벨 번호 순) - 다음 레벨은 같은 서브섹터 안의 다음 순서
+        List<Object[]> levelRows = levelRepository.findAllCatalogRows();
+        Map<Long, LevelNode> levels = new LinkedHashMap<>();
+        Map<Long, List<Long>> levelIdsBySubsector = new LinkedHashMap<>();
+        Map<Long, Integer> quizCountBySubsector = new LinkedHashMap<>();
+        for (int i = 0; i < levelRows.size(); i++) {
+            Object[] row = levelRows.get(i);
+            Long levelId = (Long) row[0];
+            Long subsectorId = (Long) row[1];
+            Long nextLevelId = null;
+            if (i + 1 < levelRows.size() && subsectorId.equals(levelRows.get(i + 1)[1])) {
+                nextLevelId = (Long) levelRows.get(i + 1)[0];
+            }
+            List<QuizNode> levelQuizzes = List.copyOf(quizzesByLevel.getOrDefault(levelId, List.of()));
+
+            levels.put(levelId, new LevelNode(levelId, subsectorId, (Integer) row[2], (String) row[3],
+                    (String) row[4], (Long) row[5], levelQuizzes, nextLevelId));
+            levelIdsBySubsector.computeIfAbsent(subsectorId, id -> new ArrayList<>()).add(levelId);
+            quizCountBySubsector.merge(subsectorId, levelQuizzes.size(), Integer::sum);
+        }
+
+        // 3. 서브섹터 (ID 순)
+        Map<Long, SubsectorNode> subsectors = new LinkedHashMap<>();
+        Map<Long, List<Long>> subsectorIdsBySector = new LinkedHashMap<>();
+        for (Object[] row : subsectorRepository.findAllCatalogRows()) {
+            Long subsectorId = (Long) row[0];
+            Long sectorId = (Long) row[1];
+            subsectors.put(subsectorId, new SubsectorNode(subsectorId, sectorId, (String) row[2], (String) row[3],
+                    (String) row[4], (Integer) row[5],
+                    List.copyOf(levelIdsBySubsector.getOrDefault(subsectorId, List.of())),
+                    quizCountBySubsector.getOrDefault(subsectorId, 0)));
+            subsectorIdsBySector.computeIfAbsent(sectorId, id -> new ArrayList<>()).add(subsectorId);
+        }
+
+        // 4. 섹터 (ID 순)
+        Map<Long, SectorNode> sectors = new LinkedHashMap<>();
+        for (Object[] row : sectorRepository.findAllCatalogRows()) {
+            Long sectorId = (Long) row[0];
+            sectors.put(sectorId, new SectorNode(sectorId, (String) row[1], (String) row[2], (String) row[3],
+                    List.copyOf(subsectorIdsBySector.getOrDefault(sectorId, List.of()))));
+        }
+
+        // 5. 퀴즈 번호 (카탈로그 순서)
+        Map<Long, Integer> quizOrdinals = new HashMap<>();
+        for (Long quizId : quizzes.keySet()) {
+            quizOrdinals.put(quizId, quizOrdinals.size());
+        }
+
+        snapshot = new Snapshot(
+                List.copyOf(sectors.values()),
+                Collections.unmodifiableMap(sectors),
+                Collections.unmodifiableMap(subsectors),
+                Collections.unmodifiableMap(levels),
+                Collections.unmodifiableMap(quizzes),
+                new QuizIndex(Collections.unmodifiableMap(quizOrdinals)));
+        log.info("학습 카탈로그 구성 완료: 섹터 {}개, 서브섹터 {}개, 레벨 {}개, 퀴즈 {}개",
+                sectors.size(), subsectors.size(), levels.size(), quizzes.size());
+    }
+
+    /**
+     * 전체 섹터 (ID 순)
+     */
+    public List<SectorNode> getSectors() {
+        return current().orderedSectors();
+    }
+
+    public Optional<SectorNode> findSector(Long sectorId) {
+        return Optional.ofNullable(current().sectors().get(sectorId));
+    }
+
+    public SectorNode getSector(Long sectorId) {
+        return findSector(sectorId)
+                .orElseThrow(() -> new RuntimeException("Sector not found with id: " + sectorId));
+    }
+
+    public Optional<SubsectorNode> findSubsector(Long subsectorId) {
+        return Optional.ofNullable(current().subsectors().get(subsectorId));
+    }
+
+    public SubsectorNode getSubsector(Long subsectorId) {
+        return findSubsector(subsectorId)
+                .orElseThrow(() -> new RuntimeException("Subsector not found with id: " + subsectorId));
+    }
+
+    /**
+     * 섹터의 서브섹터 목록 (ID 순)
+     */
+    public List<SubsectorNode> getSubsectors(Long sectorId) {
+        Snapshot current = current();
+        return findSector(sectorId)
+                .map(sector -> sector.subsectorIds().stream().map(current.subsectors()::get).toList())
+                .orElse(List.of());
+    }
+
+    public Optional<LevelNode> findLevel(Long levelId) {
+        return Optional.ofNullable(current().levels().get(levelId));
+    }
+
+    public LevelNode getLevel(Long levelId) {
+        return findLevel(levelId)
+                .orElseThrow(() -> new RuntimeException("Level not found with id: " + levelId));
+    }
+
+    /**
+     * 서브섹터의 레벨 목록 (레벨 번호 순)
+     */
+    public List<LevelNode> getLevels(Long subsectorId) {
+        Snapshot current = current();
+        return findSubsector(subsectorId)
+                .map(subsector -> subsector.levelIds().stream().map(current.levels()::get).toList())
+                .orElse(List.of());
+    }
+
+    /**
+     * 전체 레벨 (서브섹터별 레벨 번호 순)
+     */
+    public List<LevelNode> getAllLevels() {
+        return List.copyOf(current().levels().values());
+    }
+
+    /**
+     * 같은 서브섹터 안의 다음 레벨
+     */
+    public Optional<LevelNode> findNextLevel(Long levelId) {
+        return findLevel(levelId)
+                .map(LevelNode::nextLevelId)
+                .map(current().levels()::get);
+    }
+
+    public Optional<QuizNode> findQuiz(Long quizId) {
+        return Optional.ofNullable(current().quizzes().get(quizId));
+    }
+
+    public QuizNode getQuiz(Long quizId) {
+        return findQuiz(quizId)
+                .orElseThrow(() -> new RuntimeException("Quiz not found with id: " + quizId));
+    }
+
+    public boolean existsQuiz(Long quizId) {
+        return current().quizzes().containsKey(quizId);
+    }
+
+    /**
+     * 퀴즈가 속한 레벨
+     */
+    public LevelNode getLevelOfQuiz(Long quizId) {
+        return getLevel(getQuiz(quizId).levelId());
+    }
+
+    /**
+     * 현재 카탈로그의 퀴즈 번호 (카탈로그가 다시 구성되면 다른 인스턴스가 반환됨)
+     */
+    public QuizIndex getQuizIndex() {
+        return current().quizIndex();
+    }
+
+    public int countQuizzesByLevel(Long levelId) {
+        return findLevel(levelId).map(LevelNode::quizCount).orElse(0);
+    }
+
+    public int countQuizzesBySubsector(Long subsectorId) {
+        return findSubsector(subsectorId).map(SubsectorNode::quizCount).orElse(0);
+    }
+
+    /**
+     * 섹터의 전체 레벨 수 (섹터 숙련도 계산용)
+     */
+    public int countLevelsBySector(Long sectorId) {
+        return getSubsectors(sectorId).stream()
+                .mapToInt(subsector -> subsector.levelIds().size())
+                .sum();
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            reload();
+            current = snapshot;
+        }
+        return current;
+    }
+}
@@ -0,0 +1,277 @@
+package com.fintech.server.quiz.service;
+
+import com.fintech.server.quiz.event.AnswerSubmittedEvent;
+import com.fintech.server.quiz.event.QuizCompletedEvent;
+import com.fintech.server.quiz.event.QuizRetriedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 답변/퀴즈 완료/다시풀기 이후의 부가 작업(오답 노트, 배지 평가, 대시보드 읽기 모델) 처리 파이프라인
+ * - 커밋 이후에 발행된 이벤트만 받아 사용자 ID 기준으로 나눈 큐에 적재 (같은 사용자는 항상 같은 워커가 순서대로 처리)
+ * - 워커는 큐에 쌓인 작업을 모아서 사용자별로 오답 노트를 일괄 반영하고 배지 평가와 대시보드 갱신은 한 번만 수행
+ * - 큐가 가득 차면 요청 스레드에서 직접 처리 (백프레셔)
+ * - 실패하면 다음 작업으로 넘어가지 않고 그 자리에서 정해진 횟수만큼 재시도 (같은 사용자의 처리 순서 유지)
+ * - 종료 시 워커가 끝내지 못한 작업은 종료 스레드에서 마저 처리
+ */
+@Component
+@Slf4j
+public class LearningEventPipeline {
+
+    private final WrongNoteService wrongNoteService;
+    private final BadgeService badgeService;
+    private final DashboardProjectionService dashboardProjectionService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int workerCount;
+    private final int maxBatchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+
+    private final List<BlockingQueue<Work>> queues = new ArrayList<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running = true;
+
+    private final Counter processedCounter;
+    private final Counter callerRunsCounter;
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+
+    /**
+     * 사용자 한 명에 대한 후처리 작업 단위 (원본 이벤트 보관)
+     */
+    private record Work(Long userId, Object event) {
+    }
+
+    public LearningEventPipeline(WrongNoteService wrongNoteService,
+                                 BadgeService badgeService,
+                                 DashboardProjectionService dashboardProjectionService,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${quiz.pipeline.workers:2}") int workerCount,
+                                 @Value("${quiz.pipeline.queue-capacity:10000}") int queueCapacity,
+                                 @Value("${quiz.pipeline.max-batch-size:200}") int maxBatchSize,
+                                 @Value("${quiz.pipeline.max-attempts:3}") int maxAttempts,
+                                 @Value("${quiz.pipeline.retry-backoff-ms:100}") long retryBackoffMillis) {
+        this.wrongNoteService = wrongNoteService;
+        this.badgeService = badgeService;
+        this.dashboardProjectionService = dashboardProjectionService;
+        this.workerCount = workerCount;
+        this.maxBatchSize = maxBatchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+
+        // 요청 트랜잭션과 무관하게 항상 새 트랜잭션에서 처리 (커밋 이후 콜백/워커 스레드 모두)
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        for (int i = 0; i < workerCount; i++) {
+            queues.add(new LinkedBlockingQueue<>(queueCapacity));
+        }
+
+        this.processedCounter = meterRegistry.counter("quiz.pipeline.processed");
+        this.callerRunsCounter = meterRegistry.counter("quiz.pipeline.caller_runs");
+        this.retryCounter = meterRegistry.counter("quiz.pipeline.retries");
+        this.failedCounter = meterRegistry.counter("quiz.pipeline.failed");
+        this.batchTimer = meterRegistry.timer("quiz.pipeline.batch.duration");
+        meterRegistry.gauge("quiz.pipeline.queue.size", queues,
+                qs -> qs.stream().mapToInt(BlockingQueue::size).sum());
+    }
+
+    @PostConstruct
+    public void start() {
+        for (int i = 0; i < workerCount; i++) {
+            BlockingQueue<Work> queue = queues.get(i);
+            Thread worker = new Thread(() -> runWorker(queue), "learning-pipeline-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+        log.info("학습 이벤트 파이프라인 시작: workers={}, batch={}", workerCount, maxBatchSize);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        for (Thread worker : workers) {
+            join(worker);
+            if (worker.isAlive()) {
+                worker.interrupt();
+                join(worker);
+            }
+            if (worker.isAlive()) {
+                log.warn("학습 이벤트 워커가 종료되지 않음: {}", worker.getName());
+            }
+        }
+
+        // 워커가 끝내지 못한 작업은 종료 스레드에서 큐 순서대로 처리 (종료 중 새 이벤트는 호출한 스레드에서 처리됨)
+        int remaining = 0;
+        for (BlockingQueue<Work> queue : queues) {
+            List<Work> pending = new ArrayList<>();
+            queue.drainTo(pending);
+            if (!pending.isEmpty()) {
+                remaining += pending.size();
+                processBatch(pending);
+            }
+        }
+        if (remaining > 0) {
+            log.info("학습 이벤트 파이프라인 종료 시 남은 작업 {}건 처리", remaining);
+        }
+    }
+
+    private void join(Thread worker) {
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAnswerSubmitted(AnswerSubmittedEvent event) {
+        enqueue(new Work(event.userId(), event));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQuizCompleted(QuizCompletedEvent event) {
+        enqueue(new Work(event.userId(), event));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQuizRetried(QuizRetriedEvent event) {
+        enqueue(new Work(event.userId(), event));
+    }
+
+    private void enqueue(Work work) {
+        if (running && queueFor(work.userId()).offer(work)) {
+            return;
+        }
+        // 큐가 가득 찼거나 종료 중이면 호출한 스레드에서 바로 처리
+        callerRunsCounter.increment();
+        processBatch(List.of(work));
+    }
+
+    private BlockingQueue<Work> queueFor(Long userId) {
+        return queues.get(Math.floorMod(userId.hashCode(), queues.size()));
+    }
+
+    private void runWorker(BlockingQueue<Work> queue) {
+        while (running || !queue.isEmpty()) {
+            try {
+                Work first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<Work> batch = new ArrayList<>();
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                batchTimer.record(() -> processBatch(batch));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("학습 이벤트 워커 오류", e);
+            }
+        }
+    }
+
+    /**
+     * 모인 작업을 사용자별로 묶어 처리
+     */
+    private void processBatch(List<Work> batch) {
+        Map<Long, List<Work>> worksByUser = new LinkedHashMap<>();
+        for (Work work : batch) {
+            worksByUser.computeIfAbsent(work.userId(), id -> new ArrayList<>()).add(work);
+        }
+
+        worksByUser.forEach(this::processWithRetry);
+    }
+
+    /**
+     * 사용자 한 명의 작업을 성공하거나 시도 횟수를 다 쓸 때까지 그 자리에서 재시도
+     * 큐로 되돌리지 않으므로 뒤에 쌓인 같은 사용자의 작업이 먼저 반영되는 일이 없음
+     */
+    private void processWithRetry(Long userId, List<Work> works) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> processUser(userId, works));
+                processedCounter.increment(works.size());
+                return;
+            } catch (Exception e) {
+                if (attempt >= maxAttempts) {
+                    failedCounter.increment(works.size());
+                    log.error("학습 이벤트 처리 포기: userId={}, 시도 횟수={}, 이벤트={}",
+                            userId, attempt, works.stream().map(Work::event).toList(), e);
+                    return;
+                }
+                retryCounter.increment();
+                log.warn("학습 이벤트 처리 실패, 재시도: userId={}, 시도 횟수={}, 원인={}", userId, attempt, e.getMessage());
+                pauseBeforeRetry(attempt);
+            }
+        }
+    }
+
+    private void pauseBeforeRetry(int attempt) {
+        try {
+            Thread.sleep(retryBackoffMillis * attempt);
+        } catch (InterruptedException e) {
+            // 종료 중이면 기다리지 않고 바로 재시도 (남은 작업은 종료 스레드가 처리)
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 사용자 한 명의 작업 처리: 오답 노트 일괄 반영 후 배지 평가와 대시보드 갱신 한 번
+     */
+    private void processUser(Long userId, List<Work> works) {
+        for (Map<Long, Long> round : splitWrongNoteRounds(works)) {
+            wrongNoteService.createOrUpdateWrongNotes(userId, round);
+        }
+        badgeService.updateUserBadgeProgress(userId);
+        dashboardProjectionService.apply(userId, works.stream().map(Work::event).toList());
+    }
+
+    /**
+     * 같은 문제를 여러 번 틀린 경우 틀린 횟수가 각각 반영되도록 문제가 겹치지 않는 묶음으로 나눔
+     */
+    private List<Map<Long, Long>> splitWrongNoteRounds(List<Work> works) {
+        List<Map<Long, Long>> rounds = new ArrayList<>();
+        Map<Long, Long> current = new LinkedHashMap<>();
+        for (Work work : works) {
+            if (!(work.event() instanceof AnswerSubmittedEvent answered)) {
+                continue;
+            }
+            for (Map.Entry<Long, Long> entry : answered.wrongOptionByQuestion().entrySet()) {
+                if (current.containsKey(entry.getKey())) {
+                    rounds.add(current);
+                    current = new LinkedHashMap<>();
+                }
+                current.put(entry.getKey(), entry.getValue());
+            }
+        }
+        if (!current.isEmpty()) {
+            rounds.add(current);
+        }
+        return rounds;
+    }
+}
@@ -0,0 +1,141 @@
+package com.fintech.server.quiz.service;
+
+import com.fintech.server.quiz.dto.LevelProgressDto;
+import com.fintech.server.quiz.entity.UserLevelRollup;
+import com.fintech.server.quiz.entity.UserLevelRollupId;
+import com.fintech.server.quiz.event.QuizCompletedEvent;
+import com.fintech.server.quiz.repository.UserLevelCompletionRepository;
+import com.fintech.server.quiz.repository.UserLevelRollupRepository;
+import com.fintech.server.quiz.repository.UserProgressRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 레벨 완료 기록(user_level_completions)과 서브섹터/섹터별 집계(user_level_rollups) 관리
+ * - 퀴즈 완료/레벨 완료 시 레벨이 통과 상태가 되면 기록을 추가하고 집계를 +1
+ * - 다시풀기로 레벨 통과 조건이 깨지면 기록을 삭제하고 집계를 -1
+ * - 완료 레벨 수, 섹터 숙련도, 다음 레벨 해금 여부는 전체 레벨을 다시 계산하지 않고 이 기록만 조회
+ * 호출하는 쪽의 트랜잭션 안에서 실행합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LevelCompletionLedger {
+
+    private final UserLevelCompletionRepository userLevelCompletionRepository;
+    private final UserLevelRollupRepository userLevelRollupRepository;
+    private final UserProgressRepository userProgressRepository;
+    private final LearningCatalog learningCatalog;
+
+    /**
+     * 퀴즈 완료 후 해당 레벨이 통과 상태가 되었으면 기록
+     * @return 완료 반영 후 레벨 진행 상황
+     */
+    @Transactional
+    public QuizCompletedEvent.LevelProgress onQuizCompleted(Long userId, Long quizId) {
+        LearningCatalog.LevelNode level = learningCatalog.getLevelOfQuiz(quizId);
+        QuizCompletedEvent.LevelProgress progress = tallyLevel(userId, level.id());
+        if (LevelService.determineLevelStatus(progress.completedQuizzes(), progress.correctAnswers())
+                == LevelProgressDto.LevelStatus.COMPLETED) {
+            record(userId, level, progress.correctAnswers());
+        }
+        return progress;
+    }
+
+    /**
+     * 다시풀기 후 해당 레벨이 더 이상 통과 상태가 아니면 기록 삭제
+     * @return 삭제 반영 후 레벨 진행 상황
+     */
+    @Transactional
+    public QuizCompletedEvent.LevelProgress onQuizRetried(Long userId, Long quizId) {
+        LearningCatalog.LevelNode level = learningCatalog.getLevelOfQuiz(quizId);
+        QuizCompletedEvent.LevelProgress progress = tallyLevel(userId, level.id());
+        if (LevelService.determineLevelStatus(progress.completedQuizzes(), progress.correctAnswers())
+                != LevelProgressDto.LevelStatus.COMPLETED) {
+            retract(userId, level);
+        }
+        return progress;
+    }
+
+    /**
+     * 레벨 완료 기록 (이미 있으면 무시)
+     * @return 새로 기록했으면 true
+     */
+    @Transactional
+    public boolean record(Long userId, LearningCatalog.LevelNode level, int correctAnswers) {
+        LearningCatalog.SubsectorNode subsector = learningCatalog.getSubsector(level.subsectorId());
+        int inserted = userLevelCompletionRepository.insertIfAbsent(userId, level.id(), subsector.id(),
+                subsector.sectorId(), correctAnswers, LocalDateTime.now());
+        if (inserted == 0) {
+            return false;
+        }
+        adjustRollups(userId, subsector, 1);
+        log.info("레벨 완료 기록: userId={}, levelId={}, correctAnswers={}", userId, level.id(), correctAnswers);
+        return true;
+    }
+
+    /**
+     * 완료한 레벨 수
+     */
+    @Transactional(readOnly = true)
+    public int countCompletedLevels(Long userId) {
+        return (int) userLevelCompletionRepository.countByUserId(userId);
+    }
+
+    /**
+     * 레벨 완료 여부 (다음 레벨 해금 판단용)
+     */
+    @Transactional(readOnly = true)
+    public boolean isCompleted(Long userId, Long levelId) {
+        return userLevelCompletionRepository.existsByUserIdAndLevelId(userId, levelId);
+    }
+
+    /**
+     * 범위(서브섹터/섹터)별 완료 레벨 수 (범위 ID → 완료 레벨 수)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Integer> getCompletedLevelsByScope(Long userId, UserLevelRollupId.Scope scope) {
+        Map<Long, Integer> completedLevels = new HashMap<>();
+        for (UserLevelRollup rollup : userLevelRollupRepository.findByIdUserIdAndIdScopeType(userId, scope)) {
+            completedLevels.put(rollup.getId().getScopeId(), rollup.getCompletedLevels());
+        }
+        return completedLevels;
+    }
+
+    private void retract(Long userId, LearningCatalog.LevelNode level) {
+        if (userLevelCompletionRepository.deleteByUserIdAndLevelId(userId, level.id()) == 0) {
+            return;
+        }
+        adjustRollups(userId, learningCatalog.getSubsector(level.subsectorId()), -1);
+        log.info("레벨 완료 기록 삭제(다시풀기): userId={}, levelId={}", userId, level.id());
+    }
+
+    private void adjustRollups(Long userId, LearningCatalog.SubsectorNode subsector, int delta) {
+        userLevelRollupRepository.addCompletedLevels(userId, UserLevelRollupId.Scope.SUBSECTOR.name(), subsector.id(), delta);
+        userLevelRollupRepository.addCompletedLevels(userId, UserLevelRollupId.Scope.SECTOR.name(), subsector.sectorId(), delta);
+    }
+
+    /**
+     * 레벨의 완료 퀴즈 수, 정답 수, 가장 이른 시작 시각 (퀴즈별 진행 집계 한 번)
+     */
+    private QuizCompletedEvent.LevelProgress tallyLevel(Long userId, Long levelId) {
+        int completedQuizzes = 0;
+        int correctAnswers = 0;
+        LocalDateTime startedAt = null;
+        for (Object[] row : userProgressRepository.findQuizProgressAggregatesByLevel(userId, levelId)) {
+            completedQuizzes += ((Number) row[2]).intValue();
+            correctAnswers += ((Number) row[4]).intValue();
+            LocalDateTime quizStartedAt = (LocalDateTime) row[6];
+            if (quizStartedAt != null && (startedAt == null || quizStartedAt.isBefore(startedAt))) {
+                startedAt = quizStartedAt;
+            }
+        }
+        return new QuizCompletedEvent.LevelProgress(levelId, completedQuizzes, correctAnswers, startedAt);
+    }
+}
@@ -3,12 +3,7 @@ package com.fintech.server.quiz.service;
 import com.fintech.server.quiz.dto.LevelCompletionDto;
 import com.fintech.server.quiz.dto.LevelProgressDto;
 import com.fintech.server.quiz.dto.StepProgressDto;
-import com.fintech.server.quiz.entity.Level;
-import com.fintech.server.quiz.entity.Quiz;
 import com.fintech.server.quiz.entity.UserAnswer;
-import com.fintech.server.quiz.entity.UserProgress;
-import com.fintech.server.quiz.repository.LevelRepository;
-import com.fintech.server.quiz.repository.QuizRepository;
 import com.fintech.server.quiz.repository.UserAnswerRepository;
 import com.fintech.server.quiz.repository.UserProgressRepository;
 import lombok.RequiredArgsConstructor;
@@ -19,50 +14,110 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class LevelService {
 
-    private final LevelRepository levelRepository;
-    private final QuizRepository quizRepository;
+    private final LearningCatalog learningCatalog; // 레벨/퀴즈 메모리 카탈로그
     private final UserAnswerRepository userAnswerRepository;
     private final UserProgressRepository userProgressRepository;
+    private final LevelCompletionLedger levelCompletionLedger; // 레벨 완료 기록/집계
 
-    private static final int QUESTIONS_PER_LEVEL = 4;
-    private static final int PASS_SCORE = 3; // 4문제 중 3문제 이상 맞춰야 통과
+    static final int QUESTIONS_PER_LEVEL = 4;
+    static final int PASS_SCORE = 3; // 4문제 중 3문제 이상 맞춰야 통과
+
+    /**
+     * 사용자의 퀴즈 하나에 대한 진행 기록 집계
+     */
+    private record QuizProgressAggregate(Long quizId, int records, int finished, int passed, int scoreSum,
+                                         int bestScore, LocalDateTime startedAt, LocalDateTime finishedAt) {
+        static QuizProgressAggregate from(Object[] row) {
+            return new QuizProgressAggregate(
+                    (Long) row[0],
+                    ((Number) row[1]).intValue(),
+                    ((Number) row[2]).intValue(),
+                    ((Number) row[3]).intValue(),
+                    ((Number) row[4]).intValue(),
+                    ((Number) row[5]).intValue(),
+                    (LocalDateTime) row[6],
+                    (LocalDateTime) row[7]);
+        }
+    }
 
     /**
      * 레벨 진행 상황 조회 (기존 호환성 유지)
      */
     public LevelProgressDto getLevelProgress(Long levelId, Long userId) {
-        Level level = levelRepository.findById(levelId)
-                .orElseThrow(() -> new RuntimeException("Level not found with id: " + levelId));
+        LearningCatalog.LevelNode level = learningCatalog.getLevel(levelId);
         
-        // 기존 방식으로 서브섹터 ID를 가져와서 3개 파라미터 메서드 호출
-        return getLevelProgress(levelId, userId, level.getSubsector().getId());
+        // 카탈로그에서 서브섹터 ID를 가져와서 3개 파라미터 메서드 호출
+        return getLevelProgress(levelId, userId, level.subsectorId());
     }
     
     /**
      * 서브섹터별 레벨 진행 상황 조회 (UserProgress 테이블 기준으로 통일)
      */
     public LevelProgressDto getLevelProgress(Long levelId, Long userId, Long subsectorId) {
-        Level level = levelRepository.findById(levelId)
-                .orElseThrow(() -> new RuntimeException("Level not found with id: " + levelId));
+        LearningCatalog.LevelNode level = learningCatalog.getLevel(levelId);
+        LearningCatalog.SubsectorNode subsector = learningCatalog.getSubsector(level.subsectorId());
+
+        // 다른 서브섹터를 지정하면 해당 레벨의 진행 기록은 없는 것으로 처리
+        Map<Long, QuizProgressAggregate> aggregates = level.subsectorId().equals(subsectorId)
+                ? toAggregateMap(userProgressRepository.findQuizProgressAggregatesByLevel(userId, levelId))
+                : Map.of();
+
+        return buildLevelProgress(level, subsector, aggregates);
+    }
 
-        // 서브섹터와 레벨을 모두 고려하여 진행 상황 조회
-        List<UserProgress> progressList = userProgressRepository.findByUserIdAndSubsectorIdAndLevelId(userId, subsectorId, levelId);
+    /**
+     * 서브섹터의 모든 레벨 진행 상황 조회
+     * 퀴즈별 진행 집계 쿼리 한 번과 메모리 카탈로그만으로 구성합니다.
+     */
+    public List<LevelProgressDto> getSubsectorLevelProgress(Long subsectorId, Long userId) {
+        LearningCatalog.SubsectorNode subsector = learningCatalog.getSubsector(subsectorId);
+        Map<Long, QuizProgressAggregate> aggregates =
+                toAggregateMap(userProgressRepository.findQuizProgressAggregatesBySubsector(userId, subsectorId));
+
+        return learningCatalog.getLevels(subsectorId).stream()
+                .map(level -> buildLevelProgress(level, subsector, aggregates))
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, QuizProgressAggregate> toAggregateMap(List<Object[]> rows) {
+        Map<Long, QuizProgressAggregate> aggregates = new HashMap<>();
+        for (Object[] row : rows) {
+            QuizProgressAggregate aggregate = QuizProgressAggregate.from(row);
+            aggregates.put(aggregate.quizId(), aggregate);
+        }
+        return aggregates;
+    }
+
+    /**
+     * 퀴즈별 진행 집계로 레벨 진행 상황 생성
+     */
+    private LevelProgressDto buildLevelProgress(LearningCatalog.LevelNode level,
+                                                LearningCatalog.SubsectorNode subsector,
+                                                Map<Long, QuizProgressAggregate> aggregates) {
+        List<QuizProgressAggregate> levelAggregates = level.quizzes().stream()
+                .map(quiz -> aggregates.get(quiz.id()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
         
-        if (progressList.isEmpty()) {
+        if (levelAggregates.isEmpty()) {
             return LevelProgressDto.builder()
-                    .levelId(levelId)
-                    .levelTitle(level.getTitle())
-                    .subsectorId(level.getSubsector().getId())
-                    .subsectorName(level.getSubsector().getName())
-                    .levelNumber(level.getLevelNumber())
-                    .learningGoal(level.getLearningGoal())
+                    .levelId(level.id())
+                    .levelTitle(level.title())
+                    .subsectorId(subsector.id())
+                    .subsectorName(subsector.name())
+                    .levelNumber(level.levelNumber())
+                    .learningGoal(level.learningGoal())
                     .status(LevelProgressDto.LevelStatus.NOT_STARTED)
                     .totalQuizzes(QUESTIONS_PER_LEVEL)
                     .completedQuizzes(0)
@@ -88,32 +143,25 @@ public class LevelService {
         }
 
         // 통계 계산 (UserProgress 테이블 기준)
-        int completedQuizzes = (int) progressList.stream()
-                .filter(p -> p.getFinishedAt() != null)
-                .count();
+        int completedQuizzes = levelAggregates.stream().mapToInt(QuizProgressAggregate::finished).sum();
         
-        int passedQuizzes = (int) progressList.stream()
-                .filter(p -> p.getPassed() != null && p.getPassed())
-                .count();
+        int passedQuizzes = levelAggregates.stream().mapToInt(QuizProgressAggregate::passed).sum();
         
         int failedQuizzes = completedQuizzes - passedQuizzes;
         
         // 정답 수 계산 (UserProgress의 score 필드 사용)
-        int correctAnswers = progressList.stream()
-                .filter(p -> p.getFinishedAt() != null)
-                .mapToInt(UserProgress::getScore)
-                .sum();
+        int correctAnswers = levelAggregates.stream().mapToInt(QuizProgressAggregate::scoreSum).sum();
 
         // 시간 정보
-        LocalDateTime startedAt = progressList.stream()
-                .filter(p -> p.getStartedAt() != null)
-                .map(UserProgress::getStartedAt)
+        LocalDateTime startedAt = levelAggregates.stream()
+                .map(QuizProgressAggregate::startedAt)
+                .filter(Objects::nonNull)
                 .min(LocalDateTime::compareTo)
                 .orElse(null);
                 
-        LocalDateTime completedAt = progressList.stream()
-                .filter(p -> p.getFinishedAt() != null)
-                .map(UserProgress::getFinishedAt)
+        LocalDateTime completedAt = levelAggregates.stream()
+                .map(QuizProgressAggregate::finishedAt)
+                .filter(Objects::nonNull)
                 .max(LocalDateTime::compareTo)
                 .orElse(null);
 
@@ -121,27 +169,27 @@ public class LevelService {
         LevelProgressDto.LevelStatus levelStatus = determineLevelStatus(completedQuizzes, correctAnswers);
         
         // 다음 레벨 정보
-        Long nextLevelId = getNextLevelId(levelId);
+        Long nextLevelId = level.nextLevelId();
         String nextLevelTitle = getNextLevelTitle(nextLevelId);
         boolean nextLevelUnlocked = levelStatus == LevelProgressDto.LevelStatus.COMPLETED;
 
         // 징검다리 정보 생성
-        List<StepProgressDto> steps = createStepProgress(levelId, userId, level);
+        List<StepProgressDto> steps = createStepProgress(level, levelAggregates);
         boolean isStepPassed = correctAnswers >= 3; // 75% 이상 통과 (4문제 중 3문제 이상)
         int currentStep = calculateCurrentStep(completedQuizzes);
 
         // 퀴즈별 진행 상황 생성 (UserProgress 기준)
-        List<LevelProgressDto.QuizProgressDto> quizProgressList = createQuizProgressList(levelId, userId, progressList);
+        List<LevelProgressDto.QuizProgressDto> quizProgressList = createQuizProgressList(level, aggregates);
         double passRate = completedQuizzes > 0 ? (double) passedQuizzes / completedQuizzes : 0.0;
         double completionRate = (double) completedQuizzes / QUESTIONS_PER_LEVEL;
 
         return LevelProgressDto.builder()
-                .levelId(levelId)
-                .levelTitle(level.getTitle())
-                .subsectorId(level.getSubsector().getId())
-                .subsectorName(level.getSubsector().getName())
-                .levelNumber(level.getLevelNumber())
-                .learningGoal(level.getLearningGoal())
+                .levelId(level.id())
+                .levelTitle(level.title())
+                .subsectorId(subsector.id())
+                .subsectorName(subsector.name())
+                .levelNumber(level.levelNumber())
+                .learningGoal(level.learningGoal())
                 .status(levelStatus)
                 .totalQuizzes(QUESTIONS_PER_LEVEL)
                 .completedQuizzes(completedQuizzes)
@@ -173,10 +221,9 @@ public class LevelService {
      */
     @Transactional
     public LevelCompletionDto completeLevel(Long levelId, Long userId) {
-        // 레벨 정보를 먼저 가져와서 서브섹터 ID를 얻음
-        Level level = levelRepository.findById(levelId)
-                .orElseThrow(() -> new RuntimeException("Level not found with id: " + levelId));
-        LevelProgressDto progress = getLevelProgress(levelId, userId, level.getSubsector().getId());
+        // 카탈로그에서 서브섹터 ID를 얻음
+        LearningCatalog.LevelNode level = learningCatalog.getLevel(levelId);
+        LevelProgressDto progress = getLevelProgress(levelId, userId, level.subsectorId());
         
         if (progress.getStatus() != LevelProgressDto.LevelStatus.COMPLETED) {
             throw new RuntimeException("Level is not completed yet");
@@ -186,6 +233,11 @@ public class LevelService {
         boolean isPassed = progress.getCorrectAnswers() >= PASS_SCORE;
         int pointsEarned = calculatePoints(progress.getCorrectAnswers(), progress.getTimeSpent());
         
+        // 레벨 완료 기록 (퀴즈 완료 시점에 이미 기록되었으면 그대로 유지)
+        if (isPassed) {
+            levelCompletionLedger.record(userId, level, progress.getCorrectAnswers());
+        }
+        
         LevelCompletionDto completion = LevelCompletionDto.builder()
                 .levelId(levelId)
                 .levelTitle(progress.getLevelTitle())
@@ -213,20 +265,16 @@ public class LevelService {
     }
 
     /**
-     * 퀴즈별 진행 상황 리스트 생성 (UserProgress 기준)
+     * 퀴즈별 진행 상황 리스트 생성 (UserProgress 집계 기준)
      */
-    private List<LevelProgressDto.QuizProgressDto> createQuizProgressList(Long levelId, Long userId, List<UserProgress> progressList) {
-        List<Quiz> quizzes = quizRepository.findByLevelIdOrderById(levelId);
+    private List<LevelProgressDto.QuizProgressDto> createQuizProgressList(LearningCatalog.LevelNode level,
+                                                                         Map<Long, QuizProgressAggregate> aggregates) {
+        List<LearningCatalog.QuizNode> quizzes = level.quizzes();
         List<LevelProgressDto.QuizProgressDto> quizProgressList = new ArrayList<>();
         
         for (int i = 0; i < quizzes.size(); i++) {
-            Quiz quiz = quizzes.get(i);
-            UserProgress userProgress = progressList.stream()
-                    .filter(p -> p.getQuiz().getId().equals(quiz.getId()))
-                    .findFirst()
-                    .orElse(null);
-            
-            LevelProgressDto.QuizProgressDto quizProgress = createQuizProgressFromUserProgress(quiz, userProgress, i + 1);
+            LearningCatalog.QuizNode quiz = quizzes.get(i);
+            LevelProgressDto.QuizProgressDto quizProgress = createQuizProgress(quiz, aggregates.get(quiz.id()), i + 1);
             quizProgressList.add(quizProgress);
         }
         
@@ -234,13 +282,13 @@ public class LevelService {
     }
 
     /**
-     * UserProgress에서 QuizProgressDto 생성
+     * 퀴즈 진행 집계에서 QuizProgressDto 생성
      */
-    private LevelProgressDto.QuizProgressDto createQuizProgressFromUserProgress(Quiz quiz, UserProgress userProgress, int quizNumber) {
-        if (userProgress == null || userProgress.getFinishedAt() == null) {
+    private LevelProgressDto.QuizProgressDto createQuizProgress(LearningCatalog.QuizNode quiz, QuizProgressAggregate aggregate, int quizNumber) {
+        if (aggregate == null || aggregate.finished() == 0) {
             return LevelProgressDto.QuizProgressDto.builder()
-                    .quizId(quiz.getId())
-                    .quizTitle(quiz.getTitle())
+                    .quizId(quiz.id())
+                    .quizTitle(quiz.title())
                     .quizNumber(quizNumber)
                     .status(LevelProgressDto.QuizStatus.NOT_STARTED)
                     .score(0)
@@ -251,28 +299,28 @@ public class LevelService {
         }
 
         return LevelProgressDto.QuizProgressDto.builder()
-                .quizId(quiz.getId())
-                .quizTitle(quiz.getTitle())
+                .quizId(quiz.id())
+                .quizTitle(quiz.title())
                 .quizNumber(quizNumber)
                 .status(LevelProgressDto.QuizStatus.COMPLETED)
-                .score(userProgress.getScore() * 100) // score를 100배로 변환
-                .completedAt(userProgress.getFinishedAt())
+                .score(aggregate.bestScore() * 100) // score를 100배로 변환
+                .completedAt(aggregate.finishedAt())
                 .timeSpent(300) // 기본 5분
-                .isCorrect(userProgress.getPassed())
+                .isCorrect(aggregate.passed() > 0)
                 .build();
     }
 
     /**
      * 퀴즈 진행 상황 조회 (기존 메서드 - 호환성 유지)
      */
-    private LevelProgressDto.QuizProgressDto getQuizProgress(Quiz quiz, Long userId, int quizNumber) {
+    private LevelProgressDto.QuizProgressDto getQuizProgress(LearningCatalog.QuizNode quiz, Long userId, int quizNumber) {
         // 사용자 답변 조회
-        List<UserAnswer> userAnswers = userAnswerRepository.findByUserIdAndQuizId(userId, quiz.getId());
+        List<UserAnswer> userAnswers = userAnswerRepository.findByUserIdAndQuizId(userId, quiz.id());
         
         if (userAnswers.isEmpty()) {
             return LevelProgressDto.QuizProgressDto.builder()
-                    .quizId(quiz.getId())
-                    .quizTitle(quiz.getTitle())
+                    .quizId(quiz.id())
+                    .quizTitle(quiz.title())
                     .quizNumber(quizNumber)
                     .status(LevelProgressDto.QuizStatus.NOT_STARTED)
                     .score(0)
@@ -299,8 +347,8 @@ public class LevelService {
         boolean passed = correctAnswers >= 3; // 3문제 이상 맞춰야 통과 (4문제 기준)
 
         return LevelProgressDto.QuizProgressDto.builder()
-                .quizId(quiz.getId())
-                .quizTitle(quiz.getTitle())
+                .quizId(quiz.id())
+                .quizTitle(quiz.title())
                 .quizNumber(quizNumber)
                 .status(LevelProgressDto.QuizStatus.COMPLETED)
                 .score(correctAnswers * 100)
@@ -313,7 +361,7 @@ public class LevelService {
     /**
      * 레벨 상태 결정
      */
-    private LevelProgressDto.LevelStatus determineLevelStatus(int completedQuizzes, int correctAnswers) {
+    static LevelProgressDto.LevelStatus determineLevelStatus(int completedQuizzes, int correctAnswers) {
         if (completedQuizzes == 0) {
             return LevelProgressDto.LevelStatus.NOT_STARTED;
         } else if (completedQuizzes < QUESTIONS_PER_LEVEL) {
@@ -325,24 +373,14 @@ public class LevelService {
         }
     }
 
-    /**
-     * 다음 레벨 ID 조회
-     */
-    private Long getNextLevelId(Long currentLevelId) {
-        // 현재 레벨의 다음 레벨 ID를 조회하는 로직
-        // 실제 구현에서는 Level 엔티티에 nextLevelId 필드가 있거나
-        // levelNumber를 기준으로 다음 레벨을 찾는 로직이 필요
-        return currentLevelId + 1; // 임시 구현
-    }
-
     /**
      * 다음 레벨 제목 조회
      */
     private String getNextLevelTitle(Long nextLevelId) {
         if (nextLevelId == null) return null;
         
-        return levelRepository.findById(nextLevelId)
-                .map(Level::getTitle)
+        return learningCatalog.findLevel(nextLevelId)
+                .map(LearningCatalog.LevelNode::title)
                 .orElse("다음 레벨");
     }
 
@@ -358,16 +396,11 @@ public class LevelService {
     /**
      * 징검다리 단계별 진행률 생성
      */
-    private List<StepProgressDto> createStepProgress(Long levelId, Long userId, Level level) {
-        // user_progress 테이블에서 진행률 조회
-        List<UserProgress> progressList = userProgressRepository.findByUserIdAndLevelId(userId, levelId);
-        
-        // 현재 4문제를 1개 단계로 처리
-        int completedQuizzes = (int) progressList.stream().map(UserProgress::getQuiz).distinct().count();
-        int passedQuizzes = (int) progressList.stream()
-                .filter(UserProgress::getPassed)
-                .map(UserProgress::getQuiz)
-                .distinct()
+    private List<StepProgressDto> createStepProgress(LearningCatalog.LevelNode level, List<QuizProgressAggregate> levelAggregates) {
+        // 현재 4문제를 1개 단계로 처리 (진행 기록이 있는 퀴즈 / 통과 기록이 있는 퀴즈 수)
+        int completedQuizzes = levelAggregates.size();
+        int passedQuizzes = (int) levelAggregates.stream()
+                .filter(aggregate -> aggregate.passed() > 0)
                 .count();
         
         boolean isCompleted = completedQuizzes == 4;
@@ -375,9 +408,9 @@ public class LevelService {
         double passRate = completedQuizzes > 0 ? (double) passedQuizzes / completedQuizzes : 0.0;
         
         // 레벨 정보를 사용하여 단계 설명 생성
-        String stepDescription = level.getTitle() != null ? level.getTitle() : "기초 상식";
-        if (level.getLearningGoal() != null && !level.getLearningGoal().trim().isEmpty()) {
-            stepDescription = level.getLearningGoal();
+        String stepDescription = level.title() != null ? level.title() : "기초 상식";
+        if (level.learningGoal() != null && !level.learningGoal().trim().isEmpty()) {
+            stepDescription = level.learningGoal();
         }
         
         StepProgressDto step = StepProgressDto.builder()
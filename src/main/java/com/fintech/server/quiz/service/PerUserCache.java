@@ -0,0 +1,103 @@
+package com.fintech.server.quiz.service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 사용자별 조회 결과 캐시
+ * - 최근 사용자 기준으로 최대 maxUsers명까지 메모리에 보관 (넘치면 가장 오래 조회하지 않은 사용자부터 제거)
+ * - 캐시가 비어 읽기 시작할 때 사용자 자리에 읽기 표식을 두고, 읽는 동안 그 사용자의 무효화/갱신으로 표식이 사라졌다면
+ *   읽은 결과를 보관하지 않음 (커밋 전 값이 다시 들어오는 것 방지, 다른 사용자의 변경은 영향 없음)
+ */
+public class PerUserCache<V> {
+
+    // 읽는 중인 사용자 자리에 두는 표식 (읽기마다 새 객체)
+    private static final class Loading {
+    }
+
+    private final Map<Long, Object> cache;
+
+    public PerUserCache(int maxUsers) {
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Object> eldest) {
+                return size() > maxUsers;
+            }
+        });
+    }
+
+    /**
+     * 캐시된 값 조회 (없으면 loader로 읽어 보관)
+     */
+    public V get(Long userId, Supplier<V> loader) {
+        return get(userId, value -> true, loader);
+    }
+
+    /**
+     * 캐시된 값 조회 (없거나 fresh를 만족하지 않으면 loader로 읽어 보관)
+     */
+    @SuppressWarnings("unchecked")
+    public V get(Long userId, Predicate<V> fresh, Supplier<V> loader) {
+        Object marker;
+        synchronized (cache) {
+            Object cached = cache.get(userId);
+            if (cached != null && !(cached instanceof Loading) && fresh.test((V) cached)) {
+                return (V) cached;
+            }
+            // 이미 다른 요청이 읽는 중이면 같은 표식을 공유 (둘 중 누가 보관해도 같은 시점 이후의 값)
+            marker = cached instanceof Loading ? cached : new Loading();
+            cache.put(userId, marker);
+        }
+
+        V loaded = loader.get();
+        synchronized (cache) {
+            if (cache.get(userId) == marker) {
+                cache.put(userId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 캐시된 값이 있으면 변경분을 반영해 교체 (읽는 중이면 그 결과에 변경분이 들어갔는지 알 수 없으므로 버림)
+     */
+    @SuppressWarnings("unchecked")
+    public void update(Long userId, UnaryOperator<V> updater) {
+        synchronized (cache) {
+            Object cached = cache.get(userId);
+            if (cached instanceof Loading) {
+                cache.remove(userId);
+            } else if (cached != null) {
+                cache.put(userId, updater.apply((V) cached));
+            }
+        }
+    }
+
+    /**
+     * 사용자 항목 무효화 (읽는 중인 결과도 보관하지 않음)
+     */
+    public void invalidate(Long userId) {
+        cache.remove(userId);
+    }
+
+    /**
+     * 전체 무효화
+     */
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    /**
+     * 조건에 맞는 항목 제거 (만료 정리용, 읽는 중인 자리는 그대로 둠)
+     */
+    @SuppressWarnings("unchecked")
+    public void removeIf(Predicate<V> condition) {
+        synchronized (cache) {
+            cache.values().removeIf(value -> !(value instanceof Loading) && condition.test((V) value));
+        }
+    }
+}
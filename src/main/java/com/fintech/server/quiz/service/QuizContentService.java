@@ -1,25 +1,20 @@
 package com.fintech.server.quiz.service;
 
-import com.fintech.server.quiz.entity.Subsector;
-import com.fintech.server.quiz.entity.Level;
-import com.fintech.server.quiz.entity.Quiz;
-import com.fintech.server.quiz.entity.UserAnswer;
+import com.fintech.server.quiz.entity.UserDailyActivity;
 import com.fintech.server.quiz.dto.SectorResponseDto;
 import com.fintech.server.quiz.dto.SubsectorDetailResponseDto;
 import com.fintech.server.quiz.dto.LevelDetailResponseDto;
-import com.fintech.server.quiz.repository.SectorRepository;
-import com.fintech.server.quiz.repository.SubsectorRepository;
-import com.fintech.server.quiz.repository.LevelRepository;
-import com.fintech.server.quiz.repository.QuizRepository;
-import com.fintech.server.quiz.repository.UserAnswerRepository;
+import com.fintech.server.quiz.event.QuizContentChangedEvent;
 import com.fintech.server.quiz.repository.UserDailyActivityRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -28,22 +23,20 @@ import java.util.stream.IntStream;
 @RequiredArgsConstructor
 public class QuizContentService {
 
-    private final SectorRepository sectorRepository;
-    private final SubsectorRepository subsectorRepository;
-    private final LevelRepository levelRepository;
-    private final QuizRepository quizRepository;
-    private final UserAnswerRepository userAnswerRepository;
+    private final LearningCatalog learningCatalog; // 섹터/서브섹터/레벨/퀴즈 메모리 카탈로그
+    private final AnsweredQuizService answeredQuizService; // 사용자별 답변한 퀴즈 집합
     private final UserDailyActivityRepository userDailyActivityRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<SectorResponseDto> findAllSectors() {
-        return sectorRepository.findAllWithSubsectors().stream()
+        return learningCatalog.getSectors().stream()
                 .map(sector -> SectorResponseDto.builder()
-                        .id(sector.getId())
-                        .name(sector.getName())
-                        .subsectors(sector.getSubsectors().stream()
+                        .id(sector.id())
+                        .name(sector.name())
+                        .subsectors(learningCatalog.getSubsectors(sector.id()).stream()
                                 .map(subsector -> SectorResponseDto.SubsectorDto.builder()
-                                        .id(subsector.getId())
-                                        .name(subsector.getName())
+                                        .id(subsector.id())
+                                        .name(subsector.name())
                                         .build())
                                 .collect(Collectors.toList()))
                         .build())
@@ -51,20 +44,19 @@ public class QuizContentService {
     }
 
     public SubsectorDetailResponseDto findSubsectorById(Long subsectorId) {
-        Subsector subsector = subsectorRepository.findByIdWithLevels(subsectorId)
-                .orElseThrow(() -> new RuntimeException("Subsector not found with id: " + subsectorId));
+        LearningCatalog.SubsectorNode subsector = learningCatalog.getSubsector(subsectorId);
 
         return SubsectorDetailResponseDto.builder()
-                .id(subsector.getId())
-                .name(subsector.getName())
-                .sectorName(subsector.getSector().getName())
-                .description(subsector.getDescription())
-                .levels(subsector.getLevels().stream()
+                .id(subsector.id())
+                .name(subsector.name())
+                .sectorName(learningCatalog.getSector(subsector.sectorId()).name())
+                .description(subsector.description())
+                .levels(learningCatalog.getLevels(subsectorId).stream()
                         .map(level -> SubsectorDetailResponseDto.LevelDto.builder()
-                                .id(level.getId())
-                                .levelNumber(level.getLevelNumber())
-                                .title(level.getTitle())
-                                .learningGoal(level.getLearningGoal())
+                                .id(level.id())
+                                .levelNumber(level.levelNumber())
+                                .title(level.title())
+                                .learningGoal(level.learningGoal())
                                 .build())
                         .collect(Collectors.toList()))
                 .build();
@@ -74,10 +66,9 @@ public class QuizContentService {
      * 탐험지 화면 데이터 조회 - 레벨별 퀴즈 상태 정보
      */
     public LevelDetailResponseDto getLevelDetail(Long levelId, Long userId) {
-        Level level = levelRepository.findById(levelId)
-                .orElseThrow(() -> new RuntimeException("Level not found with id: " + levelId));
+        LearningCatalog.LevelNode level = learningCatalog.getLevel(levelId);
 
-        List<Quiz> quizzes = quizRepository.findByLevelIdOrderById(levelId);
+        List<LearningCatalog.QuizNode> quizzes = level.quizzes();
         
         // 주간 학습 현황 데이터 생성 (이번 주 7일간)
         List<LevelDetailResponseDto.WeeklyProgressDto> weeklyProgress = generateWeeklyProgress(userId);
@@ -86,57 +77,57 @@ public class QuizContentService {
         List<LevelDetailResponseDto.QuizStatusDto> quizStatusList = generateQuizStatusList(quizzes, userId);
 
         return LevelDetailResponseDto.builder()
-                .levelTitle(level.getTitle())
-                .subsectorName(level.getSubsector().getName())
+                .levelTitle(level.title())
+                .subsectorName(learningCatalog.getSubsector(level.subsectorId()).name())
                 .weeklyProgress(weeklyProgress)
                 .quizzes(quizStatusList)
                 .build();
     }
 
     /**
-     * 주간 학습 현황 데이터 생성
+     * 주간 학습 현황 데이터 생성 (이번 주 활동 기록을 기간 조회 한 번으로 가져옴)
      */
     private List<LevelDetailResponseDto.WeeklyProgressDto> generateWeeklyProgress(Long userId) {
         LocalDate today = LocalDate.now();
         LocalDate weekStart = today.minusDays(today.getDayOfWeek().getValue() - 1); // 이번 주 월요일
         
+        Set<LocalDate> activeDates = userDailyActivityRepository
+                .findByIdUserIdAndIdActivityDateBetween(userId, weekStart, weekStart.plusDays(6)).stream()
+                .map(UserDailyActivity::getActivityDate)
+                .collect(Collectors.toSet());
+        
         return IntStream.range(0, 7)
                 .mapToObj(i -> {
                     LocalDate date = weekStart.plusDays(i);
-                    boolean completed = hasUserActivityOnDate(userId, date);
                     
                     return LevelDetailResponseDto.WeeklyProgressDto.builder()
                             .dayOfMonth(date.getDayOfMonth())
-                            .completed(completed)
+                            .completed(activeDates.contains(date))
                             .build();
                 })
                 .collect(Collectors.toList());
     }
 
-    /**
-     * 특정 날짜에 사용자 활동이 있는지 확인
-     */
-    private boolean hasUserActivityOnDate(Long userId, LocalDate date) {
-        return userDailyActivityRepository.findByIdUserIdAndIdActivityDate(userId, date).isPresent();
-    }
-
     /**
      * 퀴즈 상태 리스트 생성 (개선된 로직)
      */
-    private List<LevelDetailResponseDto.QuizStatusDto> generateQuizStatusList(List<Quiz> quizzes, Long userId) {
+    private List<LevelDetailResponseDto.QuizStatusDto> generateQuizStatusList(List<LearningCatalog.QuizNode> quizzes, Long userId) {
         List<LevelDetailResponseDto.QuizStatusDto> result = new ArrayList<>();
         boolean hasCompletedQuiz = false;
         
-        for (Quiz quiz : quizzes) {
-            LevelDetailResponseDto.Status status = determineQuizStatus(quiz, userId, hasCompletedQuiz);
+        // 사용자가 답변한 퀴즈 집합 (조회 한 번, 퀴즈별로는 비트 확인만)
+        AnsweredQuizSet answeredQuizzes = answeredQuizService.getAnsweredQuizzes(userId);
+        
+        for (LearningCatalog.QuizNode quiz : quizzes) {
+            LevelDetailResponseDto.Status status = determineQuizStatus(quiz, answeredQuizzes, hasCompletedQuiz);
             if (status == LevelDetailResponseDto.Status.COMPLETED) {
                 hasCompletedQuiz = true;
             }
             
             result.add(LevelDetailResponseDto.QuizStatusDto.builder()
-                    .id(quiz.getId())
-                    .title(quiz.getTitle())
-                    .sortOrder(quiz.getId().intValue())
+                    .id(quiz.id())
+                    .title(quiz.title())
+                    .sortOrder(quiz.id().intValue())
                     .status(status)
                     .build());
         }
@@ -147,11 +138,9 @@ public class QuizContentService {
     /**
      * 퀴즈 상태 결정 로직 (개선된 버전)
      */
-    private LevelDetailResponseDto.Status determineQuizStatus(Quiz quiz, Long userId, boolean hasCompletedQuiz) {
+    private LevelDetailResponseDto.Status determineQuizStatus(LearningCatalog.QuizNode quiz, AnsweredQuizSet answeredQuizzes, boolean hasCompletedQuiz) {
         // 사용자가 해당 퀴즈를 완료했는지 확인
-        List<UserAnswer> userAnswers = userAnswerRepository.findByUserIdAndQuizId(userId, quiz.getId());
-        
-        if (!userAnswers.isEmpty()) {
+        if (answeredQuizzes.contains(quiz.id())) {
             // 답변이 있으면 완료 상태
             return LevelDetailResponseDto.Status.COMPLETED;
         } else {
@@ -165,4 +154,11 @@ public class QuizContentService {
             }
         }
     }
+
+    /**
+     * 콘텐츠 변경 알림 - 메모리에 적재된 콘텐츠 인덱스/캐시를 다시 구성합니다.
+     */
+    public void reloadContent(String reason) {
+        eventPublisher.publishEvent(new QuizContentChangedEvent(reason));
+    }
 }
@@ -2,20 +2,24 @@ package com.fintech.server.quiz.service;
 
 import com.fintech.server.quiz.dto.AnswerRequestDto;
 import com.fintech.server.quiz.dto.AnswerResponseDto;
-import com.fintech.server.entity.User;
+import com.fintech.server.quiz.dto.BatchAnswerRequestDto;
+import com.fintech.server.quiz.dto.BatchAnswerResponseDto;
 import com.fintech.server.quiz.dto.QuizResponseDto;
 import com.fintech.server.quiz.dto.QuizCompleteResponse;
-import com.fintech.server.quiz.entity.QuestionOption;
+import com.fintech.server.quiz.dto.UserScoreSummary;
 import com.fintech.server.quiz.entity.Quiz;
 import com.fintech.server.quiz.entity.UserAnswer;
 import com.fintech.server.quiz.entity.UserProgress;
-import com.fintech.server.quiz.repository.QuestionOptionRepository;
+import com.fintech.server.quiz.event.AnswerSubmittedEvent;
+import com.fintech.server.quiz.event.QuizCompletedEvent;
+import com.fintech.server.quiz.event.QuizRetriedEvent;
 import com.fintech.server.quiz.repository.QuizRepository;
 import com.fintech.server.quiz.repository.UserAnswerRepository;
 import com.fintech.server.quiz.repository.UserProgressRepository;
 import com.fintech.server.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -32,12 +36,16 @@ import java.util.stream.Collectors;
 public class QuizService {
 
     private final QuizRepository quizRepository;
-    private final QuestionOptionRepository questionOptionRepository;
+    private final AnswerKeyIndex answerKeyIndex; // 채점용 정답 인덱스
     private final UserAnswerRepository userAnswerRepository;
+    private final LatestAnswerStore latestAnswerStore; // 문제별 최신 답변 upsert (+ 선택적 이력)
     private final UserProgressRepository userProgressRepository;
     private final UserRepository userRepository; // 임시로 사용자 정보를 가져오기 위해 추가
-    private final WrongNoteService wrongNoteService; // 오답 노트 서비스 추가
-    private final BadgeService badgeService; // 배지 서비스 추가
+    private final ApplicationEventPublisher eventPublisher; // 답변/완료 이후 부가 작업은 이벤트로 위임
+    private final UserLearningStatsService userLearningStatsService; // 학습 누적 집계
+    private final LearningCatalog learningCatalog; // 퀴즈 존재 확인용 메모리 카탈로그
+    private final UserScoreService userScoreService; // 총점수 집계 (DB 집계 + 단기 캐시)
+    private final LevelCompletionLedger levelCompletionLedger; // 레벨 완료 기록/집계
 
     /**
      * 특정 ID의 퀴즈 정보를 조회하는 메소드
@@ -56,80 +64,133 @@ public class QuizService {
         // Spring Security Context에서 인증된 사용자 ID 가져오기
         Long userId = getCurrentUserId(requestDto.getUserId());
         
-        User currentUser = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("User not found with id: " + userId);
+        }
+        // 같은 사용자의 제출을 집계 행 잠금으로 직렬화 (첫 답변처럼 잠글 답변 행이 없어도 동시 제출이 교착되지 않음)
+        userLearningStatsService.lockStats(userId);
 
-        QuestionOption selectedOption = questionOptionRepository.findById(requestDto.getSelectedOptionId())
-                .orElseThrow(() -> new RuntimeException("Option not found with id: " + requestDto.getSelectedOptionId()));
+        // 정답 인덱스(메모리)로 채점 - 선택지/정답 조회 쿼리 없음
+        AnswerKeyIndex.OptionKey selectedOption = answerKeyIndex.getOption(requestDto.getSelectedOptionId());
+        AnswerKeyIndex.QuestionKey questionKey = answerKeyIndex.getQuestion(selectedOption.questionId());
 
-        boolean isCorrect = selectedOption.isCorrect();
+        boolean isCorrect = selectedOption.correct();
+        Long quizId = questionKey.quizId();
 
-        // 중복 답변 방지: 같은 사용자가 같은 문제에 대해 이미 답변했는지 확인
-        Long quizId = selectedOption.getQuestion().getQuizId();
-        List<UserAnswer> existingAnswers = userAnswerRepository.findByUserIdAndQuizId(userId, quizId)
-                .stream()
-                .filter(answer -> answer.getQuestion().getId().equals(requestDto.getQuestionId()))
-                .collect(Collectors.toList());
-        
-        UserAnswer userAnswer;
-        if (!existingAnswers.isEmpty()) {
-            // 기존 답변이 있으면 가장 최근 답변을 업데이트
-            userAnswer = existingAnswers.stream()
-                    .max(Comparator.comparing(UserAnswer::getAnsweredAt))
-                    .orElse(existingAnswers.get(0));
-            
-            userAnswer.setSelectedOption(selectedOption);
-            userAnswer.setAnsweredAt(LocalDateTime.now());
-            userAnswer.setCorrect(isCorrect);
-            
-            log.info("기존 답변 업데이트: userId={}, questionId={}, selectedOptionId={}, isCorrect={}", 
-                    userId, requestDto.getQuestionId(), requestDto.getSelectedOptionId(), isCorrect);
-        } else {
-            // 새로운 답변 생성
-            userAnswer = new UserAnswer();
-            userAnswer.setUser(currentUser);
-            userAnswer.setQuestion(selectedOption.getQuestion());
-            userAnswer.setSelectedOption(selectedOption);
-            userAnswer.setCorrect(isCorrect);
-            
+        // 문제별 최신 답변 한 행만 유지: (user_id, question_id) 유니크 키에 upsert 한 문장으로 기록 (중복 제출도 한 행으로 합쳐짐)
+        // 이전 정답 여부는 잠금 이후 최신 커밋 값으로 읽어 동시 제출(더블탭)이 같은 이전 값을 보고 두 번 집계하지 않도록 함
+        boolean wasCorrect = userAnswerRepository
+                .findForUpdateByUserIdAndQuestionIdIn(userId, List.of(selectedOption.questionId())).stream()
+                .anyMatch(UserAnswer::isCorrect);
+        boolean isNewAnswer = latestAnswerStore.save(userId,
+                new LatestAnswerStore.Answer(selectedOption.questionId(), selectedOption.optionId(), isCorrect),
+                LocalDateTime.now());
+        if (isNewAnswer) {
+            wasCorrect = false;
             log.info("새 답변 생성: userId={}, questionId={}, selectedOptionId={}, isCorrect={}", 
-                    userId, requestDto.getQuestionId(), requestDto.getSelectedOptionId(), isCorrect);
+                    userId, selectedOption.questionId(), requestDto.getSelectedOptionId(), isCorrect);
+        } else {
+            log.info("기존 답변 업데이트: userId={}, questionId={}, selectedOptionId={}, isCorrect={}", 
+                    userId, selectedOption.questionId(), requestDto.getSelectedOptionId(), isCorrect);
         }
         
-        userAnswerRepository.save(userAnswer);
-
-        // 틀린 답변인 경우 오답 노트 자동 생성
-        if (!isCorrect) {
-            try {
-                wrongNoteService.createOrUpdateWrongNote(
-                    currentUser.getId(), 
-                    requestDto.getQuestionId(), 
-                    requestDto.getSelectedOptionId()
-                );
-                log.info("오답 노트 자동 생성 완료: userId={}, questionId={}", 
-                        currentUser.getId(), requestDto.getQuestionId());
-            } catch (Exception e) {
-                log.error("오답 노트 생성 중 오류 발생", e);
-                // 오답 노트 생성 실패해도 답변 제출은 성공으로 처리
-            }
-        }
+        userLearningStatsService.recordAnswers(userId, (isCorrect ? 1 : 0) - (wasCorrect ? 1 : 0));
 
-        // 퀴즈 답변 후 배지 업그레이드 확인
-        try {
-            badgeService.updateUserBadgeProgress(currentUser.getId());
-            log.info("배지 진행 상황 업데이트 완료: userId={}", currentUser.getId());
-        } catch (Exception e) {
-            log.error("배지 업그레이드 확인 중 오류 발생", e);
-        }
+        // 오답 노트/배지/대시보드 반영은 커밋 이후 학습 이벤트 파이프라인에서 처리
+        eventPublisher.publishEvent(new AnswerSubmittedEvent(userId, quizId,
+                1, isCorrect ? 1 : 0, isNewAnswer ? 1 : 0,
+                isCorrect ? Map.of() : Map.of(selectedOption.questionId(), selectedOption.optionId()),
+                LocalDateTime.now()));
 
-        // 정답 옵션 정보 조회
-        QuestionOption correctOption = questionOptionRepository.findCorrectOptionByQuestionId(requestDto.getQuestionId())
-                .orElseThrow(() -> new RuntimeException("Correct option not found for question id: " + requestDto.getQuestionId()));
+        // 정답 옵션 정보 (인덱스)
+        if (questionKey.correctOptionId() == null) {
+            throw new RuntimeException("Correct option not found for question id: " + selectedOption.questionId());
+        }
         
         return AnswerResponseDto.builder()
                 .isCorrect(isCorrect)
-                .correctOptionId(correctOption.getId())
-                .feedback(selectedOption.getQuestion().getAnswerExplanationMd())
+                .correctOptionId(questionKey.correctOptionId())
+                .feedback(questionKey.explanationMd())
+                .build();
+    }
+
+    /**
+     * 퀴즈 한 회차의 답안을 한 번에 채점하고 기록하는 메소드
+     * - 사용자 조회, 기존 답변 조회, 오답 노트 반영, 배지 평가를 회차당 한 번씩만 수행
+     */
+    @Transactional
+    public BatchAnswerResponseDto submitAnswers(Long quizId, BatchAnswerRequestDto requestDto) {
+        if (requestDto.getAnswers() == null || requestDto.getAnswers().isEmpty()) {
+            throw new IllegalArgumentException("No answers submitted for quiz id: " + quizId);
+        }
+
+        Long userId = getCurrentUserId(requestDto.getUserId());
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("User not found with id: " + userId);
+        }
+        userLearningStatsService.lockStats(userId); // 같은 사용자의 제출 직렬화
+
+        // 1. 정답 인덱스로 채점 (같은 문제가 여러 번 오면 마지막 답안 사용)
+        Map<Long, AnswerKeyIndex.OptionKey> selectedByQuestion = new LinkedHashMap<>();
+        for (BatchAnswerRequestDto.AnswerItem item : requestDto.getAnswers()) {
+            AnswerKeyIndex.OptionKey option = answerKeyIndex.getOption(item.getSelectedOptionId());
+            if (!answerKeyIndex.getQuestion(option.questionId()).quizId().equals(quizId)) {
+                throw new IllegalArgumentException("Option " + item.getSelectedOptionId() + " does not belong to quiz " + quizId);
+            }
+            selectedByQuestion.put(option.questionId(), option);
+        }
+
+        // 2. 기존 답변의 정답 여부를 잠금 조회로 한 번에 읽음 (문제당 한 행, 동시 제출은 집계 행 잠금으로 직렬화됨)
+        Map<Long, Boolean> previousCorrectByQuestion = new HashMap<>();
+        for (UserAnswer answer : userAnswerRepository.findForUpdateByUserIdAndQuestionIdIn(userId, selectedByQuestion.keySet())) {
+            previousCorrectByQuestion.put(answer.getQuestion().getId(), answer.isCorrect());
+        }
+
+        // 3. 답변 일괄 저장 (문제마다 upsert 한 문장)
+        List<LatestAnswerStore.Answer> answersToSave = new ArrayList<>();
+        Map<Long, Long> wrongOptionByQuestion = new LinkedHashMap<>();
+        List<BatchAnswerResponseDto.AnswerResultDto> results = new ArrayList<>();
+        int correctAnswers = 0;
+        int correctDelta = 0;
+
+        for (AnswerKeyIndex.OptionKey option : selectedByQuestion.values()) {
+            AnswerKeyIndex.QuestionKey questionKey = answerKeyIndex.getQuestion(option.questionId());
+
+            if (Boolean.TRUE.equals(previousCorrectByQuestion.get(option.questionId()))) {
+                correctDelta--;
+            }
+            answersToSave.add(new LatestAnswerStore.Answer(option.questionId(), option.optionId(), option.correct()));
+
+            if (option.correct()) {
+                correctAnswers++;
+                correctDelta++;
+            } else {
+                wrongOptionByQuestion.put(option.questionId(), option.optionId());
+            }
+
+            results.add(BatchAnswerResponseDto.AnswerResultDto.builder()
+                    .questionId(option.questionId())
+                    .selectedOptionId(option.optionId())
+                    .isCorrect(option.correct())
+                    .correctOptionId(questionKey.correctOptionId())
+                    .feedback(questionKey.explanationMd())
+                    .build());
+        }
+
+        int newAnswers = latestAnswerStore.saveAll(userId, answersToSave, LocalDateTime.now());
+        userLearningStatsService.recordAnswers(userId, correctDelta);
+        log.info("일괄 답변 저장: userId={}, quizId={}, 답변 수={}, 정답 수={}",
+                userId, quizId, answersToSave.size(), correctAnswers);
+
+        // 4. 오답 노트 일괄 반영과 배지 평가는 커밋 이후 파이프라인에서 회차당 한 번
+        eventPublisher.publishEvent(new AnswerSubmittedEvent(userId, quizId,
+                answersToSave.size(), correctAnswers, newAnswers, wrongOptionByQuestion, LocalDateTime.now()));
+
+        return BatchAnswerResponseDto.builder()
+                .quizId(quizId)
+                .answeredQuestions(results.size())
+                .correctAnswers(correctAnswers)
+                .results(results)
                 .build();
     }
 
@@ -163,76 +224,56 @@ public class QuizService {
 
     /**
      * 퀴즈 완료 처리 메소드
+     * 사용자/퀴즈당 진행 기록 한 행을 upsert 한 문장으로 기록하므로 같은 요청이 반복돼도 기록은 하나
      */
     @Transactional
     public QuizCompleteResponse completeQuiz(Long quizId, Long userId) {
-        // 1. 사용자와 퀴즈 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
+        // 1. 사용자와 퀴즈 존재 확인 (퀴즈는 메모리 카탈로그)
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("User not found with id: " + userId);
+        }
         
-        Quiz quiz = quizRepository.findByIdWithDetails(quizId)
-                .orElseThrow(() -> new RuntimeException("Quiz not found with id: " + quizId));
+        if (!learningCatalog.existsQuiz(quizId)) {
+            throw new RuntimeException("Quiz not found with id: " + quizId);
+        }
+
+        // 같은 사용자의 완료/다시풀기/제출을 집계 행 잠금으로 직렬화 (첫 완료처럼 잠글 진행 행이 없어도 교착되지 않음)
+        userLearningStatsService.lockStats(userId);
 
-        // 2. 사용자의 모든 답변 조회
-        List<UserAnswer> userAnswers = userAnswerRepository.findByUserIdAndQuizId(userId, quizId);
+        // 2. 답변 수와 정답 수 집계 (문제당 최신 답변 한 행만 있으므로 중복 제거 불필요)
+        Object[] answerCounts = userAnswerRepository.countAnswersByUserIdAndQuizId(userId, quizId).get(0);
+        int answeredQuestions = ((Number) answerCounts[0]).intValue();
         
-        if (userAnswers.isEmpty()) {
+        if (answeredQuestions == 0) {
             throw new IllegalArgumentException("No answers found for this quiz. Please complete the quiz first.");
         }
 
-        // 3. 점수 계산 (중복 제거: 각 문제별로 가장 최근 답변만 고려)
-        Map<Long, UserAnswer> latestAnswersByQuestion = userAnswers.stream()
-                .collect(Collectors.toMap(
-                    answer -> answer.getQuestion().getId(),
-                    answer -> answer,
-                    (existing, replacement) -> 
-                        replacement.getAnsweredAt().isAfter(existing.getAnsweredAt()) ? replacement : existing
-                ));
-        
-        int correctAnswers = (int) latestAnswersByQuestion.values().stream()
-                .filter(UserAnswer::isCorrect)
-                .count();
-        int totalQuestions = quiz.getQuestions().size(); // 퀴즈의 실제 문제 수
+        // 3. 점수 계산
+        int correctAnswers = ((Number) answerCounts[1]).intValue();
+        int totalQuestions = answerKeyIndex.countQuestions(quizId); // 퀴즈의 실제 문제 수 (정답 인덱스)
         boolean passed = correctAnswers >= 3; // 3문제 이상 맞춰야 통과 (4문제 기준)
         
-        // 4. UserProgress 저장 (퀴즈 완료 기록) - 중복 방지
-        List<UserProgress> existingProgress = userProgressRepository.findByUserIdAndQuizId(userId, quizId);
-        UserProgress userProgress;
+        // 4. UserProgress 저장 (퀴즈 완료 기록) - (user_id, quiz_id) 유니크 키에 upsert
+        // 첫 완료 여부와 이전 통과 여부는 잠금 조회한 이전 기록으로 판단 (동시 완료 요청의 중복 집계 방지)
+        Optional<UserProgress> previous = userProgressRepository.findForUpdateByUserIdAndQuizId(userId, quizId);
+        boolean firstCompletion = previous.map(progress -> progress.getFinishedAt() == null).orElse(true);
+        boolean wasPassed = previous.map(progress -> Boolean.TRUE.equals(progress.getPassed())).orElse(false);
+        Integer previousScore = firstCompletion ? null : previous.get().getScore();
+        LocalDateTime now = LocalDateTime.now();
+        userProgressRepository.upsertCompletion(userId, quizId,
+                now.minusMinutes(5), // 대략적 시작 시간
+                now, correctAnswers, passed); // 정답 수 = 점수 (required_quizzes와 동일)
+        log.info("{} UserProgress: userId={}, quizId={}", firstCompletion ? "새로운" : "기존", userId, quizId);
         
-        if (!existingProgress.isEmpty()) {
-            // 기존 진행 기록이 있으면 업데이트 (중복 제거)
-            userProgress = existingProgress.get(0); // 가장 최근 기록
-            log.info("기존 UserProgress 업데이트: userId={}, quizId={}", userId, quizId);
-            
-            // 중복된 다른 기록들 삭제
-            if (existingProgress.size() > 1) {
-                List<UserProgress> duplicatesToDelete = existingProgress.subList(1, existingProgress.size());
-                userProgressRepository.deleteAll(duplicatesToDelete);
-                log.info("중복된 UserProgress {}개 삭제: userId={}, quizId={}", 
-                        duplicatesToDelete.size(), userId, quizId);
-            }
-        } else {
-            // 새로운 진행 기록 생성
-            userProgress = new UserProgress();
-            userProgress.setUser(user);
-            userProgress.setQuiz(quiz);
-            log.info("새로운 UserProgress 생성: userId={}, quizId={}", userId, quizId);
-        }
+        userLearningStatsService.recordQuizChange(userId,
+                firstCompletion ? 1 : 0, (passed ? 1 : 0) - (wasPassed ? 1 : 0), 0);
         
-        userProgress.setScore(correctAnswers); // 정답 수 = 점수 (required_quizzes와 동일)
-        userProgress.setPassed(passed);
-        userProgress.setStartedAt(LocalDateTime.now().minusMinutes(5)); // 대략적 시작 시간
-        userProgress.setFinishedAt(LocalDateTime.now());
-        userProgress.setTeachingViews(0); // 기본값
-        userProgressRepository.save(userProgress);
+        // 레벨이 통과 상태가 되었으면 레벨 완료 기록 (같은 트랜잭션)
+        QuizCompletedEvent.LevelProgress levelProgress = levelCompletionLedger.onQuizCompleted(userId, quizId);
         
-        // 5. 배지 업데이트 (이미 구현됨)
-        try {
-            badgeService.updateUserBadgeProgress(userId);
-            log.info("배지 진행 상황 업데이트 완료: userId={}", userId);
-        } catch (Exception e) {
-            log.error("배지 업그레이드 확인 중 오류 발생", e);
-        }
+        // 5. 배지 업데이트는 커밋 이후 파이프라인에서 처리
+        eventPublisher.publishEvent(new QuizCompletedEvent(userId, quizId, passed, correctAnswers,
+                previousScore, wasPassed, levelProgress, now));
 
         // 6. 응답 생성
         String message = passed ? 
@@ -250,34 +291,45 @@ public class QuizService {
 
     /**
      * 퀴즈 다시풀기 메소드 (이전 답변 삭제 후 새로 시작)
+     * 엔티티를 읽지 않고 집계 조회와 일괄 삭제만 사용하므로 답변 수와 관계없이 같은 비용
      */
     @Transactional
     public void retryQuiz(Long quizId, Long userId) {
-        // 1. 사용자와 퀴즈 존재 확인
+        // 1. 사용자와 퀴즈 존재 확인 (퀴즈는 메모리 카탈로그)
         if (!userRepository.existsById(userId)) {
             throw new RuntimeException("User not found with id: " + userId);
         }
         
-        if (!quizRepository.existsById(quizId)) {
+        if (!learningCatalog.existsQuiz(quizId)) {
             throw new RuntimeException("Quiz not found with id: " + quizId);
         }
 
-        // 2. 해당 퀴즈의 이전 답변들 삭제
-        List<UserAnswer> existingAnswers = userAnswerRepository.findByUserIdAndQuizId(userId, quizId);
-        if (!existingAnswers.isEmpty()) {
-            userAnswerRepository.deleteAll(existingAnswers);
-            log.info("이전 답변 삭제 완료: userId={}, quizId={}, 삭제된 답변 수={}", 
-                    userId, quizId, existingAnswers.size());
-        }
+        userLearningStatsService.lockStats(userId); // 같은 사용자의 완료/다시풀기/제출 직렬화
 
-        // 3. 해당 퀴즈의 이전 UserProgress 삭제 (선택사항)
-        List<UserProgress> existingProgress = userProgressRepository.findByUserIdAndQuizId(userId, quizId);
-        if (!existingProgress.isEmpty()) {
-            userProgressRepository.deleteAll(existingProgress);
-            log.info("이전 진행 기록 삭제 완료: userId={}, quizId={}, 삭제된 기록 수={}", 
-                    userId, quizId, existingProgress.size());
-        }
+        // 2. 누적 집계 차감용으로 이전 통과 여부(잠금 조회)와 삭제될 정답 수만 조회
+        Optional<UserProgress> previous = userProgressRepository.findForUpdateByUserIdAndQuizId(userId, quizId);
+        boolean wasPassed = previous.map(progress -> Boolean.TRUE.equals(progress.getPassed())).orElse(false);
+        Object[] answerCounts = userAnswerRepository.countAnswersByUserIdAndQuizId(userId, quizId).get(0);
+        int removedCorrect = ((Number) answerCounts[1]).intValue();
+
+        // 3. 해당 퀴즈의 이전 답변과 진행 기록 일괄 삭제
+        int deletedAnswers = userAnswerRepository.deleteByUserIdAndQuizId(userId, quizId);
+        int deletedProgress = userProgressRepository.deleteByUserIdAndQuizId(userId, quizId);
+        log.info("이전 기록 삭제 완료: userId={}, quizId={}, 삭제된 답변 수={}, 삭제된 진행 기록 수={}", 
+                userId, quizId, deletedAnswers, deletedProgress);
 
+        // 4. 학습 누적 집계(배지 평가 기준)와 레벨 완료 기록에서 이번 퀴즈 기록만큼 같은 트랜잭션에서 차감
+        userLearningStatsService.recordQuizChange(userId,
+                deletedProgress > 0 ? -1 : 0, deletedProgress > 0 && wasPassed ? -1 : 0,
+                deletedAnswers > 0 ? -removedCorrect : 0); // 동시 요청이 먼저 지웠으면 차감하지 않음
+        QuizCompletedEvent.LevelProgress levelProgress = levelCompletionLedger.onQuizRetried(userId, quizId);
+
+        // 배지 재평가와 대시보드 갱신은 커밋 이후 파이프라인에서 처리
+        Integer removedScore = deletedProgress > 0
+                ? previous.filter(progress -> progress.getFinishedAt() != null).map(UserProgress::getScore).orElse(null)
+                : null;
+        eventPublisher.publishEvent(new QuizRetriedEvent(userId, quizId, removedScore,
+                deletedProgress > 0 && wasPassed, deletedAnswers, levelProgress, LocalDateTime.now()));
         log.info("퀴즈 다시풀기 준비 완료: userId={}, quizId={}", userId, quizId);
     }
 
@@ -319,9 +371,10 @@ public class QuizService {
     }
 
     /**
-     * 사용자 총점수 조회 메서드 (중복 제거)
+     * 사용자 총점수 조회 메서드
+     * 퀴즈별 최신 기록 선택과 합계는 DB 집계 쿼리 한 번으로 처리 (UserScoreService, 짧은 캐시 포함)
      */
-    public java.util.Map<String, Object> getUserTotalScore(Long userId) {
+    public UserScoreSummary getUserTotalScore(Long userId) {
         log.info("사용자 {}의 총점수 조회", userId);
         
         // 사용자 존재 확인
@@ -329,51 +382,11 @@ public class QuizService {
             throw new RuntimeException("User not found with id: " + userId);
         }
         
-        // 사용자의 모든 UserProgress 조회
-        List<com.fintech.server.quiz.entity.UserProgress> progressList = 
-            userProgressRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        
-        // 중복 제거: 같은 퀴즈에 대해서는 가장 최근 기록만 유지
-        Map<Long, com.fintech.server.quiz.entity.UserProgress> uniqueProgressMap = new HashMap<>();
-        for (com.fintech.server.quiz.entity.UserProgress progress : progressList) {
-            Long quizId = progress.getQuiz().getId();
-            if (!uniqueProgressMap.containsKey(quizId)) {
-                uniqueProgressMap.put(quizId, progress);
-            }
-        }
-        
-        List<com.fintech.server.quiz.entity.UserProgress> uniqueProgressList = 
-            new ArrayList<>(uniqueProgressMap.values());
+        UserScoreSummary summary = userScoreService.getSummary(userId);
         
-        // 총점수 계산 (중복 제거된 리스트 사용)
-        int totalScore = uniqueProgressList.stream()
-                .filter(p -> p.getFinishedAt() != null) // 완료된 퀴즈만
-                .mapToInt(com.fintech.server.quiz.entity.UserProgress::getScore)
-                .sum();
+        log.info("사용자 {}의 총점수 조회 완료: 총점={}, 완료퀴즈={}, 통과퀴즈={}", 
+                userId, summary.getTotalScore(), summary.getCompletedQuizzes(), summary.getPassedQuizzes());
         
-        // 통계 정보 (중복 제거된 리스트 사용)
-        int totalQuizzes = uniqueProgressList.size();
-        int completedQuizzes = (int) uniqueProgressList.stream()
-                .filter(p -> p.getFinishedAt() != null)
-                .count();
-        int passedQuizzes = (int) uniqueProgressList.stream()
-                .filter(p -> p.getPassed() != null && p.getPassed())
-                .count();
-        
-        // 응답 객체 생성
-        java.util.Map<String, Object> response = new java.util.HashMap<>();
-        response.put("userId", userId);
-        response.put("totalScore", totalScore);
-        response.put("totalQuizzes", totalQuizzes);
-        response.put("completedQuizzes", completedQuizzes);
-        response.put("passedQuizzes", passedQuizzes);
-        response.put("averageScore", completedQuizzes > 0 ? (double) totalScore / completedQuizzes : 0.0);
-        response.put("passRate", completedQuizzes > 0 ? (double) passedQuizzes / completedQuizzes : 0.0);
-        
-        log.info("사용자 {}의 총점수 조회 완료 (중복 제거): 총점={}, 완료퀴즈={}, 통과퀴즈={}, 중복제거전={}, 중복제거후={}", 
-                userId, totalScore, completedQuizzes, passedQuizzes, progressList.size(), uniqueProgressList.size());
-        
-        return response;
+        return summary;
     }
 }
-
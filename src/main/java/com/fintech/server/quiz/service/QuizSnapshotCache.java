@@ -0,0 +1,67 @@
+package com.fintech.server.quiz.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.server.quiz.event.QuizContentChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 퀴즈 상세 응답 스냅샷 캐시
+ * - 퀴즈별 최종 응답(정렬된 선택지, 가상기사 포함)을 한 번만 만들어 직렬화된 JSON 바이트로 보관
+ * - 콘텐츠 변경 이벤트가 오면 버전을 올리고 캐시 세대를 통째로 교체
+ *   (교체 전에 만들던 스냅샷은 이전 세대에만 들어가므로 새 세대를 오염시키지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QuizSnapshotCache {
+
+    private final QuizService quizService;
+    private final ObjectMapper objectMapper;
+
+    private volatile Generation generation = new Generation(0L, new ConcurrentHashMap<>());
+
+    private record Generation(long contentVersion, ConcurrentHashMap<Long, byte[]> snapshots) {
+    }
+
+    /**
+     * 퀴즈 응답 JSON 조회 (없으면 컴파일 후 캐시)
+     */
+    public byte[] getQuizJson(Long quizId) {
+        Generation current = generation;
+        byte[] cached = current.snapshots().get(quizId);
+        if (cached != null) {
+            return cached;
+        }
+        byte[] compiled = compile(quizId);
+        byte[] existing = current.snapshots().putIfAbsent(quizId, compiled);
+        return existing != null ? existing : compiled;
+    }
+
+    /**
+     * 현재 콘텐츠 버전
+     */
+    public long getContentVersion() {
+        return generation.contentVersion();
+    }
+
+    @EventListener
+    public synchronized void onContentChanged(QuizContentChangedEvent event) {
+        long nextVersion = generation.contentVersion() + 1;
+        generation = new Generation(nextVersion, new ConcurrentHashMap<>());
+        log.info("퀴즈 스냅샷 캐시 초기화: version={}, reason={}", nextVersion, event.reason());
+    }
+
+    private byte[] compile(Long quizId) {
+        try {
+            return objectMapper.writeValueAsBytes(quizService.findQuizById(quizId));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize quiz with id: " + quizId, e);
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.fintech.server.quiz.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 점수 순위표 (메모리)
+ * - 점수별 인원 수를 펜윅 트리(점수 = 인덱스)로 관리해 순위/N번째 조회를 O(log 최대점수)로 처리
+ * - 같은 점수 안에서는 사용자 ID 오름차순 정렬 배열로 보관 (동점자 순서 고정)
+ * - 순위는 동점자를 같은 순위로 매기는 방식 (내 점수보다 높은 사람 수 + 1)
+ * 점수가 0 이하인 사용자는 순위표에 넣지 않습니다.
+ */
+public class ScoreLeaderboard {
+
+    /**
+     * 순위표 항목 (position은 0부터 시작하는 정렬 위치)
+     */
+    public record Entry(long userId, int score, int rank, int position) {
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> scores = new HashMap<>();
+    private final Map<Integer, ScoreBucket> buckets = new HashMap<>();
+    private long[] tree = new long[1025]; // 1-based 펜윅 트리, 인덱스 i는 점수 i-1
+    private int total;
+
+    /**
+     * 사용자 점수 반영 (0 이하이면 순위표에서 제거)
+     */
+    public void update(long userId, int score) {
+        lock.writeLock().lock();
+        try {
+            Integer previous = scores.get(userId);
+            if (previous != null && previous == score) {
+                return;
+            }
+            if (previous != null) {
+                detach(userId, previous);
+            }
+            if (score > 0) {
+                attach(userId, score);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long userId) {
+        update(userId, 0);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return total;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자 순위 (순위표에 없으면 null)
+     */
+    public Entry find(long userId) {
+        lock.readLock().lock();
+        try {
+            return entryOf(userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 상위 limit명
+     */
+    public List<Entry> top(int limit) {
+        lock.readLock().lock();
+        try {
+            return range(0, Math.min(limit, total));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자 앞뒤로 각각 radius명씩 (사용자 포함, 순위표에 없으면 빈 목록)
+     */
+    public List<Entry> around(long userId, int radius) {
+        lock.readLock().lock();
+        try {
+            Entry me = entryOf(userId);
+            if (me == null) {
+                return List.of();
+            }
+            int from = Math.max(0, me.position() - radius);
+            int to = Math.min(total, me.position() + radius + 1);
+            return range(from, to);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Entry entryOf(long userId) {
+        Integer score = scores.get(userId);
+        if (score == null) {
+            return null;
+        }
+        int higher = countAbove(score);
+        return new Entry(userId, score, higher + 1, higher + buckets.get(score).indexOf(userId));
+    }
+
+    /**
+     * 정렬 위치 [from, to) 구간의 항목 (시작 위치만 트리에서 찾고 이후는 버킷을 차례로 따라감)
+     */
+    private List<Entry> range(int from, int to) {
+        List<Entry> entries = new ArrayList<>(Math.max(0, to - from));
+        if (from >= to) {
+            return entries;
+        }
+        int score = scoreAt(from);
+        int higher = countAbove(score);
+        int offset = from - higher;
+        for (int position = from; position < to; position++) {
+            ScoreBucket bucket = buckets.get(score);
+            if (offset >= bucket.size()) {
+                higher += bucket.size();
+                score = scoreAt(position);
+                offset = 0;
+                bucket = buckets.get(score);
+            }
+            entries.add(new Entry(bucket.get(offset), score, higher + 1, position));
+            offset++;
+        }
+        return entries;
+    }
+
+    /**
+     * 정렬 위치(점수 내림차순)의 점수
+     */
+    private int scoreAt(int position) {
+        // 오름차순 기준 (total - 1 - position)번째 사용자가 속한 점수를 펜윅 트리 이진 탐색으로 찾음
+        long remaining = total - 1 - position;
+        int index = 0;
+        for (int step = Integer.highestOneBit(tree.length - 1); step > 0; step >>= 1) {
+            int next = index + step;
+            if (next < tree.length && tree[next] <= remaining) {
+                index = next;
+                remaining -= tree[next];
+            }
+        }
+        return index; // 트리 인덱스 index+1 → 점수 index
+    }
+
+    /**
+     * score보다 높은 점수의 사용자 수
+     */
+    private int countAbove(int score) {
+        return (int) (total - prefix(score + 1));
+    }
+
+    private void attach(long userId, int score) {
+        ensureCapacity(score);
+        scores.put(userId, score);
+        buckets.computeIfAbsent(score, s -> new ScoreBucket()).add(userId);
+        add(score + 1, 1);
+        total++;
+    }
+
+    private void detach(long userId, int score) {
+        scores.remove(userId);
+        ScoreBucket bucket = buckets.get(score);
+        bucket.remove(userId);
+        if (bucket.size() == 0) {
+            buckets.remove(score);
+        }
+        add(score + 1, -1);
+        total--;
+    }
+
+    private void add(int index, int delta) {
+        for (int i = index; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    private long prefix(int index) {
+        long sum = 0;
+        for (int i = Math.min(index, tree.length - 1); i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * 최대 점수가 늘어나면 트리 크기를 두 배씩 키우고 점수별 인원으로 다시 구성
+     */
+    private void ensureCapacity(int score) {
+        if (score + 1 < tree.length) {
+            return;
+        }
+        int size = tree.length - 1;
+        while (score + 1 > size) {
+            size <<= 1;
+        }
+        tree = new long[size + 1];
+        for (Map.Entry<Integer, ScoreBucket> bucket : buckets.entrySet()) {
+            add(bucket.getKey() + 1, bucket.getValue().size());
+        }
+    }
+
+    /**
+     * 같은 점수의 사용자 ID 정렬 배열
+     */
+    private static final class ScoreBucket {
+        private long[] userIds = new long[4];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        long get(int index) {
+            return userIds[index];
+        }
+
+        int indexOf(long userId) {
+            return Arrays.binarySearch(userIds, 0, size, userId);
+        }
+
+        void add(long userId) {
+            int index = Arrays.binarySearch(userIds, 0, size, userId);
+            if (index >= 0) {
+                return;
+            }
+            index = -index - 1;
+            if (size == userIds.length) {
+                userIds = Arrays.copyOf(userIds, size * 2);
+            }
+            System.arraycopy(userIds, index, userIds, index + 1, size - index);
+            userIds[index] = userId;
+            size++;
+        }
+
+        void remove(long userId) {
+            int index = Arrays.binarySearch(userIds, 0, size, userId);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(userIds, index + 1, userIds, index, size - index - 1);
+            size--;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.fintech.server.quiz.service;
+
+import com.fintech.server.quiz.dto.BadgeResponseDto;
+import com.fintech.server.quiz.dto.UserBadgeResponseDto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자 배지 조회 스냅샷 (읽기 전용, 버전 포함)
+ * 배지 상태가 바뀔 때마다 새 버전으로 교체되며 조회 API는 이 스냅샷만 사용합니다.
+ */
+public record UserBadgeSnapshot(long version,
+                                BadgeResponseDto currentBadge,
+                                BadgeResponseDto nextBadge,
+                                List<UserBadgeResponseDto> allBadges,
+                                List<UserBadgeResponseDto> achievedBadges) {
+
+    /**
+     * 미획득 배지의 진행률만 바꾼 새 버전
+     */
+    UserBadgeSnapshot withProgress(long newVersion, Map<Long, Integer> progressByBadge) {
+        List<UserBadgeResponseDto> updated = allBadges.stream()
+                .map(userBadge -> Boolean.TRUE.equals(userBadge.getIsAchieved())
+                        || !progressByBadge.containsKey(userBadge.getBadge().getId())
+                        ? userBadge
+                        : userBadge.toBuilder().progress(progressByBadge.get(userBadge.getBadge().getId())).build())
+                .toList();
+        return new UserBadgeSnapshot(newVersion, currentBadge, nextBadge, updated, achievedBadges);
+    }
+}
@@ -0,0 +1,90 @@
+package com.fintech.server.quiz.service;
+
+import com.fintech.server.quiz.entity.UserLearningStats;
+import com.fintech.server.quiz.repository.UserLearningStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 사용자 학습 누적 집계 관리
+ * - 답변/완료/다시풀기 시점에 증감(delta)만 원자적으로 반영
+ * - 집계 행이 아직 없는 사용자는 첫 변경 시 기존 이력으로 한 번 채움
+ *   (이미 저장된 현재 변경분까지 포함해 집계되므로 delta는 따로 더하지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserLearningStatsService {
+
+    private final UserLearningStatsRepository userLearningStatsRepository;
+
+    /**
+     * 사용자 집계 행을 쓰기 잠금 (없으면 기존 이력으로 먼저 생성)
+     * 답변 제출/퀴즈 완료/다시풀기는 이 행을 먼저 잠가 사용자 단위로 직렬화합니다.
+     * 잠글 답변/진행 행이 아직 없는 첫 제출은 행 잠금 대신 빈 구간 잠금(gap lock)만 걸려 동시 요청끼리 upsert에서 교착되므로,
+     * 항상 존재하는 부모 행을 잠가 뒤 요청이 앞 트랜잭션의 커밋을 기다리게 합니다.
+     * (없는 행을 FOR UPDATE로 먼저 잠그면 같은 문제가 생기므로 존재 여부는 잠그지 않고 확인한 뒤 생성)
+     */
+    @Transactional
+    public void lockStats(Long userId) {
+        if (!userLearningStatsRepository.existsById(userId)) {
+            backfill(userId);
+        }
+        userLearningStatsRepository.findForUpdateByUserId(userId)
+                .orElseThrow(() -> new RuntimeException("Learning stats not found for user id: " + userId));
+    }
+
+    /**
+     * 답변 저장 후 정답 수 증감 반영
+     */
+    @Transactional
+    public void recordAnswers(Long userId, int correctDelta) {
+        int updated = userLearningStatsRepository.addAnswerDelta(userId, correctDelta, LocalDateTime.now());
+        if (updated == 0) {
+            backfill(userId);
+        }
+    }
+
+    /**
+     * 퀴즈 완료/다시풀기 후 완료·통과·정답 수 증감 반영
+     */
+    @Transactional
+    public void recordQuizChange(Long userId, int completedDelta, int passedDelta, int correctDelta) {
+        int updated = userLearningStatsRepository.addQuizDelta(
+                userId, completedDelta, passedDelta, correctDelta, LocalDateTime.now());
+        if (updated == 0) {
+            backfill(userId);
+        }
+    }
+
+    /**
+     * 사용자 집계 조회 (없으면 기존 이력으로 생성)
+     */
+    @Transactional
+    public UserLearningStats getStats(Long userId) {
+        return userLearningStatsRepository.findById(userId)
+                .orElseGet(() -> {
+                    backfill(userId);
+                    return userLearningStatsRepository.findById(userId)
+                            .orElseThrow(() -> new RuntimeException("Learning stats not found for user id: " + userId));
+                });
+    }
+
+    /**
+     * 사용자 집계 조회 (없으면 생성하지 않음, 읽기 전용 경로용)
+     */
+    @Transactional(readOnly = true)
+    public Optional<UserLearningStats> findStats(Long userId) {
+        return userLearningStatsRepository.findById(userId);
+    }
+
+    private void backfill(Long userId) {
+        userLearningStatsRepository.backfill(userId);
+        log.info("학습 집계 초기화(기존 이력 기준): userId={}", userId);
+    }
+}
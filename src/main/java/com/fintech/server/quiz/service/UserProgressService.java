@@ -1,10 +1,10 @@
 package com.fintech.server.quiz.service;
 
 import com.fintech.server.quiz.dto.LevelProgressDto;
+import com.fintech.server.quiz.dto.SectorMasteryDto;
 import com.fintech.server.quiz.dto.SubsectorProgressDto;
 import com.fintech.server.quiz.dto.UserProgressDto;
-import com.fintech.server.quiz.entity.Level;
-import com.fintech.server.quiz.entity.Subsector;
+import com.fintech.server.quiz.entity.UserLevelRollupId;
 import com.fintech.server.quiz.entity.UserProgress;
 import com.fintech.server.quiz.repository.UserProgressRepository;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +24,8 @@ import java.util.stream.Collectors;
 public class UserProgressService {
     
     private final UserProgressRepository userProgressRepository;
+    private final LearningCatalog learningCatalog; // 레벨/서브섹터 정보와 퀴즈 수는 메모리 카탈로그에서 조회
+    private final LevelCompletionLedger levelCompletionLedger; // 완료 레벨 수 집계 (서브섹터/섹터별)
     
     /**
      * 사용자의 모든 진행률 조회
@@ -64,8 +66,7 @@ public class UserProgressService {
         }
         
         // 레벨 정보 가져오기
-        UserProgress firstProgress = progressList.get(0);
-        Level level = firstProgress.getQuiz().getLevel();
+        LearningCatalog.LevelNode level = learningCatalog.getLevel(levelId);
         
         // 통계 계산
         int completedQuizzes = (int) progressList.stream()
@@ -79,14 +80,14 @@ public class UserProgressService {
         int failedQuizzes = completedQuizzes - passedQuizzes;
         
         // 전체 퀴즈 수 조회
-        Long totalQuizzes = userProgressRepository.countQuizzesByLevelId(levelId);
+        int totalQuizzes = learningCatalog.countQuizzesByLevel(levelId);
         
         // 완료율과 통과율 계산
         double completionRate = totalQuizzes > 0 ? (double) completedQuizzes / totalQuizzes : 0.0;
         double passRate = completedQuizzes > 0 ? (double) passedQuizzes / completedQuizzes : 0.0;
         
         // 서브섹터 정보
-        Subsector subsector = level.getSubsector();
+        LearningCatalog.SubsectorNode subsector = learningCatalog.getSubsector(level.subsectorId());
         
         // 징검다리 정보 생성
         List<com.fintech.server.quiz.dto.StepProgressDto> steps = createStepProgress(levelId, userId, completedQuizzes, passedQuizzes, level);
@@ -95,21 +96,21 @@ public class UserProgressService {
         
         return LevelProgressDto.builder()
                 .levelId(levelId)
-                .levelNumber(level.getLevelNumber())
-                .levelTitle(level.getTitle())
-                .subsectorId(subsector.getId())
-                .subsectorName(subsector.getName())
-                .learningGoal(level.getLearningGoal())
+                .levelNumber(level.levelNumber())
+                .levelTitle(level.title())
+                .subsectorId(subsector.id())
+                .subsectorName(subsector.name())
+                .learningGoal(level.learningGoal())
                 .status(LevelProgressDto.LevelStatus.IN_PROGRESS)
-                .totalQuizzes(totalQuizzes.intValue())
+                .totalQuizzes(totalQuizzes)
                 .completedQuizzes(completedQuizzes)
                 .passedQuizzes(passedQuizzes)
                 .failedQuizzes(failedQuizzes)
                 .correctAnswers(passedQuizzes)
-                .remainingToPass(Math.max(0, totalQuizzes.intValue() - passedQuizzes))
+                .remainingToPass(Math.max(0, totalQuizzes - passedQuizzes))
                 .completionRate(completionRate)
                 .passRate(passRate)
-                .levelPassed(passedQuizzes >= totalQuizzes.intValue())
+                .levelPassed(passedQuizzes >= totalQuizzes)
                 .progressDetails(progressList.stream()
                         .map(this::convertToDto)
                         .collect(Collectors.toList()))
@@ -144,11 +145,10 @@ public class UserProgressService {
         
         // 레벨별로 그룹화
         Map<Long, List<UserProgress>> progressByLevel = progressList.stream()
-                .collect(Collectors.groupingBy(p -> p.getQuiz().getLevel().getId()));
+                .collect(Collectors.groupingBy(p -> learningCatalog.getQuiz(p.getQuiz().getId()).levelId()));
         
         // 서브섹터 정보 가져오기
-        UserProgress firstProgress = progressList.get(0);
-        Subsector subsector = firstProgress.getQuiz().getLevel().getSubsector();
+        LearningCatalog.SubsectorNode subsector = learningCatalog.getSubsector(subsectorId);
         
         // 레벨별 진행률 계산
         List<LevelProgressDto> levelProgressList = new ArrayList<>();
@@ -166,19 +166,21 @@ public class UserProgressService {
             totalPassedQuizzes += levelProgressDto.getPassedQuizzes();
         }
         
-        // 전체 통계 계산
-        Long totalQuizzes = userProgressRepository.countQuizzesBySubsectorId(subsectorId);
-        int completedLevels = (int) progressByLevel.keySet().size();
+        // 전체 통계 계산 (완료 레벨 수는 레벨 완료 집계에서 조회)
+        int totalQuizzes = subsector.quizCount();
+        int completedLevels = levelCompletionLedger
+                .getCompletedLevelsByScope(userId, UserLevelRollupId.Scope.SUBSECTOR)
+                .getOrDefault(subsectorId, 0);
         
         double overallCompletionRate = totalQuizzes > 0 ? (double) totalCompletedQuizzes / totalQuizzes : 0.0;
         double overallPassRate = totalCompletedQuizzes > 0 ? (double) totalPassedQuizzes / totalCompletedQuizzes : 0.0;
         
         return SubsectorProgressDto.builder()
                 .subsectorId(subsectorId)
-                .subsectorName(subsector.getName())
-                .totalLevels(completedLevels) // 실제로는 전체 레벨 수를 조회해야 함
+                .subsectorName(subsector.name())
+                .totalLevels(subsector.levelIds().size())
                 .completedLevels(completedLevels)
-                .totalQuizzes(totalQuizzes.intValue())
+                .totalQuizzes(totalQuizzes)
                 .completedQuizzes(totalCompletedQuizzes)
                 .passedQuizzes(totalPassedQuizzes)
                 .overallCompletionRate(overallCompletionRate)
@@ -187,6 +189,29 @@ public class UserProgressService {
                 .build();
     }
     
+    /**
+     * 섹터별 숙련도 조회 (완료 레벨 수 / 전체 레벨 수)
+     * 완료 레벨 수는 섹터별 집계 한 번, 전체 레벨 수는 메모리 카탈로그에서 조회
+     */
+    public List<SectorMasteryDto> getSectorMastery(Long userId) {
+        Map<Long, Integer> completedBySector =
+                levelCompletionLedger.getCompletedLevelsByScope(userId, UserLevelRollupId.Scope.SECTOR);
+        
+        List<SectorMasteryDto> result = new ArrayList<>();
+        for (LearningCatalog.SectorNode sector : learningCatalog.getSectors()) {
+            int totalLevels = learningCatalog.countLevelsBySector(sector.id());
+            int completedLevels = Math.min(totalLevels, completedBySector.getOrDefault(sector.id(), 0));
+            result.add(SectorMasteryDto.builder()
+                    .sectorId(sector.id())
+                    .sectorName(sector.name())
+                    .totalLevels(totalLevels)
+                    .completedLevels(completedLevels)
+                    .masteryRate(totalLevels > 0 ? (double) completedLevels / totalLevels : 0.0)
+                    .build());
+        }
+        return result;
+    }
+    
     /**
      * 레벨별 진행률 계산 헬퍼 메서드
      */
@@ -203,8 +228,8 @@ public class UserProgressService {
                     .build();
         }
         
-        Level level = progressList.get(0).getQuiz().getLevel();
-        Subsector subsector = level.getSubsector();
+        LearningCatalog.LevelNode level = learningCatalog.getLevel(levelId);
+        LearningCatalog.SubsectorNode subsector = learningCatalog.getSubsector(level.subsectorId());
         
         int completedQuizzes = (int) progressList.stream()
                 .filter(p -> p.getFinishedAt() != null)
@@ -216,28 +241,28 @@ public class UserProgressService {
         
         int failedQuizzes = completedQuizzes - passedQuizzes;
         
-        Long totalQuizzes = userProgressRepository.countQuizzesByLevelId(levelId);
+        int totalQuizzes = learningCatalog.countQuizzesByLevel(levelId);
         
         double completionRate = totalQuizzes > 0 ? (double) completedQuizzes / totalQuizzes : 0.0;
         double passRate = completedQuizzes > 0 ? (double) passedQuizzes / completedQuizzes : 0.0;
         
         return LevelProgressDto.builder()
                 .levelId(levelId)
-                .levelNumber(level.getLevelNumber())
-                .levelTitle(level.getTitle())
-                .subsectorId(subsector.getId())
-                .subsectorName(subsector.getName())
-                .learningGoal(level.getLearningGoal())
+                .levelNumber(level.levelNumber())
+                .levelTitle(level.title())
+                .subsectorId(subsector.id())
+                .subsectorName(subsector.name())
+                .learningGoal(level.learningGoal())
                 .status(LevelProgressDto.LevelStatus.IN_PROGRESS)
-                .totalQuizzes(totalQuizzes.intValue())
+                .totalQuizzes(totalQuizzes)
                 .completedQuizzes(completedQuizzes)
                 .passedQuizzes(passedQuizzes)
                 .failedQuizzes(failedQuizzes)
                 .correctAnswers(passedQuizzes)
-                .remainingToPass(Math.max(0, totalQuizzes.intValue() - passedQuizzes))
+                .remainingToPass(Math.max(0, totalQuizzes - passedQuizzes))
                 .completionRate(completionRate)
                 .passRate(passRate)
-                .levelPassed(passedQuizzes >= totalQuizzes.intValue())
+                .levelPassed(passedQuizzes >= totalQuizzes)
                 .progressDetails(progressList.stream()
                         .map(this::convertToDto)
                         .collect(Collectors.toList()))
@@ -248,16 +273,20 @@ public class UserProgressService {
      * UserProgress 엔티티를 DTO로 변환
      */
     private UserProgressDto convertToDto(UserProgress progress) {
+        // 퀴즈/레벨/서브섹터 정보는 지연 로딩 대신 카탈로그에서 조회
+        LearningCatalog.QuizNode quiz = learningCatalog.getQuiz(progress.getQuiz().getId());
+        LearningCatalog.LevelNode level = learningCatalog.getLevel(quiz.levelId());
+        LearningCatalog.SubsectorNode subsector = learningCatalog.getSubsector(level.subsectorId());
         return UserProgressDto.builder()
                 .id(progress.getId())
                 .userId(progress.getUser().getId())
-                .quizId(progress.getQuiz().getId())
-                .quizTitle(progress.getQuiz().getTitle())
-                .levelId(progress.getQuiz().getLevel().getId())
-                .levelNumber(progress.getQuiz().getLevel().getLevelNumber())
-                .levelTitle(progress.getQuiz().getLevel().getTitle())
-                .subsectorId(progress.getQuiz().getLevel().getSubsector().getId())
-                .subsectorName(progress.getQuiz().getLevel().getSubsector().getName())
+                .quizId(quiz.id())
+                .quizTitle(quiz.title())
+                .levelId(level.id())
+                .levelNumber(level.levelNumber())
+                .levelTitle(level.title())
+                .subsectorId(subsector.id())
+                .subsectorName(subsector.name())
                 .startedAt(progress.getStartedAt())
                 .finishedAt(progress.getFinishedAt())
                 .score(progress.getScore())
@@ -270,16 +299,16 @@ public class UserProgressService {
     /**
      * 징검다리 단계별 진행률 생성
      */
-    private List<com.fintech.server.quiz.dto.StepProgressDto> createStepProgress(Long levelId, Long userId, int completedQuizzes, int passedQuizzes, Level level) {
+    private List<com.fintech.server.quiz.dto.StepProgressDto> createStepProgress(Long levelId, Long userId, int completedQuizzes, int passedQuizzes, LearningCatalog.LevelNode level) {
         // 현재 4문제를 1개 단계로 처리
         boolean isCompleted = completedQuizzes == 4;
         boolean isPassed = passedQuizzes >= 3; // 75% 이상 통과 (4문제 중 3문제 이상)
         double passRate = completedQuizzes > 0 ? (double) passedQuizzes / completedQuizzes : 0.0;
         
         // 레벨 정보를 사용하여 단계 설명 생성
-        String stepDescription = level.getTitle() != null ? level.getTitle() : "기초 상식";
-        if (level.getLearningGoal() != null && !level.getLearningGoal().trim().isEmpty()) {
-            stepDescription = level.getLearningGoal();
+        String stepDescription = level.title() != null ? level.title() : "기초 상식";
+        if (level.learningGoal() != null && !level.learningGoal().trim().isEmpty()) {
+            stepDescription = level.learningGoal();
         }
         
         com.fintech.server.quiz.dto.StepProgressDto step = com.fintech.server.quiz.dto.StepProgressDto.builder()
@@ -318,6 +347,8 @@ public class UserProgressService {
                     
                     // 레벨 정보 가져오기
                     UserProgressDto firstProgress = levelProgress.get(0);
+                    LearningCatalog.LevelNode level = learningCatalog.getLevel(levelId);
+                    int totalQuizzes = level.quizCount();
                     
                     // 통계 계산
                     int completedQuizzes = (int) levelProgress.stream()
@@ -336,17 +367,17 @@ public class UserProgressService {
                             .levelTitle(firstProgress.getLevelTitle())
                             .subsectorId(firstProgress.getSubsectorId())
                             .subsectorName(firstProgress.getSubsectorName())
-                            .learningGoal("") // 학습 목표는 별도 조회 필요
+                            .learningGoal(level.learningGoal())
                             .status(LevelProgressDto.LevelStatus.IN_PROGRESS)
-                            .totalQuizzes(0) // 전체 퀴즈 수는 별도 조회 필요
+                            .totalQuizzes(totalQuizzes)
                             .completedQuizzes(completedQuizzes)
                             .passedQuizzes(passedQuizzes)
                             .failedQuizzes(failedQuizzes)
                             .correctAnswers(passedQuizzes)
-                            .remainingToPass(Math.max(0, 0 - passedQuizzes))
-                            .completionRate(0.0) // 전체 퀴즈 수가 필요
+                            .remainingToPass(Math.max(0, totalQuizzes - passedQuizzes))
+                            .completionRate(totalQuizzes > 0 ? (double) completedQuizzes / totalQuizzes : 0.0)
                             .passRate(completedQuizzes > 0 ? (double) passedQuizzes / completedQuizzes : 0.0)
-                            .levelPassed(passedQuizzes >= 0) // 전체 퀴즈 수가 필요
+                            .levelPassed(passedQuizzes >= totalQuizzes)
                             .progressDetails(levelProgress)
                             .build();
                 })
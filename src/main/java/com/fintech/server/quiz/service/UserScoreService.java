@@ -0,0 +1,87 @@
+package com.fintech.server.quiz.service;
+
+import com.fintech.server.quiz.dto.UserScoreSummary;
+import com.fintech.server.quiz.event.QuizCompletedEvent;
+import com.fintech.server.quiz.event.QuizRetriedEvent;
+import com.fintech.server.quiz.repository.UserProgressRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 사용자 총점수 요약 조회
+ * - DB 집계 쿼리 한 번으로 계산 (퀴즈별 최신 기록 선택과 합계 모두 DB에서 수행)
+ * - 짧은 시간(quiz.score-cache.ttl-seconds) 동안 사용자별로 보관하고, 퀴즈 완료/다시풀기가 커밋되면 무효화
+ *   (답변 제출만으로는 진행 기록이 바뀌지 않으므로 무효화하지 않음)
+ */
+@Service
+@Transactional(readOnly = true)
+@Slf4j
+public class UserScoreService {
+
+    private final UserProgressRepository userProgressRepository;
+    private final long ttlNanos;
+
+    private final PerUserCache<CachedSummary> cache;
+
+    private record CachedSummary(UserScoreSummary summary, long expiresAtNanos) {
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos > 0;
+        }
+    }
+
+    public UserScoreService(UserProgressRepository userProgressRepository,
+                            @Value("${quiz.score-cache.ttl-seconds:30}") long ttlSeconds,
+                            @Value("${quiz.score-cache.max-users:10000}") int maxUsers) {
+        this.userProgressRepository = userProgressRepository;
+        this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        this.cache = new PerUserCache<>(maxUsers);
+    }
+
+    public UserScoreSummary getSummary(Long userId) {
+        return cache.get(userId, cached -> !cached.isExpired(),
+                () -> new CachedSummary(load(userId), System.nanoTime() + ttlNanos)).summary();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQuizCompleted(QuizCompletedEvent event) {
+        cache.invalidate(event.userId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQuizRetried(QuizRetriedEvent event) {
+        cache.invalidate(event.userId());
+    }
+
+    /**
+     * 만료된 항목 정리
+     */
+    @Scheduled(fixedDelayString = "${quiz.score-cache.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        cache.removeIf(CachedSummary::isExpired);
+    }
+
+    private UserScoreSummary load(Long userId) {
+        Object[] row = userProgressRepository.summarizeScoresByUserId(userId).get(0);
+        int totalScore = ((Number) row[0]).intValue();
+        int totalQuizzes = ((Number) row[1]).intValue();
+        int completedQuizzes = ((Number) row[2]).intValue();
+        int passedQuizzes = ((Number) row[3]).intValue();
+
+        return UserScoreSummary.builder()
+                .userId(userId)
+                .totalScore(totalScore)
+                .totalQuizzes(totalQuizzes)
+                .completedQuizzes(completedQuizzes)
+                .passedQuizzes(passedQuizzes)
+                .averageScore(completedQuizzes > 0 ? (double) totalScore / completedQuizzes : 0.0)
+                .passRate(completedQuizzes > 0 ? (double) passedQuizzes / completedQuizzes : 0.0)
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.fintech.server.quiz.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 배지 평가용 사용자 지표 벡터
+ * 평가 한 번에 필요한 지표만 채운 뒤 모든 배지 규칙이 같은 벡터를 읽습니다. (배지 수와 관계없이 조회는 지표 단위)
+ */
+public final class UserStatsVector {
+
+    /**
+     * 배지 조건에 쓸 수 있는 지표
+     */
+    public enum Metric {
+        QUIZZES_COMPLETED,  // 완료한 퀴즈 수
+        QUIZZES_PASSED,     // 통과한 퀴즈 수
+        CORRECT_ANSWERS,    // 정답 수
+        STREAK_DAYS,        // 연속 학습 일수
+        LEVELS_COMPLETED,   // 완료한 레벨 수
+        SECTOR_MASTERY      // 섹터 숙련도(%) - 조건마다 섹터 ID 지정
+    }
+
+    private final int[] values = new int[Metric.values().length];
+    private final Map<Long, Integer> sectorMastery = new HashMap<>();
+
+    public UserStatsVector set(Metric metric, int value) {
+        values[metric.ordinal()] = value;
+        return this;
+    }
+
+    public UserStatsVector setSectorMastery(Long sectorId, int percent) {
+        sectorMastery.put(sectorId, percent);
+        return this;
+    }
+
+    public int get(Metric metric) {
+        return values[metric.ordinal()];
+    }
+
+    public int getSectorMastery(Long sectorId) {
+        return sectorMastery.getOrDefault(sectorId, 0);
+    }
+}
@@ -0,0 +1,59 @@
+package com.fintech.server.quiz.service;
+
+import com.fintech.server.quiz.event.WrongNotesChangedEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 사용자 오답 노트의 레벨별 해결/미해결/복습 필요 개수 (통계 캐시 값, 불변)
+ */
+public record WrongNoteCounts(Map<Long, LevelCounts> byLevel) {
+
+    public record LevelCounts(long resolved, long unresolved, long needReview) {
+        public long total() {
+            return resolved + unresolved;
+        }
+    }
+
+    public WrongNoteCounts {
+        byLevel = Map.copyOf(byLevel);
+    }
+
+    public long totalCount() {
+        return byLevel.values().stream().mapToLong(LevelCounts::total).sum();
+    }
+
+    public long resolvedCount() {
+        return byLevel.values().stream().mapToLong(LevelCounts::resolved).sum();
+    }
+
+    public long unresolvedCount() {
+        return byLevel.values().stream().mapToLong(LevelCounts::unresolved).sum();
+    }
+
+    public long needReviewCount() {
+        return byLevel.values().stream().mapToLong(LevelCounts::needReview).sum();
+    }
+
+    /**
+     * 레벨별 증감을 반영한 새 값
+     * 틀린 횟수는 1부터 시작해 증가만 하므로 복습 필요 수는 미해결 수와 같이 움직입니다.
+     */
+    public WrongNoteCounts plus(Map<Long, WrongNotesChangedEvent.LevelDelta> deltasByLevel) {
+        Map<Long, LevelCounts> updated = new HashMap<>(byLevel);
+        deltasByLevel.forEach((levelId, delta) -> {
+            LevelCounts current = updated.getOrDefault(levelId, new LevelCounts(0, 0, 0));
+            LevelCounts next = new LevelCounts(
+                    Math.max(0, current.resolved() + delta.resolved()),
+                    Math.max(0, current.unresolved() + delta.unresolved()),
+                    Math.max(0, current.needReview() + delta.unresolved()));
+            if (next.total() == 0) {
+                updated.remove(levelId);
+            } else {
+                updated.put(levelId, next);
+            }
+        });
+        return new WrongNoteCounts(updated);
+    }
+}
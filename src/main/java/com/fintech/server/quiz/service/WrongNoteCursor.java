@@ -0,0 +1,41 @@
+package com.fintech.server.quiz.service;
+
+import com.fintech.server.quiz.dto.WrongNoteDto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 오답 노트 목록 키셋 커서 (직전 페이지 마지막 행의 정렬 키)
+ * 클라이언트에는 "timesWrong|lastWrongAt|id"를 URL-safe Base64로 인코딩한 문자열로 전달합니다.
+ */
+record WrongNoteCursor(int timesWrong, LocalDateTime lastWrongAt, long id) {
+
+    /**
+     * 첫 페이지 (모든 행보다 뒤에 있는 정렬 키)
+     */
+    static final WrongNoteCursor FIRST =
+            new WrongNoteCursor(Integer.MAX_VALUE, LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    static WrongNoteCursor of(WrongNoteDto.Response note) {
+        return new WrongNoteCursor(note.getTimesWrong(), note.getLastWrongAt(), note.getId());
+    }
+
+    static WrongNoteCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            return new WrongNoteCursor(Integer.parseInt(parts[0]), LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    String encode() {
+        String raw = timesWrong + "|" + lastWrongAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
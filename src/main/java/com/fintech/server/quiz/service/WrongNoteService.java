@@ -1,22 +1,27 @@
 package com.fintech.server.quiz.service;
 
-import com.fintech.server.entity.User;
 import com.fintech.server.quiz.dto.WrongNoteDto;
 import com.fintech.server.quiz.entity.*;
+import com.fintech.server.quiz.event.WrongNotesChangedEvent;
 import com.fintech.server.quiz.repository.*;
-import com.fintech.server.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,126 +31,206 @@ import java.util.stream.Collectors;
 public class WrongNoteService {
 
     private final UserWrongNoteRepository wrongNoteRepository;
-    private final UserRepository userRepository;
-    private final QuestionRepository questionRepository;
     private final QuestionOptionRepository questionOptionRepository;
+    private final AnswerKeyIndex answerKeyIndex;
+    private final LearningCatalog learningCatalog;
+    private final WrongNoteStatisticsCache wrongNoteStatisticsCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_PAGE_SIZE = 100;
 
     /**
      * 오답 노트 생성 또는 업데이트
-     * 이미 존재하는 문제면 틀린 횟수를 증가시킴
+     * 이미 존재하는 문제면 틀린 횟수를 증가시킴 ((user_id, question_id) 유니크 키 기준 upsert 한 문장)
+     * 갱신된 노트가 이전에 해결 상태였는지는 한 문장 안에서 알 수 없으므로 기존 노트를 갱신했으면 통계 캐시를 무효화합니다.
      */
     @Transactional
-    public WrongNoteDto.Response createOrUpdateWrongNote(Long userId, Long questionId, Long wrongOptionId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userId));
-        
-        Question question = questionRepository.findById(questionId)
-                .orElseThrow(() -> new RuntimeException("문제를 찾을 수 없습니다: " + questionId));
+    public void createOrUpdateWrongNote(Long userId, Long questionId, Long wrongOptionId) {
+        // 문제/선택지/정답과 스냅샷 내용은 정답 인덱스에서 확인 (사용자는 외래 키로 검증)
+        answerKeyIndex.getOption(wrongOptionId);
+        AnswerKeyIndex.QuestionKey question = answerKeyIndex.getQuestion(questionId);
+        if (question.correctOptionId() == null) {
+            throw new RuntimeException("정답을 찾을 수 없습니다: " + questionId);
+        }
 
-        QuestionOption wrongOption = questionOptionRepository.findById(wrongOptionId)
-                .orElseThrow(() -> new RuntimeException("선택지를 찾을 수 없습니다: " + wrongOptionId));
+        if (upsertWrongAnswer(userId, question, wrongOptionId, LocalDateTime.now())) {
+            publishWrongNoteChange(userId, questionId, 0, 1);
+        } else {
+            eventPublisher.publishEvent(new WrongNotesChangedEvent(userId, null));
+        }
+        log.info("오답 노트 저장 완료: userId={}, questionId={}", userId, questionId);
+    }
 
-        QuestionOption correctOption = questionOptionRepository.findCorrectOptionByQuestionId(questionId)
-                .orElseThrow(() -> new RuntimeException("정답을 찾을 수 없습니다: " + questionId));
+    /**
+     * 오답 노트 일괄 생성 또는 업데이트 (퀴즈 회차 단위)
+     * 기존 노트의 해결 여부를 잠금 조회 한 번으로 읽은 뒤 문제마다 upsert 한 문장으로 기록
+     */
+    @Transactional
+    public void createOrUpdateWrongNotes(Long userId, Map<Long, Long> wrongOptionByQuestion) {
+        if (wrongOptionByQuestion.isEmpty()) {
+            return;
+        }
 
-        // 기존 오답 노트가 있는지 확인
-        Optional<UserWrongNote> existingNote = wrongNoteRepository.findByUserIdAndQuestionId(userId, questionId);
-        
-        UserWrongNote wrongNote;
-        if (existingNote.isPresent()) {
-            // 기존 노트 업데이트
-            wrongNote = existingNote.get();
-            wrongNote.incrementTimesWrong();
-            wrongNote.setLastAnswerOption(wrongOption);
-            // 해결되었던 문제를 다시 틀렸으면 미해결로 변경
-            if (wrongNote.getResolved()) {
-                wrongNote.setResolved(false);
+        Set<Long> resolvedQuestionIds = new HashSet<>();
+        for (Object[] row : wrongNoteRepository.findResolvedForUpdate(userId, wrongOptionByQuestion.keySet())) {
+            if (((Number) row[1]).intValue() == 1) {
+                resolvedQuestionIds.add(((Number) row[0]).longValue());
             }
-        } else {
-            // 새 오답 노트 생성
-            wrongNote = new UserWrongNote();
-            wrongNote.setUser(user);
-            wrongNote.setQuestion(question);
-            wrongNote.setLastAnswerOption(wrongOption);
-            wrongNote.setCorrectOption(correctOption);
-            wrongNote.setFirstWrongAt(LocalDateTime.now());
-            wrongNote.setLastWrongAt(LocalDateTime.now());
-            
-            // 문제의 현재 학습 패널 내용을 스냅샷으로 저장
-            wrongNote.setSnapshotTeachingSummaryMd(question.getHintMd());
-            wrongNote.setSnapshotTeachingExplainerMd(question.getTeachingExplainerMd());
-            wrongNote.setSnapshotKeypointsMd(question.getSolvingKeypointsMd());
         }
+        LocalDateTime now = LocalDateTime.now();
+
+        int saved = 0;
+        Map<Long, WrongNotesChangedEvent.LevelDelta> deltasByQuestion = new HashMap<>();
+        for (Map.Entry<Long, Long> entry : wrongOptionByQuestion.entrySet()) {
+            Long questionId = entry.getKey();
+            AnswerKeyIndex.QuestionKey question;
+            try {
+                question = answerKeyIndex.getQuestion(questionId);
+            } catch (RuntimeException e) {
+                question = null;
+            }
+            if (question == null || question.correctOptionId() == null) {
+                log.warn("오답 노트 일괄 생성 건너뜀 (문제/정답 없음): userId={}, questionId={}", userId, questionId);
+                continue;
+            }
 
-        wrongNote = wrongNoteRepository.save(wrongNote);
-        log.info("오답 노트 저장 완료: userId={}, questionId={}, timesWrong={}", 
-                userId, questionId, wrongNote.getTimesWrong());
+            // 새 노트면 미해결 +1, 해결된 노트를 다시 틀렸으면 해결 → 미해결
+            if (upsertWrongAnswer(userId, question, entry.getValue(), now)) {
+                deltasByQuestion.put(questionId, new WrongNotesChangedEvent.LevelDelta(0, 1));
+            } else if (resolvedQuestionIds.contains(questionId)) {
+                deltasByQuestion.put(questionId, new WrongNotesChangedEvent.LevelDelta(-1, 1));
+            }
+            saved++;
+        }
 
-        return convertToDto(wrongNote);
+        publishWrongNoteChanges(userId, deltasByQuestion);
+        log.info("오답 노트 일괄 저장 완료: userId={}, 저장 수={}", userId, saved);
     }
 
     /**
-     * 사용자의 오답 노트 목록 조회
+     * 틀린 답변 기록 (새 노트는 문제의 현재 학습 패널 내용을 스냅샷으로 저장)
+     * @return 새 노트를 만들었으면 true, 기존 노트를 갱신했으면 false
      */
-    public WrongNoteDto.ListResponse getUserWrongNotes(Long userId, int page, int size, String filter) {
-        List<UserWrongNote> wrongNotes;
-        
-        switch (filter.toLowerCase()) {
-            case "unresolved":
-                wrongNotes = wrongNoteRepository.findUnresolvedByUserId(userId);
-                break;
-            case "resolved":
-                wrongNotes = wrongNoteRepository.findResolvedByUserId(userId);
-                break;
-            case "needreview":
-                wrongNotes = wrongNoteRepository.findNeedReviewByUserId(userId);
-                break;
-            default:
-                wrongNotes = wrongNoteRepository.findByUserIdOrderByLastWrongAtDesc(userId);
+    private boolean upsertWrongAnswer(Long userId, AnswerKeyIndex.QuestionKey question, Long wrongOptionId,
+                                      LocalDateTime now) {
+        try {
+            return wrongNoteRepository.upsertWrongAnswer(userId, question.questionId(), wrongOptionId,
+                    question.correctOptionId(), question.hintMd(), question.teachingExplainerMd(),
+                    question.solvingKeypointsMd(), UserWrongNote.DEFAULT_EASE_FACTOR,
+                    UserWrongNote.WRONG_ANSWER_EASE_PENALTY, UserWrongNote.MIN_EASE_FACTOR, now) == 1;
+        } catch (DataIntegrityViolationException e) {
+            // 문제/선택지는 정답 인덱스에서 확인했으므로 외래 키 위반은 없는 사용자
+            throw new RuntimeException("사용자를 찾을 수 없습니다: " + userId, e);
         }
+    }
 
-        // 페이징 처리
-        Pageable pageable = PageRequest.of(page, size);
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), wrongNotes.size());
-        List<UserWrongNote> pagedNotes = wrongNotes.subList(start, end);
-        
-        List<WrongNoteDto.Response> responseList = pagedNotes.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
-
-        // 통계 정보 조회
-        WrongNoteDto.Statistics statistics = getWrongNoteStatistics(userId);
-        
-        // 서브섹터별 통계 정보 조회
-        List<WrongNoteDto.SubsectorStatistics> subsectorStatistics = getSubsectorStatistics(userId);
+    /**
+     * 사용자의 오답 노트 목록 조회
+     * - cursor가 있으면 그 뒤부터 size개를 DB에서 LIMIT으로 읽음 (키셋 페이지네이션)
+     * - cursor 없이 page만 주면 같은 정렬로 OFFSET 조회 (기존 클라이언트 호환)
+     * 전체 목록을 읽지 않고, 전체 페이지 수는 통계의 개수로 계산합니다.
+     */
+    public WrongNoteDto.ListResponse getUserWrongNotes(Long userId, int page, int size, String filter, String cursor) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        String normalizedFilter = filter.toLowerCase();
+        boolean keyset = cursor != null && !cursor.isBlank();
+
+        List<Object[]> pageRows;
+        boolean hasNext = false;
+        if (keyset) {
+            // 한 행 더 읽어 다음 페이지 존재 여부 확인
+            List<Object[]> rows = findWrongNotePage(userId, normalizedFilter, WrongNoteCursor.decode(cursor),
+                    PageRequest.of(0, pageSize + 1));
+            hasNext = rows.size() > pageSize;
+            pageRows = hasNext ? rows.subList(0, pageSize) : rows;
+        } else {
+            pageRows = findWrongNotePage(userId, normalizedFilter, WrongNoteCursor.FIRST,
+                    PageRequest.of(Math.max(page, 0), pageSize));
+        }
         
-        // 레벨별 통계 정보 조회
-        List<WrongNoteDto.LevelStatistics> levelStatistics = getLevelStatistics(userId);
+        // 노트 페이지 한 문장 + 선택지 한 문장
+        List<WrongNoteDto.Response> responseList = toResponses(pageRows);
+
+        // 통계 정보 (개수/서브섹터별/레벨별 모두 같은 집계에서 계산)
+        WrongNoteCounts counts = getCounts(userId);
+        WrongNoteDto.Statistics statistics = toStatistics(counts);
+        List<WrongNoteDto.SubsectorStatistics> subsectorStatistics = toSubsectorStatistics(counts);
+        List<WrongNoteDto.LevelStatistics> levelStatistics = toLevelStatistics(counts);
+
+        long filteredCount = countForFilter(statistics, normalizedFilter);
+        if (!keyset) {
+            // OFFSET 조회는 필터 개수로 다음 페이지 존재 여부 판단
+            hasNext = (long) (Math.max(page, 0) + 1) * pageSize < filteredCount;
+        }
+        String nextCursor = hasNext && !responseList.isEmpty()
+                ? WrongNoteCursor.of(responseList.get(responseList.size() - 1)).encode()
+                : null;
 
         return WrongNoteDto.ListResponse.builder()
                 .wrongNotes(responseList)
                 .statistics(statistics)
                 .subsectorStatistics(subsectorStatistics)
                 .levelStatistics(levelStatistics)
-                .totalPages((int) Math.ceil((double) wrongNotes.size() / size))
+                .totalPages((int) Math.ceil((double) filteredCount / pageSize))
                 .currentPage(page)
-                .pageSize(size)
+                .pageSize(pageSize)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
                 .build();
     }
 
+    /**
+     * 필터별 정렬 키 순서로 커서 뒤의 한 페이지 조회
+     */
+    private List<Object[]> findWrongNotePage(Long userId, String filter, WrongNoteCursor after, Pageable pageable) {
+        switch (filter) {
+            case "unresolved":
+                return wrongNoteRepository.findPageByUserIdAndResolved(userId, false,
+                        after.lastWrongAt(), after.id(), pageable);
+            case "resolved":
+                return wrongNoteRepository.findPageByUserIdAndResolved(userId, true,
+                        after.lastWrongAt(), after.id(), pageable);
+            case "needreview":
+                return wrongNoteRepository.findNeedReviewPageByUserId(userId, after.timesWrong(),
+                        after.lastWrongAt(), after.id(), pageable);
+            default:
+                return wrongNoteRepository.findPageByUserId(userId, after.lastWrongAt(), after.id(), pageable);
+        }
+    }
+
+    private long countForFilter(WrongNoteDto.Statistics statistics, String filter) {
+        switch (filter) {
+            case "unresolved":
+                return statistics.getUnresolvedCount();
+            case "resolved":
+                return statistics.getResolvedCount();
+            case "needreview":
+                return statistics.getNeedReviewCount();
+            default:
+                return statistics.getTotalCount();
+        }
+    }
+
+    /**
+     * 지금 복습할 오답 노트 (복습 예정 시각이 지난 순서대로 limit개)
+     * (user_id, due_at) 인덱스 범위를 LIMIT만큼만 읽고, 선택지는 한 번에 조회합니다.
+     */
+    public List<WrongNoteDto.Response> getDueWrongNotes(Long userId, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        return toResponses(wrongNoteRepository.findDueByUserId(userId, LocalDateTime.now(), PageRequest.of(0, pageSize)));
+    }
+
     /**
      * 특정 오답 노트 조회
      */
     public WrongNoteDto.Response getWrongNote(Long userId, Long noteId) {
-        UserWrongNote wrongNote = wrongNoteRepository.findById(noteId)
-                .orElseThrow(() -> new RuntimeException("오답 노트를 찾을 수 없습니다: " + noteId));
+        WrongNoteDto.Response response = loadResponse(noteId);
         
-        if (!wrongNote.getUser().getId().equals(userId)) {
+        if (!response.getUserId().equals(userId)) {
             throw new RuntimeException("접근 권한이 없습니다.");
         }
 
-        return convertToDto(wrongNote);
+        return response;
     }
 
     /**
@@ -163,7 +248,7 @@ public class WrongNoteService {
         wrongNote.setPersonalNoteMd(personalNoteMd);
         wrongNote = wrongNoteRepository.save(wrongNote);
 
-        return convertToDto(wrongNote);
+        return loadResponse(wrongNote.getId());
     }
 
     /**
@@ -178,22 +263,27 @@ public class WrongNoteService {
             throw new RuntimeException("접근 권한이 없습니다.");
         }
 
+        Long questionId = wrongNote.getQuestion().getId();
         if (wrongNote.getResolved()) {
             wrongNote.setResolved(false);
+            wrongNote.scheduleImmediateReview();
+            publishWrongNoteChange(userId, questionId, -1, 1);
         } else {
             wrongNote.markAsResolved();
+            publishWrongNoteChange(userId, questionId, 1, -1);
         }
         
         wrongNote = wrongNoteRepository.save(wrongNote);
-        return convertToDto(wrongNote);
+        return loadResponse(wrongNote.getId());
     }
 
 
     /**
      * 오답 노트 복습 완료 처리
+     * @param quality 복습 품질 (0~5, SM-2 기준) - 다음 복습 시각 계산에 사용
      */
     @Transactional
-    public WrongNoteDto.Response markAsReviewed(Long userId, Long noteId) {
+    public WrongNoteDto.Response markAsReviewed(Long userId, Long noteId, int quality) {
         UserWrongNote wrongNote = wrongNoteRepository.findById(noteId)
                 .orElseThrow(() -> new RuntimeException("오답 노트를 찾을 수 없습니다: " + noteId));
         
@@ -201,10 +291,10 @@ public class WrongNoteService {
             throw new RuntimeException("접근 권한이 없습니다.");
         }
 
-        wrongNote.markAsReviewed();
+        wrongNote.markAsReviewed(quality);
         wrongNote = wrongNoteRepository.save(wrongNote);
 
-        return convertToDto(wrongNote);
+        return loadResponse(wrongNote.getId());
     }
 
     /**
@@ -220,6 +310,8 @@ public class WrongNoteService {
         }
 
         wrongNoteRepository.delete(wrongNote);
+        publishWrongNoteChange(userId, wrongNote.getQuestion().getId(),
+                wrongNote.getResolved() ? -1 : 0, wrongNote.getResolved() ? 0 : -1);
         log.info("오답 노트 삭제 완료: userId={}, noteId={}", userId, noteId);
     }
 
@@ -227,115 +319,191 @@ public class WrongNoteService {
      * 오답 노트 통계 조회
      */
     public WrongNoteDto.Statistics getWrongNoteStatistics(Long userId) {
-        return WrongNoteDto.Statistics.builder()
-                .totalCount(wrongNoteRepository.countByUserId(userId))
-                .unresolvedCount(wrongNoteRepository.countUnresolvedByUserId(userId))
-                .resolvedCount(wrongNoteRepository.countResolvedByUserId(userId))
-                .needReviewCount((long) wrongNoteRepository.findNeedReviewByUserId(userId).size())
-                .build();
+        return toStatistics(getCounts(userId));
     }
 
     /**
      * 서브섹터별 틀린 문제 수 통계 조회
      */
     public List<WrongNoteDto.SubsectorStatistics> getSubsectorStatistics(Long userId) {
-        List<UserWrongNote> wrongNotes = wrongNoteRepository.findByUserIdOrderByLastWrongAtDesc(userId);
-        
-        // 서브섹터별로 그룹화하여 틀린 문제 수 계산
-        Map<Long, Map<String, Long>> subsectorMap = wrongNotes.stream()
-                .collect(Collectors.groupingBy(
-                        note -> note.getQuestion().getQuiz().getLevel().getSubsector().getId(),
-                        Collectors.groupingBy(
-                                note -> note.getQuestion().getQuiz().getLevel().getSubsector().getName(),
-                                Collectors.counting()
-                        )
-                ));
-        
-        return subsectorMap.entrySet().stream()
-                .map(entry -> {
-                    Long subsectorId = entry.getKey();
-                    Map<String, Long> nameCountMap = entry.getValue();
-                    String subsectorName = nameCountMap.keySet().iterator().next();
-                    Long wrongCount = nameCountMap.values().iterator().next();
-                    
-                    return WrongNoteDto.SubsectorStatistics.builder()
-                            .subsectorId(subsectorId)
-                            .subsectorName(subsectorName)
-                            .wrongCount(wrongCount)
-                            .build();
-                })
-                .sorted(Comparator.comparing(WrongNoteDto.SubsectorStatistics::getSubsectorId))
-                .collect(Collectors.toList());
+        return toSubsectorStatistics(getCounts(userId));
     }
 
     /**
      * 레벨별 틀린 문제 수 통계 조회
      */
     public List<WrongNoteDto.LevelStatistics> getLevelStatistics(Long userId) {
-        List<UserWrongNote> wrongNotes = wrongNoteRepository.findByUserIdOrderByLastWrongAtDesc(userId);
-        
-        // 레벨별로 그룹화하여 틀린 문제 수 계산
-        Map<Long, List<UserWrongNote>> levelMap = wrongNotes.stream()
-                .collect(Collectors.groupingBy(
-                        note -> note.getQuestion().getQuiz().getLevel().getId()
-                ));
-        
-        return levelMap.entrySet().stream()
-                .map(entry -> {
-                    Long levelId = entry.getKey();
-                    List<UserWrongNote> levelNotes = entry.getValue();
-                    
-                    // 첫 번째 요소에서 레벨 정보 추출
-                    UserWrongNote firstNote = levelNotes.get(0);
-                    
-                    return WrongNoteDto.LevelStatistics.builder()
-                            .levelId(levelId)
-                            .levelNumber(firstNote.getQuestion().getQuiz().getLevel().getLevelNumber())
-                            .levelTitle(firstNote.getQuestion().getQuiz().getLevel().getTitle())
-                            .subsectorName(firstNote.getQuestion().getQuiz().getLevel().getSubsector().getName())
-                            .wrongCount((long) levelNotes.size())
-                            .build();
-                })
+        return toLevelStatistics(getCounts(userId));
+    }
+
+    /**
+     * 레벨별 오답 노트 수 (캐시, 없으면 GROUP BY 한 번으로 계산)
+     */
+    private WrongNoteCounts getCounts(Long userId) {
+        return wrongNoteStatisticsCache.get(userId, this::loadCounts);
+    }
+
+    private WrongNoteCounts loadCounts(Long userId) {
+        Map<Long, WrongNoteCounts.LevelCounts> byLevel = new HashMap<>();
+        for (Object[] row : wrongNoteRepository.countByLevelAndResolved(userId)) {
+            Long levelId = (Long) row[0];
+            boolean resolved = (Boolean) row[1];
+            long count = ((Number) row[2]).longValue();
+            long needReview = ((Number) row[3]).longValue();
+
+            WrongNoteCounts.LevelCounts current = byLevel.getOrDefault(levelId, new WrongNoteCounts.LevelCounts(0, 0, 0));
+            byLevel.put(levelId, new WrongNoteCounts.LevelCounts(
+                    current.resolved() + (resolved ? count : 0),
+                    current.unresolved() + (resolved ? 0 : count),
+                    current.needReview() + needReview));
+        }
+        return new WrongNoteCounts(byLevel);
+    }
+
+    private WrongNoteDto.Statistics toStatistics(WrongNoteCounts counts) {
+        return WrongNoteDto.Statistics.builder()
+                .totalCount(counts.totalCount())
+                .unresolvedCount(counts.unresolvedCount())
+                .resolvedCount(counts.resolvedCount())
+                .needReviewCount(counts.needReviewCount())
+                .build();
+    }
+
+    private List<WrongNoteDto.SubsectorStatistics> toSubsectorStatistics(WrongNoteCounts counts) {
+        // 레벨별 개수를 학습 카탈로그의 소속 서브섹터로 합산
+        Map<Long, Long> countBySubsector = new HashMap<>();
+        counts.byLevel().forEach((levelId, levelCounts) -> learningCatalog.findLevel(levelId)
+                .ifPresent(level -> countBySubsector.merge(level.subsectorId(), levelCounts.total(), Long::sum)));
+
+        return countBySubsector.entrySet().stream()
+                .map(entry -> WrongNoteDto.SubsectorStatistics.builder()
+                        .subsectorId(entry.getKey())
+                        .subsectorName(learningCatalog.findSubsector(entry.getKey())
+                                .map(LearningCatalog.SubsectorNode::name).orElse(null))
+                        .wrongCount(entry.getValue())
+                        .build())
+                .sorted(Comparator.comparing(WrongNoteDto.SubsectorStatistics::getSubsectorId))
+                .collect(Collectors.toList());
+    }
+
+    private List<WrongNoteDto.LevelStatistics> toLevelStatistics(WrongNoteCounts counts) {
+        return counts.byLevel().entrySet().stream()
+                .flatMap(entry -> learningCatalog.findLevel(entry.getKey()).stream()
+                        .map(level -> WrongNoteDto.LevelStatistics.builder()
+                                .levelId(level.id())
+                                .levelNumber(level.levelNumber())
+                                .levelTitle(level.title())
+                                .subsectorName(learningCatalog.findSubsector(level.subsectorId())
+                                        .map(LearningCatalog.SubsectorNode::name).orElse(null))
+                                .wrongCount(entry.getValue().total())
+                                .build()))
                 .sorted(Comparator.comparing(WrongNoteDto.LevelStatistics::getLevelId))
                 .collect(Collectors.toList());
     }
 
     /**
-     * UserWrongNote 엔티티를 DTO로 변환
+     * 오답 노트 변경을 레벨별 증감으로 발행 (커밋 이후 통계 캐시에 반영)
+     * 문제의 레벨을 카탈로그에서 찾지 못하면 사용자 통계를 무효화합니다.
      */
-    private WrongNoteDto.Response convertToDto(UserWrongNote wrongNote) {
-        Question question = wrongNote.getQuestion();
-        
-        // 모든 선택지 정보
-        List<WrongNoteDto.OptionInfo> allOptions = question.getOptions().stream()
-                .map(option -> WrongNoteDto.OptionInfo.builder()
-                        .id(option.getId())
-                        .text(option.getContentMd())
-                        .isCorrect(option.isCorrect())
-                        .build())
+    private void publishWrongNoteChanges(Long userId, Map<Long, WrongNotesChangedEvent.LevelDelta> deltasByQuestion) {
+        if (deltasByQuestion.isEmpty()) {
+            return;
+        }
+        Map<Long, WrongNotesChangedEvent.LevelDelta> deltasByLevel = new HashMap<>();
+        for (Map.Entry<Long, WrongNotesChangedEvent.LevelDelta> entry : deltasByQuestion.entrySet()) {
+            Long levelId = findLevelIdOfQuestion(entry.getKey());
+            if (levelId == null) {
+                eventPublisher.publishEvent(new WrongNotesChangedEvent(userId, null));
+                return;
+            }
+            deltasByLevel.merge(levelId, entry.getValue(), WrongNotesChangedEvent.LevelDelta::plus);
+        }
+        eventPublisher.publishEvent(new WrongNotesChangedEvent(userId, deltasByLevel));
+    }
+
+    private void publishWrongNoteChange(Long userId, Long questionId, int resolvedDelta, int unresolvedDelta) {
+        publishWrongNoteChanges(userId, Map.of(questionId, new WrongNotesChangedEvent.LevelDelta(resolvedDelta, unresolvedDelta)));
+    }
+
+    private Long findLevelIdOfQuestion(Long questionId) {
+        try {
+            return learningCatalog.findQuiz(answerKeyIndex.getQuestion(questionId).quizId())
+                    .map(LearningCatalog.QuizNode::levelId)
+                    .orElse(null);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 오답 노트 한 건의 응답 (노트 한 문장 + 선택지 한 문장)
+     */
+    private WrongNoteDto.Response loadResponse(Long noteId) {
+        List<Object[]> rows = wrongNoteRepository.findResponseRowById(noteId);
+        if (rows.isEmpty()) {
+            throw new RuntimeException("오답 노트를 찾을 수 없습니다: " + noteId);
+        }
+        return toResponses(rows).get(0);
+    }
+
+    /**
+     * 응답 컬럼 행을 DTO로 변환
+     * 선택지는 행들의 문제에 대해 한 번에 조회하고, 섹터/서브섹터 이름은 학습 카탈로그에서 채웁니다.
+     */
+    private List<WrongNoteDto.Response> toResponses(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> questionIds = rows.stream().map(row -> (Long) row[2]).collect(Collectors.toSet());
+        Map<Long, List<WrongNoteDto.OptionInfo>> optionsByQuestion = new HashMap<>();
+        for (Object[] row : questionOptionRepository.findOptionRowsByQuestionIds(questionIds)) {
+            optionsByQuestion.computeIfAbsent((Long) row[0], id -> new ArrayList<>())
+                    .add(WrongNoteDto.OptionInfo.builder()
+                            .id((Long) row[1])
+                            .text((String) row[2])
+                            .isCorrect((Boolean) row[3])
+                            .build());
+        }
+
+        return rows.stream()
+                .map(row -> toResponse(row, optionsByQuestion.getOrDefault((Long) row[2], List.of())))
                 .collect(Collectors.toList());
+    }
+
+    private WrongNoteDto.Response toResponse(Object[] row, List<WrongNoteDto.OptionInfo> allOptions) {
+        Optional<LearningCatalog.SubsectorNode> subsector = learningCatalog.findQuiz((Long) row[4])
+                .flatMap(quiz -> learningCatalog.findLevel(quiz.levelId()))
+                .flatMap(level -> learningCatalog.findSubsector(level.subsectorId()));
 
         return WrongNoteDto.Response.builder()
-                .id(wrongNote.getId())
-                .userId(wrongNote.getUser().getId())
-                .questionId(question.getId())
-                .questionText(question.getStemMd())
-                .lastAnswerOptionId(wrongNote.getLastAnswerOption() != null ? wrongNote.getLastAnswerOption().getId() : null)
-                .lastAnswerText(wrongNote.getLastAnswerOption() != null ? wrongNote.getLastAnswerOption().getContentMd() : null)
-                .correctOptionId(wrongNote.getCorrectOption().getId())
-                .correctAnswerText(wrongNote.getCorrectOption().getContentMd())
-                .timesWrong(wrongNote.getTimesWrong())
-                .firstWrongAt(wrongNote.getFirstWrongAt())
-                .lastWrongAt(wrongNote.getLastWrongAt())
-                .reviewedAt(wrongNote.getReviewedAt())
-                .resolved(wrongNote.getResolved())
-                .personalNoteMd(wrongNote.getPersonalNoteMd())
-                .snapshotTeachingSummaryMd(wrongNote.getSnapshotTeachingSummaryMd())
-                .snapshotTeachingExplainerMd(wrongNote.getSnapshotTeachingExplainerMd())
-                .snapshotKeypointsMd(wrongNote.getSnapshotKeypointsMd())
-                .createdAt(wrongNote.getCreatedAt())
-                .updatedAt(wrongNote.getUpdatedAt())
-                .quizTitle(question.getQuiz() != null ? question.getQuiz().getTitle() : null)
+                .id((Long) row[0])
+                .userId((Long) row[1])
+                .questionId((Long) row[2])
+                .questionText((String) row[3])
+                .quizTitle((String) row[5])
+                .lastAnswerOptionId((Long) row[6])
+                .lastAnswerText((String) row[7])
+                .correctOptionId((Long) row[8])
+                .correctAnswerText((String) row[9])
+                .timesWrong((Integer) row[10])
+                .firstWrongAt((LocalDateTime) row[11])
+                .lastWrongAt((LocalDateTime) row[12])
+                .reviewedAt((LocalDateTime) row[13])
+                .resolved((Boolean) row[14])
+                .personalNoteMd((String) row[15])
+                .snapshotTeachingSummaryMd((String) row[16])
+                .snapshotTeachingExplainerMd((String) row[17])
+                .snapshotKeypointsMd((String) row[18])
+                .createdAt((LocalDateTime) row[19])
+                .updatedAt((LocalDateTime) row[20])
+                .dueAt((LocalDateTime) row[21])
+                .intervalDays((Integer) row[22])
+                .easeFactor((Double) row[23])
+                .repetitions((Integer) row[24])
+                .subsectorName(subsector.map(LearningCatalog.SubsectorNode::name).orElse(null))
+                .sectorName(subsector.flatMap(node -> learningCatalog.findSector(node.sectorId()))
+                        .map(LearningCatalog.SectorNode::name).orElse(null))
                 .allOptions(allOptions)
                 .build();
     }
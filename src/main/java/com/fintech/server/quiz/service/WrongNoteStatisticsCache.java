@@ -0,0 +1,40 @@
+package com.fintech.server.quiz.service;
+
+import com.fintech.server.quiz.event.WrongNotesChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.function.Function;
+
+/**
+ * 사용자별 오답 노트 통계 캐시
+ * - 최근 사용자 기준으로 메모리에 보관
+ * - 오답 노트 변경이 커밋되면 캐시된 값에 레벨별 증감만 반영하고, 범위를 모르는 변경이면 해당 사용자만 무효화
+ */
+@Component
+public class WrongNoteStatisticsCache {
+
+    private final PerUserCache<WrongNoteCounts> cache;
+
+    public WrongNoteStatisticsCache(@Value("${quiz.wrong-note-stats-cache.max-users:10000}") int maxUsers) {
+        this.cache = new PerUserCache<>(maxUsers);
+    }
+
+    /**
+     * 캐시된 통계 조회 (없으면 loader로 계산해 보관)
+     */
+    public WrongNoteCounts get(Long userId, Function<Long, WrongNoteCounts> loader) {
+        return cache.get(userId, () -> loader.apply(userId));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onWrongNotesChanged(WrongNotesChangedEvent event) {
+        if (event.deltasByLevel() == null) {
+            cache.invalidate(event.userId());
+            return;
+        }
+        cache.update(event.userId(), counts -> counts.plus(event.deltasByLevel()));
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,4 +24,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     @Query("SELECT u FROM User u WHERE u.isGuest = true AND u.createdAt < :expiredTime")
     List<User> findExpiredGuestUsers(@Param("expiredTime") LocalDateTime expiredTime);
+    
+    /**
+     * 사용자 ID 목록의 닉네임 (userId, nickname) - 엔티티를 읽지 않고 두 컬럼만 조회
+     */
+    @Query("SELECT u.id, u.nickname FROM User u WHERE u.id IN :userIds")
+    List<Object[]> findNicknamesByIds(@Param("userIds") Collection<Long> userIds);
 }
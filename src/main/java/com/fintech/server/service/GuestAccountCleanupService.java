@@ -3,15 +3,23 @@ package com.fintech.server.service;
 import com.fintech.server.entity.Account;
 import com.fintech.server.repository.AccountRepository;
 import com.fintech.server.repository.UserRepository;
+import com.fintech.server.quiz.event.WrongNotesChangedEvent;
+import com.fintech.server.quiz.repository.UserAnswerHistoryRepository;
 import com.fintech.server.quiz.repository.UserAnswerRepository;
 import com.fintech.server.quiz.repository.UserDailyActivityRepository;
+import com.fintech.server.quiz.repository.UserDashboardRepository;
+import com.fintech.server.quiz.repository.UserLearningStatsRepository;
+import com.fintech.server.quiz.repository.UserLevelCompletionRepository;
+import com.fintech.server.quiz.repository.UserLevelRollupRepository;
 import com.fintech.server.quiz.repository.UserProgressRepository;
 import com.fintech.server.quiz.repository.UserWrongNoteRepository;
 import com.fintech.server.community.repository.CommunityPostRepository;
 import com.fintech.server.community.repository.CommentRepository;
 import com.fintech.server.quiz.repository.UserBadgeRepository;
+import com.fintech.server.quiz.service.LeaderboardService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,12 +35,19 @@ public class GuestAccountCleanupService {
     private final AccountRepository accountRepository;
     private final UserRepository userRepository;
     private final UserAnswerRepository userAnswerRepository;
+    private final UserAnswerHistoryRepository userAnswerHistoryRepository;
     private final UserDailyActivityRepository userDailyActivityRepository;
     private final UserWrongNoteRepository userWrongNoteRepository;
     private final UserProgressRepository userProgressRepository;
     private final CommunityPostRepository communityPostRepository;
     private final CommentRepository commentRepository;
     private final UserBadgeRepository userBadgeRepository;
+    private final UserLearningStatsRepository userLearningStatsRepository;
+    private final UserDashboardRepository userDashboardRepository;
+    private final UserLevelCompletionRepository userLevelCompletionRepository;
+    private final UserLevelRollupRepository userLevelRollupRepository;
+    private final LeaderboardService leaderboardService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 만료된 게스트 계정 정리 (매 24시간마다 실행)
@@ -59,10 +74,15 @@ public class GuestAccountCleanupService {
                 try {
                     // 관련 데이터 삭제 (외래키 순서대로)
                     userAnswerRepository.deleteByUserId(userId);
+                    userAnswerHistoryRepository.deleteByUserId(userId); // 답변 이력 삭제
                     userDailyActivityRepository.deleteByIdUserId(userId);
                     userProgressRepository.deleteByUserId(userId);
                     userWrongNoteRepository.deleteByUserId(userId);
                     userBadgeRepository.deleteByUser_Id(userId); // 배지 삭제 추가
+                    userLearningStatsRepository.deleteByUserId(userId); // 학습 집계 삭제
+                    userDashboardRepository.deleteByUserId(userId); // 대시보드 읽기 모델 삭제
+                    userLevelCompletionRepository.deleteByUserId(userId); // 레벨 완료 기록 삭제
+                    userLevelRollupRepository.deleteByUserId(userId); // 레벨 완료 집계 삭제
                     
                     // 커뮤니티 관련 데이터 삭제 (댓글 먼저, 게시글 나중에)
                     commentRepository.deleteByAuthorId(userId);
@@ -73,6 +93,8 @@ public class GuestAccountCleanupService {
                     
                     // 사용자 삭제
                     userRepository.deleteById(userId);
+                    leaderboardService.removeUser(userId); // 메모리 순위표에서 제거
+                    eventPublisher.publishEvent(new WrongNotesChangedEvent(userId, null)); // 커밋 후 오답 노트 통계 캐시 제거
                     
                     log.info("게스트 계정 삭제 완료: userId={}, email={}", 
                             userId, account.getEmail());
@@ -104,10 +126,15 @@ public class GuestAccountCleanupService {
             
             // 관련 데이터 삭제
             userAnswerRepository.deleteByUserId(userId);
+            userAnswerHistoryRepository.deleteByUserId(userId); // 답변 이력 삭제
             userDailyActivityRepository.deleteByIdUserId(userId);
             userProgressRepository.deleteByUserId(userId);
             userWrongNoteRepository.deleteByUserId(userId);
             userBadgeRepository.deleteByUser_Id(userId); // 배지 삭제 추가
+            userLearningStatsRepository.deleteByUserId(userId); // 학습 집계 삭제
+            userDashboardRepository.deleteByUserId(userId); // 대시보드 읽기 모델 삭제
+            userLevelCompletionRepository.deleteByUserId(userId); // 레벨 완료 기록 삭제
+            userLevelRollupRepository.deleteByUserId(userId); // 레벨 완료 집계 삭제
             
             // 커뮤니티 관련 데이터 삭제 (댓글 먼저, 게시글 나중에)
             commentRepository.deleteByAuthorId(userId);
@@ -116,6 +143,8 @@ public class GuestAccountCleanupService {
             // 계정 및 사용자 삭제
             accountRepository.delete(account);
             userRepository.deleteById(userId);
+            leaderboardService.removeUser(userId); // 메모리 순위표에서 제거
+            eventPublisher.publishEvent(new WrongNotesChangedEvent(userId, null)); // 커밋 후 오답 노트 통계 캐시 제거
         }
         
         return expiredAccounts.size();
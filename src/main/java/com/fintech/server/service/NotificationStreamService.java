@@ -0,0 +1,323 @@
+package com.fintech.server.service;
+
+import com.fintech.server.community.event.CommentCreatedEvent;
+import com.fintech.server.community.event.PostLikedEvent;
+import com.fintech.server.quiz.event.BadgeUpgradedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실시간 알림 스트림 (SSE)
+ * - 사용자별 연결 목록을 보관하고, 배지 승급/좋아요/댓글 이벤트가 커밋되면 해당 사용자의 연결로 전달
+ * - 이벤트 리스너는 연결별 버퍼에 넣기만 하고, 실제 전송은 전송 스레드가 수행 (느린 클라이언트가 요청 스레드를 막지 않음)
+ * - 연결별 버퍼가 가득 차면 가장 오래된 알림부터 버림
+ * - 전송 스레드는 한 연결에서 정해진 건수만 보내고 다음 연결에 양보하며, 한 건 전송이 제한 시간을 넘긴 연결은 닫음
+ *   (느린 클라이언트 몇 개가 전송 스레드를 모두 잡아 다른 사용자의 알림이 멈추지 않도록)
+ * - 주기적으로 heartbeat 주석을 보내 프록시 유휴 타임아웃을 막고 끊어진 연결을 정리
+ */
+@Service
+@Slf4j
+public class NotificationStreamService {
+
+    private final long timeoutMs;
+    private final int bufferSize;
+    private final int maxConnectionsPerUser;
+    private final int eventsPerDrain;
+    private final long sendTimeoutNanos;
+    private final ExecutorService sender;
+
+    private final ConcurrentHashMap<Long, List<Connection>> connections = new ConcurrentHashMap<>();
+    private final AtomicLong eventIds = new AtomicLong();
+
+    private static final Notification HEARTBEAT = new Notification(null, null, null, "heartbeat");
+
+    public NotificationStreamService(@Value("${quiz.events-stream.timeout-ms:1800000}") long timeoutMs,
+                                     @Value("${quiz.events-stream.buffer-size:100}") int bufferSize,
+                                     @Value("${quiz.events-stream.max-connections-per-user:3}") int maxConnectionsPerUser,
+                                     @Value("${quiz.events-stream.sender-threads:8}") int senderThreads,
+                                     @Value("${quiz.events-stream.events-per-drain:20}") int eventsPerDrain,
+                                     @Value("${quiz.events-stream.send-timeout-ms:5000}") long sendTimeoutMs) {
+        this.timeoutMs = timeoutMs;
+        this.bufferSize = bufferSize;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.eventsPerDrain = eventsPerDrain;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "sse-sender-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 사용자 연결 등록 (최대 연결 수를 넘으면 가장 오래된 연결을 닫음)
+     */
+    public SseEmitter connect(Long userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Connection connection = new Connection(userId, emitter);
+
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(e -> remove(connection));
+
+        // 목록 생성과 추가를 한 번의 compute로 처리 (remove가 빈 목록을 지운 직후 그 목록에 추가되지 않도록)
+        List<Connection> evicted = new ArrayList<>();
+        List<Connection> userConnections = connections.compute(userId, (id, current) -> {
+            List<Connection> updated = current != null ? current : new CopyOnWriteArrayList<>();
+            updated.add(connection);
+            while (updated.size() > maxConnectionsPerUser) {
+                evicted.add(updated.remove(0));
+            }
+            return updated;
+        });
+        // complete()는 onCompletion → remove(compute)를 부르므로 compute 밖에서 닫음
+        evicted.forEach(oldest -> oldest.emitter.complete());
+        log.info("SSE 연결: userId={}, connections={}", userId, userConnections.size());
+
+        // 연결 직후 한 건을 보내 프록시 버퍼를 비우고 클라이언트가 연결 성공을 알 수 있게 함
+        enqueue(connection, event("connected", Map.of("userId", userId)));
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBadgeUpgraded(BadgeUpgradedEvent event) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("badgeId", event.badgeId());
+        data.put("badgeCode", event.badgeCode());
+        data.put("badgeName", event.badgeName());
+        data.put("levelNumber", event.levelNumber());
+        data.put("occurredAt", event.occurredAt().toString());
+        send(event.userId(), event("badge-upgraded", data));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostLiked(PostLikedEvent event) {
+        // 자기 게시글에 누른 좋아요는 알리지 않음
+        if (event.postAuthorId().equals(event.likerId())) {
+            return;
+        }
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("postId", event.postId());
+        data.put("likerId", event.likerId());
+        data.put("likeCount", event.likeCount());
+        data.put("occurredAt", event.occurredAt().toString());
+        send(event.postAuthorId(), event("post-liked", data));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentCreated(CommentCreatedEvent event) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("postId", event.postId());
+        data.put("commentId", event.commentId());
+        data.put("commenterId", event.commenterId());
+        data.put("reply", event.parentCommentAuthorId() != null);
+        data.put("body", event.body());
+        data.put("occurredAt", event.occurredAt().toString());
+
+        // 게시글 작성자와 부모 댓글 작성자에게 한 번씩 (작성자 본인 제외)
+        Set<Long> recipients = new LinkedHashSet<>();
+        recipients.add(event.postAuthorId());
+        if (event.parentCommentAuthorId() != null) {
+            recipients.add(event.parentCommentAuthorId());
+        }
+        recipients.remove(event.commenterId());
+        Notification notification = event("comment-created", data);
+        for (Long recipient : recipients) {
+            send(recipient, notification);
+        }
+    }
+
+    /**
+     * 모든 연결에 heartbeat 주석 전송 (버퍼에 밀린 알림이 있는 연결은 건너뜀)
+     */
+    @Scheduled(fixedDelayString = "${quiz.events-stream.heartbeat-interval-ms:25000}")
+    public void sendHeartbeats() {
+        for (List<Connection> userConnections : connections.values()) {
+            for (Connection connection : userConnections) {
+                if (connection.isIdle()) {
+                    enqueue(connection, HEARTBEAT);
+                }
+            }
+        }
+    }
+
+    /**
+     * 한 건 전송이 제한 시간(send-timeout-ms)을 넘긴 연결을 닫음
+     * 목록에서 바로 빼서 새 알림이 쌓이지 않게 하고, 막혀 있던 쓰기는 연결이 닫히면서 실패로 끝남
+     */
+    @Scheduled(fixedDelayString = "${quiz.events-stream.send-check-interval-ms:1000}")
+    public void closeStalledConnections() {
+        long now = System.nanoTime();
+        for (List<Connection> userConnections : connections.values()) {
+            for (Connection connection : userConnections) {
+                long startedAt = connection.sendStartedAt;
+                if (startedAt != 0 && now - startedAt > sendTimeoutNanos) {
+                    log.warn("SSE 전송 지연으로 연결 종료: userId={}", connection.userId);
+                    remove(connection);
+                    connection.emitter.completeWithError(new IOException("SSE send timed out"));
+                }
+            }
+        }
+    }
+
+    /**
+     * 현재 연결 수 (모니터링용)
+     */
+    public int getConnectionCount() {
+        return connections.values().stream().mapToInt(List::size).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connections.values().forEach(userConnections -> userConnections.forEach(c -> c.emitter.complete()));
+        connections.clear();
+        sender.shutdownNow();
+    }
+
+    private void send(Long userId, Notification notification) {
+        List<Connection> userConnections = connections.get(userId);
+        if (userConnections == null) {
+            return;
+        }
+        for (Connection connection : userConnections) {
+            enqueue(connection, notification);
+        }
+    }
+
+    private void enqueue(Connection connection, Notification notification) {
+        if (connection.offer(notification)) {
+            log.warn("SSE 버퍼 초과로 오래된 알림 삭제: userId={}", connection.userId);
+        }
+        if (connection.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(connection));
+        }
+    }
+
+    /**
+     * 연결 버퍼를 비울 때까지 전송 (연결당 한 스레드만 전송하도록 draining 플래그로 직렬화)
+     * eventsPerDrain건을 보내고도 남아 있으면 작업 큐 뒤로 다시 넣어 다른 연결에 양보 (draining 플래그는 유지)
+     */
+    private void drain(Connection connection) {
+        int sent = 0;
+        while (true) {
+            if (sent >= eventsPerDrain) {
+                sender.execute(() -> drain(connection));
+                return;
+            }
+            Notification next = connection.poll();
+            if (next == null) {
+                connection.draining.set(false);
+                // 플래그를 내리는 사이에 들어온 알림이 있으면 이어서 전송
+                if (connection.isIdle() || !connection.draining.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            connection.sendStartedAt = System.nanoTime();
+            try {
+                // SseEventBuilder는 build() 시 내부 상태가 바뀌므로 연결마다 전송 직전에 새로 만듦
+                connection.emitter.send(next.toSseEvent());
+                sent++;
+            } catch (IOException | IllegalStateException e) {
+                log.debug("SSE 전송 실패, 연결 종료: userId={}, error={}", connection.userId, e.getMessage());
+                remove(connection);
+                connection.emitter.completeWithError(e);
+                connection.draining.set(false);
+                return;
+            } finally {
+                connection.sendStartedAt = 0;
+            }
+        }
+    }
+
+    private void remove(Connection connection) {
+        connections.computeIfPresent(connection.userId, (userId, userConnections) -> {
+            userConnections.remove(connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+        connection.clear();
+    }
+
+    private Notification event(String name, Object data) {
+        return new Notification(name, String.valueOf(eventIds.incrementAndGet()), data, null);
+    }
+
+    /**
+     * 버퍼에 넣는 알림 (여러 연결이 공유하므로 불변)
+     * comment가 있으면 heartbeat 주석
+     */
+    private record Notification(String name, String id, Object data, String comment) {
+        SseEmitter.SseEventBuilder toSseEvent() {
+            if (comment != null) {
+                return SseEmitter.event().comment(comment);
+            }
+            return SseEmitter.event().id(id).name(name).data(data);
+        }
+    }
+
+    /**
+     * 사용자 연결 하나와 전송 대기 버퍼
+     */
+    private final class Connection {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final ArrayDeque<Notification> buffer = new ArrayDeque<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // 진행 중인 전송의 시작 시각 (System.nanoTime, 전송 중이 아니면 0)
+        private volatile long sendStartedAt;
+
+        private Connection(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        /**
+         * @return 버퍼가 가득 차서 가장 오래된 알림을 버렸으면 true
+         */
+        private synchronized boolean offer(Notification notification) {
+            boolean dropped = false;
+            if (buffer.size() >= bufferSize) {
+                buffer.pollFirst();
+                dropped = true;
+            }
+            buffer.addLast(notification);
+            return dropped;
+        }
+
+        private synchronized Notification poll() {
+            return buffer.pollFirst();
+        }
+
+        private synchronized boolean isIdle() {
+            return buffer.isEmpty();
+        }
+
+        private synchronized void clear() {
+            buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.fintech.server.quiz.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class UserWrongNoteTests {
+
+	@Test
+	void successfulReviewsGrowIntervalFromOneToSixThenByEaseFactor() {
+		UserWrongNote note = new UserWrongNote();
+
+		reviewAndAssertDue(note, 4, 1);
+		assertThat(note.getRepetitions()).isEqualTo(1);
+
+		reviewAndAssertDue(note, 4, 6);
+		assertThat(note.getRepetitions()).isEqualTo(2);
+
+		// quality 4는 난이도 계수를 바꾸지 않음 → 6 × 2.5
+		reviewAndAssertDue(note, 4, 15);
+		assertThat(note.getEaseFactor()).isCloseTo(UserWrongNote.DEFAULT_EASE_FACTOR, within(1e-9));
+
+		// 간격은 이전 난이도 계수로 계산한 뒤 계수를 갱신 → round(15 × 2.5), quality 5는 계수 +0.1
+		reviewAndAssertDue(note, 5, 38);
+		assertThat(note.getEaseFactor()).isCloseTo(2.6, within(1e-9));
+		assertThat(note.getRepetitions()).isEqualTo(4);
+	}
+
+	@Test
+	void failedReviewRestartsFromOneDay() {
+		UserWrongNote note = new UserWrongNote();
+		note.markAsReviewed(5);
+		note.markAsReviewed(5);
+
+		reviewAndAssertDue(note, 2, 1);
+		assertThat(note.getRepetitions()).isZero();
+		assertThat(note.getEaseFactor()).isCloseTo(2.7 - 0.32, within(1e-9));
+	}
+
+	@Test
+	void easeFactorNeverDropsBelowFloor() {
+		UserWrongNote note = new UserWrongNote();
+		for (int i = 0; i < 5; i++) {
+			note.markAsReviewed(0);
+		}
+		assertThat(note.getEaseFactor()).isEqualTo(UserWrongNote.MIN_EASE_FACTOR);
+
+		note.scheduleImmediateReview();
+		assertThat(note.getEaseFactor()).isEqualTo(UserWrongNote.MIN_EASE_FACTOR);
+	}
+
+	@Test
+	void wrongAgainAfterReviewResetsScheduleAndAppliesPenalty() {
+		UserWrongNote note = new UserWrongNote();
+		note.markAsReviewed(4);
+		note.markAsReviewed(4);
+		double easeBefore = note.getEaseFactor();
+
+		LocalDateTime before = LocalDateTime.now();
+		note.scheduleImmediateReview();
+		LocalDateTime after = LocalDateTime.now();
+
+		assertThat(note.getEaseFactor())
+				.isCloseTo(easeBefore - UserWrongNote.WRONG_ANSWER_EASE_PENALTY, within(1e-9));
+		assertThat(UserWrongNote.WRONG_ANSWER_EASE_PENALTY).isCloseTo(0.54, within(1e-9));
+		assertThat(note.getRepetitions()).isZero();
+		assertThat(note.getIntervalDays()).isZero();
+		assertThat(note.getDueAt()).isBetween(before, after);
+	}
+
+	@Test
+	void newNoteIsDueImmediatelyWithoutPenalty() {
+		UserWrongNote note = new UserWrongNote();
+
+		note.scheduleImmediateReview();
+
+		assertThat(note.getEaseFactor()).isEqualTo(UserWrongNote.DEFAULT_EASE_FACTOR);
+		assertThat(note.getDueAt()).isNotNull();
+	}
+
+	@Test
+	void resolvedNoteOnlyRecordsReviewTime() {
+		UserWrongNote note = new UserWrongNote();
+		note.markAsReviewed(4);
+		note.markAsResolved();
+
+		note.markAsReviewed(5);
+
+		assertThat(note.getDueAt()).isNull();
+		assertThat(note.getReviewedAt()).isNotNull();
+		assertThat(note.getIntervalDays()).isEqualTo(1);
+		assertThat(note.getRepetitions()).isEqualTo(1);
+		assertThat(note.getEaseFactor()).isEqualTo(UserWrongNote.DEFAULT_EASE_FACTOR);
+	}
+
+	@Test
+	void rejectsQualityOutsideRange() {
+		UserWrongNote note = new UserWrongNote();
+
+		assertThatThrownBy(() -> note.markAsReviewed(6)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> note.markAsReviewed(-1)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private void reviewAndAssertDue(UserWrongNote note, int quality, int expectedIntervalDays) {
+		LocalDateTime before = LocalDateTime.now();
+		note.markAsReviewed(quality);
+		LocalDateTime after = LocalDateTime.now();
+
+		assertThat(note.getIntervalDays()).isEqualTo(expectedIntervalDays);
+		assertThat(note.getDueAt()).isBetween(before.plusDays(expectedIntervalDays), after.plusDays(expectedIntervalDays));
+	}
+}
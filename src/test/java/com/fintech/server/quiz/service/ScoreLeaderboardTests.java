@@ -0,0 +1,116 @@
+package com.fintech.server.quiz.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScoreLeaderboardTests {
+
+	private static final Comparator<Map.Entry<Long, Integer>> ORDER =
+			Map.Entry.<Long, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey());
+
+	@Test
+	void matchesSortedListUnderRandomUpdatesAndRemoves() {
+		Random random = new Random(20240917L);
+		ScoreLeaderboard board = new ScoreLeaderboard();
+		Map<Long, Integer> expected = new HashMap<>();
+
+		for (int step = 0; step < 5000; step++) {
+			long userId = random.nextInt(300) + 1;
+			int action = random.nextInt(10);
+			if (action == 0) {
+				board.remove(userId);
+				expected.remove(userId);
+			} else {
+				// 0 이하 점수(제거), 동점이 많은 작은 점수, 트리 확장이 필요한 큰 점수를 섞어서 반영
+				int score = action == 1 ? -random.nextInt(3)
+						: action < 7 ? random.nextInt(20)
+						: random.nextInt(5000);
+				board.update(userId, score);
+				if (score > 0) {
+					expected.put(userId, score);
+				} else {
+					expected.remove(userId);
+				}
+			}
+
+			if (step % 50 == 0) {
+				assertMatches(board, expected, random);
+			}
+		}
+		assertMatches(board, expected, random);
+	}
+
+	@Test
+	void tiedScoresShareRankAndKeepUserIdOrder() {
+		ScoreLeaderboard board = new ScoreLeaderboard();
+		board.update(3L, 50);
+		board.update(1L, 50);
+		board.update(2L, 80);
+		board.update(4L, 10);
+
+		assertThat(board.top(4)).extracting(ScoreLeaderboard.Entry::userId).containsExactly(2L, 1L, 3L, 4L);
+		assertThat(board.top(4)).extracting(ScoreLeaderboard.Entry::rank).containsExactly(1, 2, 2, 4);
+		assertThat(board.find(3L).position()).isEqualTo(2);
+	}
+
+	@Test
+	void nonPositiveScoreRemovesUser() {
+		ScoreLeaderboard board = new ScoreLeaderboard();
+		board.update(1L, 30);
+		board.update(1L, 0);
+
+		assertThat(board.find(1L)).isNull();
+		assertThat(board.size()).isZero();
+		assertThat(board.around(1L, 3)).isEmpty();
+	}
+
+	private void assertMatches(ScoreLeaderboard board, Map<Long, Integer> expected, Random random) {
+		List<Map.Entry<Long, Integer>> sorted = new ArrayList<>(expected.entrySet());
+		sorted.sort(ORDER);
+		List<ScoreLeaderboard.Entry> reference = new ArrayList<>(sorted.size());
+		for (int position = 0; position < sorted.size(); position++) {
+			Map.Entry<Long, Integer> entry = sorted.get(position);
+			reference.add(new ScoreLeaderboard.Entry(entry.getKey(), entry.getValue(),
+					rankOf(sorted, entry.getValue()), position));
+		}
+
+		assertThat(board.size()).isEqualTo(reference.size());
+
+		// 전체 순서와 각 위치의 점수/순위
+		assertThat(board.top(reference.size() + 10)).isEqualTo(reference);
+
+		// 사용자별 순위
+		for (ScoreLeaderboard.Entry entry : reference) {
+			assertThat(board.find(entry.userId())).isEqualTo(entry);
+		}
+
+		// 임의 구간 (상위 N명, 주변 순위)
+		int limit = random.nextInt(reference.size() + 2);
+		assertThat(board.top(limit)).isEqualTo(reference.subList(0, Math.min(limit, reference.size())));
+		if (!reference.isEmpty()) {
+			ScoreLeaderboard.Entry me = reference.get(random.nextInt(reference.size()));
+			int radius = random.nextInt(6);
+			int from = Math.max(0, me.position() - radius);
+			int to = Math.min(reference.size(), me.position() + radius + 1);
+			assertThat(board.around(me.userId(), radius)).isEqualTo(reference.subList(from, to));
+		}
+	}
+
+	private int rankOf(List<Map.Entry<Long, Integer>> sorted, int score) {
+		int higher = 0;
+		for (Map.Entry<Long, Integer> entry : sorted) {
+			if (entry.getValue() > score) {
+				higher++;
+			}
+		}
+		return higher + 1;
+	}
+}